@@ -253,6 +253,16 @@ public class BaseGrid {
 		getStyle().setWidth(width);
 	}
 
+	/**
+	 * Get the interned immutable render style of the grid line color and
+	 * width
+	 * 
+	 * @return render style
+	 */
+	public RenderStyle getRenderStyle() {
+		return getStyle().getRenderStyle();
+	}
+
 	/**
 	 * Get the grid labeler
 	 * 
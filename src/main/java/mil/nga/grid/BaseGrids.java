@@ -1,12 +1,20 @@
 package mil.nga.grid;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.TreeMap;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import mil.nga.color.Color;
 import mil.nga.grid.property.GridProperties;
-import mil.nga.grid.property.PropertyConstants;
+import mil.nga.grid.property.GridSettings;
 
 /**
  * Grids
@@ -25,9 +33,25 @@ public abstract class BaseGrids<TGrid extends BaseGrid, TZoomGrids extends BaseZ
 	protected final GridProperties properties;
 
 	/**
-	 * Map between zoom levels and grids
+	 * Current configuration epoch, null until the zoom grids are created,
+	 * replaced by writers holding the grids lock
 	 */
-	private TreeMap<Integer, TZoomGrids> zoomGrids = new TreeMap<>();
+	private volatile Epoch epoch;
+
+	/**
+	 * Grids change listeners
+	 */
+	private final List<GridsListener<TGrid>> listeners = new CopyOnWriteArrayList<>();
+
+	/**
+	 * Change events of published versions pending delivery, in version order
+	 */
+	private final Queue<List<GridChangeEvent<TGrid>>> pending = new ConcurrentLinkedQueue<>();
+
+	/**
+	 * Delivering pending change events flag, guarded by the pending queue
+	 */
+	private boolean delivering;
 
 	/**
 	 * Constructor
@@ -77,52 +101,39 @@ public abstract class BaseGrids<TGrid extends BaseGrid, TZoomGrids extends BaseZ
 	protected void loadGrid(TGrid grid, String gridKey, Boolean enabled,
 			Labeler labeler) {
 
+		GridSettings settings = properties.getSnapshot().getGrid(gridKey);
+
 		if (enabled == null) {
-			enabled = properties.getBooleanProperty(false,
-					PropertyConstants.GRIDS, gridKey,
-					PropertyConstants.ENABLED);
+			enabled = settings.getEnabled();
 			if (enabled == null) {
 				enabled = true;
 			}
 		}
 		grid.setEnabled(enabled);
 
-		Integer minZoom = properties.getIntegerProperty(false,
-				PropertyConstants.GRIDS, gridKey, PropertyConstants.MIN_ZOOM);
+		Integer minZoom = settings.getMinZoom();
 		if (minZoom == null) {
 			minZoom = 0;
 		}
 		grid.setMinZoom(minZoom);
 
-		Integer maxZoom = properties.getIntegerProperty(false,
-				PropertyConstants.GRIDS, gridKey, PropertyConstants.MAX_ZOOM);
-		grid.setMaxZoom(maxZoom);
+		grid.setMaxZoom(settings.getMaxZoom());
 
-		Integer linesMinZoom = properties.getIntegerProperty(false,
-				PropertyConstants.GRIDS, gridKey, PropertyConstants.LINES,
-				PropertyConstants.MIN_ZOOM);
-		grid.setLinesMinZoom(linesMinZoom);
+		grid.setLinesMinZoom(settings.getLinesMinZoom());
 
-		Integer linesMaxZoom = properties.getIntegerProperty(false,
-				PropertyConstants.GRIDS, gridKey, PropertyConstants.LINES,
-				PropertyConstants.MAX_ZOOM);
-		grid.setLinesMaxZoom(linesMaxZoom);
+		grid.setLinesMaxZoom(settings.getLinesMaxZoom());
 
-		String colorProperty = properties.getProperty(false,
-				PropertyConstants.GRIDS, gridKey, PropertyConstants.COLOR);
-		Color color = colorProperty != null ? Color.color(colorProperty)
-				: Color.black();
-		grid.setColor(color);
+		Color color = settings.getColor();
+		grid.setColor(color != null ? color : Color.black());
 
-		Double width = properties.getDoubleProperty(false,
-				PropertyConstants.GRIDS, gridKey, PropertyConstants.WIDTH);
+		Double width = settings.getWidth();
 		if (width == null) {
 			width = getDefaultWidth();
 		}
 		grid.setWidth(width);
 
 		if (labeler != null) {
-			loadLabeler(labeler, gridKey);
+			loadLabeler(labeler, settings);
 		}
 		grid.setLabeler(labeler);
 
@@ -133,46 +144,35 @@ public abstract class BaseGrids<TGrid extends BaseGrid, TZoomGrids extends BaseZ
 	 * 
 	 * @param labeler
 	 *            labeler
-	 * @param gridKey
-	 *            grid name key
+	 * @param settings
+	 *            grid settings
 	 */
-	private void loadLabeler(Labeler labeler, String gridKey) {
+	private void loadLabeler(Labeler labeler, GridSettings settings) {
 
-		Boolean enabled = properties.getBooleanProperty(false,
-				PropertyConstants.GRIDS, gridKey, PropertyConstants.LABELER,
-				PropertyConstants.ENABLED);
+		Boolean enabled = settings.getLabelerEnabled();
 		labeler.setEnabled(enabled != null && enabled);
 
-		Integer minZoom = properties.getIntegerProperty(false,
-				PropertyConstants.GRIDS, gridKey, PropertyConstants.LABELER,
-				PropertyConstants.MIN_ZOOM);
+		Integer minZoom = settings.getLabelerMinZoom();
 		if (minZoom != null) {
 			labeler.setMinZoom(minZoom);
 		}
 
-		Integer maxZoom = properties.getIntegerProperty(false,
-				PropertyConstants.GRIDS, gridKey, PropertyConstants.LABELER,
-				PropertyConstants.MAX_ZOOM);
+		Integer maxZoom = settings.getLabelerMaxZoom();
 		if (maxZoom != null) {
 			labeler.setMaxZoom(maxZoom);
 		}
 
-		String color = properties.getProperty(false, PropertyConstants.GRIDS,
-				gridKey, PropertyConstants.LABELER, PropertyConstants.COLOR);
+		Color color = settings.getLabelerColor();
 		if (color != null) {
-			labeler.setColor(Color.color(color));
+			labeler.setColor(color);
 		}
 
-		Double textSize = properties.getDoubleProperty(false,
-				PropertyConstants.GRIDS, gridKey, PropertyConstants.LABELER,
-				PropertyConstants.TEXT_SIZE);
+		Double textSize = settings.getLabelerTextSize();
 		if (textSize != null) {
 			labeler.setTextSize(textSize);
 		}
 
-		Double buffer = properties.getDoubleProperty(false,
-				PropertyConstants.GRIDS, gridKey, PropertyConstants.LABELER,
-				PropertyConstants.BUFFER);
+		Double buffer = settings.getLabelerBuffer();
 		if (buffer != null) {
 			labeler.setBuffer(buffer);
 		}
@@ -189,14 +189,8 @@ public abstract class BaseGrids<TGrid extends BaseGrid, TZoomGrids extends BaseZ
 	 * @return color
 	 */
 	protected Color loadGridStyleColor(String gridKey, String gridKey2) {
-		String colorProperty = properties.getProperty(false,
-				PropertyConstants.GRIDS, gridKey, gridKey2,
-				PropertyConstants.COLOR);
-		Color color = null;
-		if (colorProperty != null) {
-			color = Color.color(colorProperty);
-		}
-		return color;
+		return properties.getSnapshot().getGrid(gridKey)
+				.getStyleColor(gridKey2);
 	}
 
 	/**
@@ -209,8 +203,8 @@ public abstract class BaseGrids<TGrid extends BaseGrid, TZoomGrids extends BaseZ
 	 * @return width
 	 */
 	protected Double loadGridStyleWidth(String gridKey, String gridKey2) {
-		return properties.getDoubleProperty(false, PropertyConstants.GRIDS,
-				gridKey, gridKey2, PropertyConstants.WIDTH);
+		return properties.getSnapshot().getGrid(gridKey)
+				.getStyleWidth(gridKey2);
 	}
 
 	/**
@@ -237,45 +231,345 @@ public abstract class BaseGrids<TGrid extends BaseGrid, TZoomGrids extends BaseZ
 		return GridStyle.style(color, width);
 	}
 
+	/**
+	 * Get an interned render style from the provided color, width, and grid
+	 * 
+	 * @param color
+	 *            color
+	 * @param width
+	 *            width
+	 * @param grid
+	 *            grid
+	 * @return render style
+	 */
+	protected RenderStyle getRenderStyle(Color color, Double width,
+			TGrid grid) {
+		return RenderStyle.style(getGridStyle(color, width, grid));
+	}
+
 	/**
 	 * Create the zoom level grids
 	 */
-	protected void createZoomGrids() {
-		for (int zoom = 0; zoom <= GridConstants.MAX_MAP_ZOOM_LEVEL; zoom++) {
-			createZoomGrids(zoom);
+	protected synchronized void createZoomGrids() {
+		publish(buildZoomGrids(), buildVisibility());
+	}
+
+	/**
+	 * Get the configuration version, incremented each time a grid or labeler
+	 * change is published
+	 * 
+	 * @return version
+	 */
+	public long getVersion() {
+		return current().version;
+	}
+
+	/**
+	 * Begin a transaction staging grid changes to commit as a single version
+	 * 
+	 * @return transaction
+	 */
+	public GridsTransaction<TGrid> transaction() {
+		return new GridsTransaction<>(this);
+	}
+
+	/**
+	 * Apply the changes and publish rebuilt zoom grids as a single new
+	 * version. No version is published when there are no changes. When a
+	 * change throws, the remaining changes are not applied, the grid states
+	 * already changed are published and notified, and the exception is
+	 * rethrown.
+	 * 
+	 * @param changes
+	 *            grid changes
+	 * @return committed version, or the current version if no changes
+	 */
+	long commit(List<Runnable> changes) {
+		long version;
+		RuntimeException failure = null;
+		synchronized (this) {
+			if (!changes.isEmpty()) {
+				List<GridState> states = snapshot(grids());
+				try {
+					for (Runnable change : changes) {
+						change.run();
+					}
+				} catch (RuntimeException e) {
+					failure = e;
+				}
+				publish(buildZoomGrids(), buildVisibility());
+				queueChanges(states);
+			}
+			version = current().version;
+		}
+		if (failure != null) {
+			try {
+				notifyListeners();
+			} catch (RuntimeException e) {
+				failure.addSuppressed(e);
+			}
+			throw failure;
 		}
+		notifyListeners();
+		return version;
 	}
 
 	/**
-	 * Get the grids for the zoom level
+	 * Add a grids change listener, notified of the grids changed by each
+	 * published version. A listener exception does not stop the delivery to
+	 * other listeners or of later versions, and is rethrown by the change
+	 * delivering it once delivery completes.
+	 * 
+	 * @param listener
+	 *            grids listener
+	 */
+	public void addListener(GridsListener<TGrid> listener) {
+		listeners.add(listener);
+	}
+
+	/**
+	 * Remove a grids change listener
+	 * 
+	 * @param listener
+	 *            grids listener
+	 * @return true if removed
+	 */
+	public boolean removeListener(GridsListener<TGrid> listener) {
+		return listeners.remove(listener);
+	}
+
+	/**
+	 * Get the grids for the zoom level. Zoom levels within the map zoom
+	 * levels return the published snapshot without locking, others return a
+	 * new unpublished snapshot. Returned grids are frozen.
 	 * 
 	 * @param zoom
 	 *            zoom level
 	 * @return grids
 	 */
 	public TZoomGrids getGrids(int zoom) {
-		TZoomGrids grids = zoomGrids.get(zoom);
-		if (grids == null) {
-			grids = createZoomGrids(zoom);
+		TZoomGrids grids = null;
+		if (isZoomLevel(zoom)) {
+			grids = getGrids(current().zoomGrids, zoom);
+		} else {
+			grids = buildZoomGrids(zoom);
 		}
 		return grids;
 	}
 
 	/**
-	 * Create grids for the zoom level
+	 * Get the compiled render plan for the zoom level. Plans within the map
+	 * zoom levels are compiled while holding the grids lock as each version
+	 * is published, so a plan never mixes configurations of different
+	 * versions. Plans of zoom levels unaffected by a version are carried over
+	 * to it. Grid changes must be made through these grids to be reflected
+	 * in the plans.
+	 * 
+	 * @param zoom
+	 *            zoom level
+	 * @return render plan
+	 */
+	@SuppressWarnings("unchecked")
+	public RenderPlan<TGrid> getRenderPlan(int zoom) {
+		RenderPlan<TGrid> plan = null;
+		if (isZoomLevel(zoom)) {
+			plan = (RenderPlan<TGrid>) current().plans[zoom];
+		} else {
+			plan = RenderPlan.compile(getGrids(zoom));
+		}
+		return plan;
+	}
+
+	/**
+	 * Get the grid visibility index of the published version, built when the
+	 * zoom grids are created and then updated with bit operations as grids
+	 * are enabled, disabled, or zoom ranges change. Grid ordinals follow the
+	 * {@link #grids()} order.
+	 * 
+	 * @return grid visibility
+	 * @throws IllegalStateException
+	 *             if more than {@link GridVisibility#MAX_GRIDS} grids
+	 */
+	public GridVisibility getVisibility() {
+		GridVisibility visibility = current().visibility;
+		if (visibility == null) {
+			// Not indexed, throws for too many grids
+			visibility = GridVisibility.build(grids());
+		}
+		return visibility;
+	}
+
+	/**
+	 * Determine if any grid is enabled at the zoom level
+	 * 
+	 * @param zoom
+	 *            zoom level
+	 * @return true if has grids
+	 */
+	public boolean hasGrids(int zoom) {
+		boolean hasGrids = false;
+		GridVisibility visibility = isZoomLevel(zoom) ? current().visibility
+				: null;
+		if (visibility != null) {
+			hasGrids = visibility.hasGrids(zoom);
+		} else {
+			hasGrids = getGrids(zoom).hasGrids();
+		}
+		return hasGrids;
+	}
+
+	/**
+	 * Determine if the zoom level is within the published map zoom levels
+	 * 
+	 * @param zoom
+	 *            zoom level
+	 * @return true if a map zoom level
+	 */
+	private boolean isZoomLevel(int zoom) {
+		return zoom >= 0 && zoom <= GridConstants.MAX_MAP_ZOOM_LEVEL;
+	}
+
+	/**
+	 * Get the grids for the zoom level from the zoom grids array
+	 * 
+	 * @param zoomGrids
+	 *            zoom grids array
+	 * @param zoom
+	 *            zoom level
+	 * @return grids, or null if outside the map zoom levels
+	 */
+	@SuppressWarnings("unchecked")
+	private TZoomGrids getGrids(Object[] zoomGrids, int zoom) {
+		return isZoomLevel(zoom) ? (TZoomGrids) zoomGrids[zoom] : null;
+	}
+
+	/**
+	 * Get the current epoch, creating the zoom grids if not yet created
+	 * 
+	 * @return current epoch
+	 */
+	private Epoch current() {
+		Epoch current = epoch;
+		if (current == null) {
+			current = createEpoch();
+		}
+		return current;
+	}
+
+	/**
+	 * Create the zoom grids if not yet created
+	 * 
+	 * @return current epoch
+	 */
+	private synchronized Epoch createEpoch() {
+		if (epoch == null) {
+			createZoomGrids();
+		}
+		return epoch;
+	}
+
+	/**
+	 * Publish the zoom grids and visibility as a new version, compiling the
+	 * render plans of the zoom grids from the current grid states. Called
+	 * while holding the grids lock.
+	 * 
+	 * @param zoomGrids
+	 *            zoom grids array, not modified after publication
+	 * @param visibility
+	 *            grid visibility, not modified after publication, or null if
+	 *            not indexed
+	 */
+	private void publish(Object[] zoomGrids, GridVisibility visibility) {
+		publish(zoomGrids, visibility, null);
+	}
+
+	/**
+	 * Publish the zoom grids and visibility as a new version, reusing the
+	 * render plans of the previous epoch for zoom levels with unchanged zoom
+	 * grids and compiling the others from the current grid states. Plans may
+	 * only be reused when the change added or removed grids from zoom levels
+	 * without changing their drawn lines, labelers, or style. Called while
+	 * holding the grids lock.
+	 * 
+	 * @param zoomGrids
+	 *            zoom grids array, not modified after publication
+	 * @param visibility
+	 *            grid visibility, not modified after publication, or null if
+	 *            not indexed
+	 * @param previous
+	 *            previous epoch of reusable render plans, or null to compile
+	 *            all
+	 */
+	private void publish(Object[] zoomGrids, GridVisibility visibility,
+			Epoch previous) {
+		RenderPlan<?>[] plans = new RenderPlan<?>[zoomGrids.length];
+		for (int zoom = 0; zoom < plans.length; zoom++) {
+			if (previous != null
+					&& previous.zoomGrids[zoom] == zoomGrids[zoom]) {
+				plans[zoom] = previous.plans[zoom];
+			} else {
+				plans[zoom] = RenderPlan.compile(getGrids(zoomGrids, zoom));
+			}
+		}
+		Epoch current = epoch;
+		long version = current != null ? current.version + 1 : 1;
+		epoch = new Epoch(version, zoomGrids, visibility, plans);
+	}
+
+	/**
+	 * Build the grid visibility from the current grid states
+	 * 
+	 * @return grid visibility, or null if more than
+	 *         {@link GridVisibility#MAX_GRIDS} grids
+	 */
+	private GridVisibility buildVisibility() {
+		Collection<TGrid> grids = grids();
+		GridVisibility visibility = null;
+		if (grids.size() <= GridVisibility.MAX_GRIDS) {
+			visibility = GridVisibility.build(grids);
+		}
+		return visibility;
+	}
+
+	/**
+	 * Copy the published grid visibility for modification. Called while
+	 * holding the grids lock.
+	 * 
+	 * @return unpublished visibility copy, or null if not indexed
+	 */
+	private GridVisibility copyVisibility() {
+		GridVisibility visibility = current().visibility;
+		return visibility != null ? visibility.copy() : null;
+	}
+
+	/**
+	 * Build grids for all map zoom levels
+	 * 
+	 * @return zoom grids array
+	 */
+	private Object[] buildZoomGrids() {
+		Object[] zoomGrids = new Object[GridConstants.MAX_MAP_ZOOM_LEVEL + 1];
+		for (int zoom = 0; zoom < zoomGrids.length; zoom++) {
+			zoomGrids[zoom] = buildZoomGrids(zoom);
+		}
+		return zoomGrids;
+	}
+
+	/**
+	 * Build frozen grids for the zoom level from the enabled grids
 	 * 
 	 * @param zoom
 	 *            zoom level
 	 * @return grids
 	 */
-	private TZoomGrids createZoomGrids(int zoom) {
+	private TZoomGrids buildZoomGrids(int zoom) {
 		TZoomGrids zoomLevelGrids = newZoomGrids(zoom);
 		for (TGrid grid : grids()) {
 			if (grid.isEnabled() && grid.isWithin(zoom)) {
 				zoomLevelGrids.addGrid(grid);
 			}
 		}
-		zoomGrids.put(zoom, zoomLevelGrids);
+		zoomLevelGrids.freeze();
 		return zoomLevelGrids;
 	}
 
@@ -330,21 +624,41 @@ public abstract class BaseGrids<TGrid extends BaseGrid, TZoomGrids extends BaseZ
 	 *            grid
 	 */
 	public void enable(TGrid grid) {
+		enableGrid(grid);
+		notifyListeners();
+	}
+
+	/**
+	 * Enable the grid and publish the change
+	 * 
+	 * @param grid
+	 *            grid
+	 */
+	private synchronized void enableGrid(TGrid grid) {
 
 		if (!grid.isEnabled()) {
 
+			List<GridState> states = snapshot(
+					Collections.singletonList(grid));
+
 			grid.setEnabled(true);
 
 			int minZoom = grid.getMinZoom();
 			Integer maxZoom = grid.getMaxZoom();
 			if (maxZoom == null) {
-				maxZoom = zoomGrids.lastKey();
+				maxZoom = GridConstants.MAX_MAP_ZOOM_LEVEL;
 			}
 
+			Epoch current = current();
+			Object[] zoomGrids = current.zoomGrids.clone();
+			GridVisibility visibility = copyVisibility();
+			int ordinal = getOrdinal(visibility, grid);
 			for (int zoom = minZoom; zoom <= maxZoom; zoom++) {
-				addGrid(grid, zoom);
+				addGrid(grid, zoom, zoomGrids, visibility, ordinal);
 			}
+			publish(zoomGrids, visibility, current);
 
+			queueChanges(states);
 		}
 
 	}
@@ -356,21 +670,41 @@ public abstract class BaseGrids<TGrid extends BaseGrid, TZoomGrids extends BaseZ
 	 *            grid
 	 */
 	public void disable(TGrid grid) {
+		disableGrid(grid);
+		notifyListeners();
+	}
+
+	/**
+	 * Disable the grid and publish the change
+	 * 
+	 * @param grid
+	 *            grid
+	 */
+	private synchronized void disableGrid(TGrid grid) {
 
 		if (grid.isEnabled()) {
 
+			List<GridState> states = snapshot(
+					Collections.singletonList(grid));
+
 			grid.setEnabled(false);
 
 			int minZoom = grid.getMinZoom();
 			Integer maxZoom = grid.getMaxZoom();
 			if (maxZoom == null) {
-				maxZoom = zoomGrids.lastKey();
+				maxZoom = GridConstants.MAX_MAP_ZOOM_LEVEL;
 			}
 
+			Epoch current = current();
+			Object[] zoomGrids = current.zoomGrids.clone();
+			GridVisibility visibility = copyVisibility();
+			int ordinal = getOrdinal(visibility, grid);
 			for (int zoom = minZoom; zoom <= maxZoom; zoom++) {
-				removeGrid(grid, zoom);
+				removeGrid(grid, zoom, zoomGrids, visibility, ordinal);
 			}
+			publish(zoomGrids, visibility, current);
 
+			queueChanges(states);
 		}
 
 	}
@@ -418,15 +752,33 @@ public abstract class BaseGrids<TGrid extends BaseGrid, TZoomGrids extends BaseZ
 	 *            maximum zoom
 	 */
 	public void setZoomRange(TGrid grid, int minZoom, Integer maxZoom) {
+		updateZoomRange(grid, minZoom, maxZoom);
+		notifyListeners();
+	}
+
+	/**
+	 * Set the grid zoom range and publish the change
+	 * 
+	 * @param grid
+	 *            grid
+	 * @param minZoom
+	 *            minimum zoom
+	 * @param maxZoom
+	 *            maximum zoom
+	 */
+	private synchronized void updateZoomRange(TGrid grid, int minZoom,
+			Integer maxZoom) {
 
 		if (maxZoom != null && maxZoom < minZoom) {
 			throw new IllegalArgumentException("Min zoom '" + minZoom
 					+ "' can not be larger than max zoom '" + maxZoom + "'");
 		}
 
+		List<GridState> states = snapshot(Collections.singletonList(grid));
+
 		// All grids zoom range
-		final int allGridsMin = zoomGrids.firstKey();
-		final int allGridsMax = zoomGrids.lastKey();
+		final int allGridsMin = 0;
+		final int allGridsMax = GridConstants.MAX_MAP_ZOOM_LEVEL;
 
 		// Existing grid zoom range
 		int gridMinZoom = grid.getMinZoom();
@@ -452,6 +804,11 @@ public abstract class BaseGrids<TGrid extends BaseGrid, TZoomGrids extends BaseZ
 
 		boolean overlaps = minOverlap <= maxOverlap;
 
+		Epoch current = current();
+		Object[] zoomGrids = current.zoomGrids.clone();
+		GridVisibility visibility = copyVisibility();
+		int ordinal = getOrdinal(visibility, grid);
+
 		if (overlaps) {
 
 			int min = Math.min(minZoom, gridMinZoom);
@@ -462,9 +819,9 @@ public abstract class BaseGrids<TGrid extends BaseGrid, TZoomGrids extends BaseZ
 				if (zoom < minOverlap || zoom > maxOverlap) {
 
 					if (zoom >= minZoom && zoom <= maxZoom) {
-						addGrid(grid, zoom);
+						addGrid(grid, zoom, zoomGrids, visibility, ordinal);
 					} else {
-						removeGrid(grid, zoom);
+						removeGrid(grid, zoom, zoomGrids, visibility, ordinal);
 					}
 
 				}
@@ -473,57 +830,225 @@ public abstract class BaseGrids<TGrid extends BaseGrid, TZoomGrids extends BaseZ
 		} else {
 
 			for (int zoom = gridMinZoom; zoom <= gridMaxZoom; zoom++) {
-				removeGrid(grid, zoom);
+				removeGrid(grid, zoom, zoomGrids, visibility, ordinal);
 			}
 
 			for (int zoom = minZoom; zoom <= maxZoom; zoom++) {
-				addGrid(grid, zoom);
+				addGrid(grid, zoom, zoomGrids, visibility, ordinal);
 			}
 
 		}
 
+		publish(zoomGrids, visibility, current);
+
+		queueChanges(states);
 	}
 
 	/**
-	 * Add a grid to the zoom level
+	 * Add a grid to the zoom level, replacing the zoom grids with a modified
+	 * copy. Disabled grids are not added. Called while holding the grids
+	 * lock.
 	 * 
 	 * @param grid
 	 *            grid
 	 * @param zoom
 	 *            zoom level
+	 * @param zoomGrids
+	 *            unpublished zoom grids array
+	 * @param visibility
+	 *            unpublished grid visibility, or null if not indexed
+	 * @param ordinal
+	 *            grid visibility ordinal, or -1 if not indexed
 	 */
-	private void addGrid(TGrid grid, int zoom) {
-		TZoomGrids grids = zoomGrids.get(zoom);
-		if (grids != null) {
-			grids.addGrid(grid);
+	private void addGrid(TGrid grid, int zoom, Object[] zoomGrids,
+			GridVisibility visibility, int ordinal) {
+		if (grid.isEnabled()) {
+			TZoomGrids grids = getGrids(zoomGrids, zoom);
+			if (grids != null && !grids.getGridsView().contains(grid)) {
+				TZoomGrids copy = copyZoomGrids(grids);
+				copy.addGrid(grid);
+				copy.freeze();
+				zoomGrids[zoom] = copy;
+			}
+			if (ordinal >= 0) {
+				visibility.set(ordinal, zoom);
+			}
 		}
 	}
 
 	/**
-	 * Remove a grid from the zoom level
+	 * Remove a grid from the zoom level, replacing the zoom grids with a
+	 * modified copy. Called while holding the grids lock.
 	 * 
 	 * @param grid
 	 *            grid
 	 * @param zoom
 	 *            zoom level
+	 * @param zoomGrids
+	 *            unpublished zoom grids array
+	 * @param visibility
+	 *            unpublished grid visibility, or null if not indexed
+	 * @param ordinal
+	 *            grid visibility ordinal, or -1 if not indexed
 	 */
-	private void removeGrid(TGrid grid, int zoom) {
-		TZoomGrids grids = zoomGrids.get(zoom);
-		if (grids != null) {
-			grids.removeGrid(grid);
+	private void removeGrid(TGrid grid, int zoom, Object[] zoomGrids,
+			GridVisibility visibility, int ordinal) {
+		TZoomGrids grids = getGrids(zoomGrids, zoom);
+		if (grids != null && grids.getGridsView().contains(grid)) {
+			TZoomGrids copy = copyZoomGrids(grids);
+			copy.removeGrid(grid);
+			copy.freeze();
+			zoomGrids[zoom] = copy;
+		}
+		if (ordinal >= 0) {
+			visibility.clear(ordinal, zoom);
 		}
 	}
 
+	/**
+	 * Get the grid ordinal within the grid visibility
+	 * 
+	 * @param visibility
+	 *            grid visibility, or null if not indexed
+	 * @param grid
+	 *            grid
+	 * @return grid ordinal, or -1 if not indexed
+	 */
+	private static int getOrdinal(GridVisibility visibility, BaseGrid grid) {
+		return visibility != null ? visibility.getOrdinal(grid) : -1;
+	}
+
+	/**
+	 * Copy the zoom grids into a new unfrozen zoom grids
+	 * 
+	 * @param grids
+	 *            zoom grids
+	 * @return zoom grids copy
+	 */
+	private TZoomGrids copyZoomGrids(TZoomGrids grids) {
+		TZoomGrids copy = newZoomGrids(grids.getZoom());
+		for (TGrid grid : grids) {
+			copy.addGrid(grid);
+		}
+		return copy;
+	}
+
+	/**
+	 * Set the grid line color
+	 * 
+	 * @param grid
+	 *            grid
+	 * @param color
+	 *            grid line color
+	 */
+	public void setColor(TGrid grid, Color color) {
+		updateColor(grid, color);
+		notifyListeners();
+	}
+
+	/**
+	 * Set the grid line width
+	 * 
+	 * @param grid
+	 *            grid
+	 * @param width
+	 *            grid line width
+	 */
+	public void setWidth(TGrid grid, double width) {
+		updateWidth(grid, width);
+		notifyListeners();
+	}
+
+	/**
+	 * Set the grid line color and width
+	 * 
+	 * @param grid
+	 *            grid
+	 * @param color
+	 *            grid line color
+	 * @param width
+	 *            grid line width
+	 */
+	public void setStyle(TGrid grid, Color color, double width) {
+		updateStyle(grid, color, width);
+		notifyListeners();
+	}
+
+	/**
+	 * Set the grid line color and publish the change
+	 * 
+	 * @param grid
+	 *            grid
+	 * @param color
+	 *            grid line color
+	 */
+	private synchronized void updateColor(TGrid grid, Color color) {
+		updateStyle(grid, color, grid.getWidth());
+	}
+
+	/**
+	 * Set the grid line width and publish the change
+	 * 
+	 * @param grid
+	 *            grid
+	 * @param width
+	 *            grid line width
+	 */
+	private synchronized void updateWidth(TGrid grid, double width) {
+		updateStyle(grid, grid.getColor(), width);
+	}
+
+	/**
+	 * Set the grid line color and width and publish the change
+	 * 
+	 * @param grid
+	 *            grid
+	 * @param color
+	 *            grid line color
+	 * @param width
+	 *            grid line width
+	 */
+	private synchronized void updateStyle(TGrid grid, Color color,
+			double width) {
+
+		if (!sameColor(grid.getColor(), color) || grid.getWidth() != width) {
+
+			List<GridState> states = snapshot(
+					Collections.singletonList(grid));
+
+			grid.setColor(color != null ? color.copy() : null);
+			grid.setWidth(width);
+
+			Epoch current = current();
+			publish(current.zoomGrids, current.visibility);
+
+			queueChanges(states);
+		}
+
+	}
+
 	/**
 	 * Enable all grid labelers
 	 */
 	public void enableAllLabelers() {
+		enableLabelers();
+		notifyListeners();
+	}
+
+	/**
+	 * Enable all grid labelers and publish the change
+	 * 
+	 */
+	private synchronized void enableLabelers() {
+		List<GridState> states = snapshot(grids());
 		for (TGrid grid : grids()) {
 			Labeler labeler = grid.getLabeler();
 			if (labeler != null) {
 				labeler.setEnabled(true);
 			}
 		}
+		publish(current().zoomGrids, buildVisibility());
+		queueChanges(states);
 	}
 
 	/**
@@ -533,12 +1058,413 @@ public abstract class BaseGrids<TGrid extends BaseGrid, TZoomGrids extends BaseZ
 	 *            label buffer (greater than or equal to 0.0 and less than 0.5)
 	 */
 	public void setAllLabelBuffers(double buffer) {
+		updateLabelBuffers(buffer);
+		notifyListeners();
+	}
+
+	/**
+	 * Set all label grid edge buffers and publish the change
+	 * 
+	 * @param buffer
+	 *            label buffer (greater than or equal to 0.0 and less than 0.5)
+	 */
+	private synchronized void updateLabelBuffers(double buffer) {
+		List<GridState> states = snapshot(grids());
 		for (TGrid grid : grids()) {
 			Labeler labeler = grid.getLabeler();
 			if (labeler != null) {
 				labeler.setBuffer(buffer);
 			}
 		}
+		publish(current().zoomGrids, buildVisibility());
+		queueChanges(states);
+	}
+
+	/**
+	 * Snapshot the grid states before a change when listeners are registered.
+	 * Called while holding the grids lock.
+	 * 
+	 * @param grids
+	 *            grids to be changed
+	 * @return grid states, or null if no listeners
+	 */
+	private List<GridState> snapshot(Collection<TGrid> grids) {
+		List<GridState> states = null;
+		if (!listeners.isEmpty()) {
+			states = new ArrayList<>(grids.size());
+			for (TGrid grid : grids) {
+				states.add(new GridState(grid));
+			}
+		}
+		return states;
+	}
+
+	/**
+	 * Queue change events for the grids changed since the snapshot, at the
+	 * published version. Called while holding the grids lock, so events are
+	 * queued in version order.
+	 * 
+	 * @param states
+	 *            grid states before the change, or null if no listeners
+	 */
+	private void queueChanges(List<GridState> states) {
+		if (states != null) {
+			long version = epoch.version;
+			List<GridChangeEvent<TGrid>> events = new ArrayList<>();
+			for (GridState before : states) {
+				GridChangeEvent<TGrid> event = before.change(version);
+				if (event != null) {
+					events.add(event);
+				}
+			}
+			if (!events.isEmpty()) {
+				pending.add(Collections.unmodifiableList(events));
+			}
+		}
+	}
+
+	/**
+	 * Notify the listeners of the queued change events, outside of the grids
+	 * lock. Delivery is serialized in version order. Events queued by a
+	 * listener, or by another thread during delivery, are delivered by the
+	 * thread already delivering after the current version completes, and the
+	 * other thread returns without waiting. Every listener is notified of
+	 * every version, and the first listener exception is then rethrown with
+	 * any others suppressed.
+	 */
+	private void notifyListeners() {
+		RuntimeException failure = null;
+		while (!pending.isEmpty() && startDelivery()) {
+			try {
+				List<GridChangeEvent<TGrid>> events;
+				while ((events = pending.poll()) != null) {
+					for (GridsListener<TGrid> listener : listeners) {
+						try {
+							listener.gridsChanged(events);
+						} catch (RuntimeException e) {
+							if (failure == null) {
+								failure = e;
+							} else {
+								failure.addSuppressed(e);
+							}
+						}
+					}
+				}
+			} finally {
+				synchronized (pending) {
+					delivering = false;
+				}
+			}
+		}
+		if (failure != null) {
+			throw failure;
+		}
+	}
+
+	/**
+	 * Start delivering the pending change events if no thread is delivering
+	 * 
+	 * @return true if started, false if another call is delivering
+	 */
+	private boolean startDelivery() {
+		synchronized (pending) {
+			boolean start = !delivering;
+			delivering = true;
+			return start;
+		}
+	}
+
+	/**
+	 * Grid state snapshot of the configuration affecting drawn lines, labels,
+	 * and style
+	 */
+	private final class GridState {
+
+		/**
+		 * Grid
+		 */
+		private final TGrid grid;
+
+		/**
+		 * Enabled flag
+		 */
+		private final boolean enabled;
+
+		/**
+		 * Minimum zoom
+		 */
+		private final int minZoom;
+
+		/**
+		 * Maximum zoom
+		 */
+		private final Integer maxZoom;
+
+		/**
+		 * Lines minimum zoom override
+		 */
+		private final Integer linesMinZoom;
+
+		/**
+		 * Lines maximum zoom override
+		 */
+		private final Integer linesMaxZoom;
+
+		/**
+		 * Line color
+		 */
+		private final Color color;
+
+		/**
+		 * Line width
+		 */
+		private final double width;
+
+		/**
+		 * Labeler
+		 */
+		private final Labeler labeler;
+
+		/**
+		 * Labeler enabled flag
+		 */
+		private final boolean labelerEnabled;
+
+		/**
+		 * Labeler minimum zoom
+		 */
+		private final int labelerMinZoom;
+
+		/**
+		 * Labeler maximum zoom
+		 */
+		private final Integer labelerMaxZoom;
+
+		/**
+		 * Label color
+		 */
+		private final Color labelerColor;
+
+		/**
+		 * Label text size
+		 */
+		private final double labelerTextSize;
+
+		/**
+		 * Label buffer
+		 */
+		private final double labelerBuffer;
+
+		/**
+		 * Constructor
+		 * 
+		 * @param grid
+		 *            grid
+		 */
+		private GridState(TGrid grid) {
+			this.grid = grid;
+			enabled = grid.isEnabled();
+			minZoom = grid.getMinZoom();
+			maxZoom = grid.getMaxZoom();
+			linesMinZoom = grid.hasLinesMinZoom() ? grid.getLinesMinZoom()
+					: null;
+			linesMaxZoom = grid.hasLinesMaxZoom() ? grid.getLinesMaxZoom()
+					: null;
+			color = grid.getColor();
+			width = grid.getWidth();
+			labeler = grid.getLabeler();
+			if (labeler != null) {
+				labelerEnabled = labeler.isEnabled();
+				labelerMinZoom = labeler.getMinZoom();
+				labelerMaxZoom = labeler.getMaxZoom();
+				labelerColor = labeler.getColor();
+				labelerTextSize = labeler.getTextSize();
+				labelerBuffer = labeler.getBuffer();
+			} else {
+				labelerEnabled = false;
+				labelerMinZoom = 0;
+				labelerMaxZoom = null;
+				labelerColor = null;
+				labelerTextSize = 0;
+				labelerBuffer = 0;
+			}
+		}
+
+		/**
+		 * Create a change event from this state to the current grid state
+		 * 
+		 * @param version
+		 *            published version
+		 * @return change event, or null if no drawn change
+		 */
+		private GridChangeEvent<TGrid> change(long version) {
+
+			GridState after = new GridState(grid);
+
+			Set<GridChangeType> types = EnumSet
+					.noneOf(GridChangeType.class);
+			int changeMinZoom = Integer.MAX_VALUE;
+			Integer changeMaxZoom = Integer.MIN_VALUE;
+
+			// Zooms where the grid started or stopped being drawn
+			if (enabled != after.enabled || minZoom != after.minZoom
+					|| !Objects.equals(maxZoom, after.maxZoom)) {
+				int visibleMin;
+				Integer visibleMax;
+				if (!enabled || !after.enabled) {
+					GridState visible = enabled ? this : after;
+					visibleMin = visible.minZoom;
+					visibleMax = visible.maxZoom;
+				} else {
+					visibleMin = minZoom == after.minZoom
+							? minMaxZoom(maxZoom, after.maxZoom) + 1
+							: Math.min(minZoom, after.minZoom);
+					if (Objects.equals(maxZoom, after.maxZoom)) {
+						visibleMax = Math.max(minZoom, after.minZoom) - 1;
+					} else {
+						visibleMax = maxMaxZoom(maxZoom, after.maxZoom);
+					}
+				}
+				if (enabled || after.enabled) {
+					types.add(GridChangeType.LINES);
+					if (labelerEnabled || after.labelerEnabled) {
+						types.add(GridChangeType.LABELS);
+					}
+					changeMinZoom = visibleMin;
+					changeMaxZoom = visibleMax;
+				}
+			}
+
+			// Drawn content changes over the enabled zoom range
+			if (after.enabled) {
+				boolean changed = false;
+				if (!Objects.equals(linesMinZoom, after.linesMinZoom)
+						|| !Objects.equals(linesMaxZoom, after.linesMaxZoom)) {
+					types.add(GridChangeType.LINES);
+					changed = true;
+				}
+				if (!sameColor(color, after.color) || width != after.width) {
+					types.add(GridChangeType.STYLE);
+					changed = true;
+				}
+				if ((labelerEnabled || after.labelerEnabled)
+						&& (labeler != after.labeler
+								|| labelerEnabled != after.labelerEnabled
+								|| labelerMinZoom != after.labelerMinZoom
+								|| !Objects.equals(labelerMaxZoom,
+										after.labelerMaxZoom)
+								|| !sameColor(labelerColor,
+										after.labelerColor)
+								|| labelerTextSize != after.labelerTextSize
+								|| labelerBuffer != after.labelerBuffer)) {
+					types.add(GridChangeType.LABELS);
+					changed = true;
+				}
+				if (changed) {
+					changeMinZoom = Math.min(changeMinZoom, after.minZoom);
+					changeMaxZoom = maxMaxZoom(changeMaxZoom, after.maxZoom);
+				}
+			}
+
+			GridChangeEvent<TGrid> event = null;
+			if (!types.isEmpty()) {
+				event = new GridChangeEvent<>(grid, changeMinZoom,
+						changeMaxZoom, types, version);
+			}
+			return event;
+		}
+
+	}
+
+	/**
+	 * Get the lower of two maximum zooms, where null is no maximum
+	 * 
+	 * @param maxZoom1
+	 *            first maximum zoom
+	 * @param maxZoom2
+	 *            second maximum zoom
+	 * @return lower maximum zoom
+	 */
+	private static Integer minMaxZoom(Integer maxZoom1, Integer maxZoom2) {
+		return maxZoom1 == null ? maxZoom2
+				: maxZoom2 == null ? maxZoom1 : Math.min(maxZoom1, maxZoom2);
+	}
+
+	/**
+	 * Get the higher of two maximum zooms, where null is no maximum
+	 * 
+	 * @param maxZoom1
+	 *            first maximum zoom
+	 * @param maxZoom2
+	 *            second maximum zoom
+	 * @return higher maximum zoom
+	 */
+	private static Integer maxMaxZoom(Integer maxZoom1, Integer maxZoom2) {
+		return maxZoom1 == null || maxZoom2 == null ? null
+				: Math.max(maxZoom1, maxZoom2);
+	}
+
+	/**
+	 * Determine if two colors are the same
+	 * 
+	 * @param color1
+	 *            first color
+	 * @param color2
+	 *            second color
+	 * @return true if the same
+	 */
+	private static boolean sameColor(Color color1, Color color2) {
+		return color1 == null ? color2 == null
+				: color2 != null && color1.getColorWithAlpha() == color2
+						.getColorWithAlpha();
+	}
+
+	/**
+	 * Immutable configuration epoch of a version, its zoom grids, grid
+	 * visibility, and the render plans compiled from the zoom grids
+	 */
+	private static final class Epoch {
+
+		/**
+		 * Configuration version
+		 */
+		private final long version;
+
+		/**
+		 * Zoom grids indexed by zoom level
+		 */
+		private final Object[] zoomGrids;
+
+		/**
+		 * Grid visibility, null if not indexed
+		 */
+		private final GridVisibility visibility;
+
+		/**
+		 * Render plans indexed by zoom level
+		 */
+		private final RenderPlan<?>[] plans;
+
+		/**
+		 * Constructor
+		 * 
+		 * @param version
+		 *            configuration version
+		 * @param zoomGrids
+		 *            zoom grids array
+		 * @param visibility
+		 *            grid visibility, or null
+		 * @param plans
+		 *            render plans array
+		 */
+		private Epoch(long version, Object[] zoomGrids,
+				GridVisibility visibility, RenderPlan<?>[] plans) {
+			this.version = version;
+			this.zoomGrids = zoomGrids;
+			this.visibility = visibility;
+			this.plans = plans;
+		}
+
 	}
 
 }
@@ -1,10 +1,13 @@
 package mil.nga.grid;
 
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.NavigableSet;
 import java.util.TreeSet;
 
 /**
- * Zoom Level Matching Grids
+ * Zoom Level Matching Grids. Zoom grids published by {@link BaseGrids} are
+ * frozen and can no longer be modified.
  * 
  * @author osbornb
  * @param <T>
@@ -22,6 +25,17 @@ public class BaseZoomGrids<T extends BaseGrid> implements Iterable<T> {
 	 */
 	protected final TreeSet<T> grids = new TreeSet<>();
 
+	/**
+	 * Unmodifiable grids view
+	 */
+	private final NavigableSet<T> view = Collections
+			.unmodifiableNavigableSet(grids);
+
+	/**
+	 * Frozen flag, set before publication
+	 */
+	private boolean frozen;
+
 	/**
 	 * Constructor
 	 * 
@@ -42,12 +56,23 @@ public class BaseZoomGrids<T extends BaseGrid> implements Iterable<T> {
 	}
 
 	/**
-	 * Get the grids within the zoom level
+	 * Get a copy of the grids within the zoom level. Modifying the copy does
+	 * not change the zoom grids, use {@link #getGridsView()} to read without
+	 * copying.
 	 * 
-	 * @return grids
+	 * @return grids copy
 	 */
 	public TreeSet<T> getGrids() {
-		return grids;
+		return new TreeSet<>(grids);
+	}
+
+	/**
+	 * Get the grids within the zoom level
+	 * 
+	 * @return unmodifiable grids view
+	 */
+	public NavigableSet<T> getGridsView() {
+		return view;
 	}
 
 	/**
@@ -74,8 +99,11 @@ public class BaseZoomGrids<T extends BaseGrid> implements Iterable<T> {
 	 * @param grid
 	 *            grid
 	 * @return true if added
+	 * @throws IllegalStateException
+	 *             if frozen
 	 */
 	public boolean addGrid(T grid) {
+		checkModifiable();
 		return grids.add(grid);
 	}
 
@@ -85,17 +113,47 @@ public class BaseZoomGrids<T extends BaseGrid> implements Iterable<T> {
 	 * @param grid
 	 *            grid
 	 * @return true if removed
+	 * @throws IllegalStateException
+	 *             if frozen
 	 */
 	public boolean removeGrid(T grid) {
+		checkModifiable();
 		return grids.remove(grid);
 	}
 
+	/**
+	 * Determine if the zoom grids are frozen and can not be modified
+	 * 
+	 * @return true if frozen
+	 */
+	public boolean isFrozen() {
+		return frozen;
+	}
+
+	/**
+	 * Freeze the zoom grids before publication
+	 */
+	void freeze() {
+		frozen = true;
+	}
+
+	/**
+	 * Check the zoom grids are not frozen
+	 */
+	private void checkModifiable() {
+		if (frozen) {
+			throw new IllegalStateException(
+					"Published zoom grids can not be modified. zoom: "
+							+ zoom);
+		}
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
 	@Override
 	public Iterator<T> iterator() {
-		return grids.iterator();
+		return view.iterator();
 	}
 
 }
@@ -0,0 +1,352 @@
+package mil.nga.grid;
+
+import java.util.stream.IntStream;
+
+import mil.nga.grid.features.Bounds;
+import mil.nga.grid.features.Point;
+import mil.nga.grid.features.Unit;
+
+/**
+ * Codec between grid cells at a precision and packed 64-bit cell ids. A cell
+ * id holds the signed longitude lattice index in the high 32 bits and the
+ * signed latitude lattice index in the low 32 bits, with cells spanning from
+ * index times precision to the next index, matching
+ * {@link Bounds#toPrecision(double)} and {@link Lattice}. Coordinates are in
+ * degrees.
+ *
+ * @author osbornb
+ */
+public final class CellCodec {
+
+	/**
+	 * Precision in degrees
+	 */
+	private final double precision;
+
+	/**
+	 * Create a cell codec
+	 *
+	 * @param precision
+	 *            precision in degrees
+	 * @return cell codec
+	 */
+	public static CellCodec codec(double precision) {
+		return new CellCodec(precision);
+	}
+
+	/**
+	 * Pack lattice indices into a cell id
+	 *
+	 * @param longitudeIndex
+	 *            longitude lattice index
+	 * @param latitudeIndex
+	 *            latitude lattice index
+	 * @return cell id
+	 */
+	public static long pack(int longitudeIndex, int latitudeIndex) {
+		return ((long) longitudeIndex << 32) | (latitudeIndex & 0xFFFFFFFFL);
+	}
+
+	/**
+	 * Get the longitude lattice index of the cell id
+	 *
+	 * @param cell
+	 *            cell id
+	 * @return longitude lattice index
+	 */
+	public static int getLongitudeIndex(long cell) {
+		return (int) (cell >> 32);
+	}
+
+	/**
+	 * Get the latitude lattice index of the cell id
+	 *
+	 * @param cell
+	 *            cell id
+	 * @return latitude lattice index
+	 */
+	public static int getLatitudeIndex(long cell) {
+		return (int) cell;
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param precision
+	 *            precision in degrees
+	 */
+	public CellCodec(double precision) {
+		if (!(precision > 0.0)) {
+			throw new IllegalArgumentException(
+					"Precision must be greater than 0. precision: "
+							+ precision);
+		}
+		if (GridConstants.MAX_LON / precision >= Integer.MAX_VALUE) {
+			throw new IllegalArgumentException(
+					"Precision too small for 32 bit lattice indices. precision: "
+							+ precision);
+		}
+		this.precision = precision;
+	}
+
+	/**
+	 * Get the precision
+	 *
+	 * @return precision in degrees
+	 */
+	public double getPrecision() {
+		return precision;
+	}
+
+	/**
+	 * Get the lattice index of the cell containing the value
+	 *
+	 * @param value
+	 *            value in degrees
+	 * @return lattice index
+	 * @throws IllegalArgumentException
+	 *             if the value is not finite or its index does not fit in the
+	 *             32 bits of a cell id
+	 */
+	public int index(double value) {
+		long index = Math.round(
+				GridUtils.precisionBefore(value, precision) / precision);
+		if (!Double.isFinite(value) || index < Integer.MIN_VALUE
+				|| index > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException(
+					"Value out of range for 32 bit lattice indices. value: "
+							+ value + ", precision: " + precision);
+		}
+		return (int) index;
+	}
+
+	/**
+	 * Encode the cell containing the coordinate
+	 *
+	 * @param longitude
+	 *            longitude in degrees
+	 * @param latitude
+	 *            latitude in degrees
+	 * @return cell id
+	 */
+	public long encode(double longitude, double latitude) {
+		return pack(index(longitude), index(latitude));
+	}
+
+	/**
+	 * Encode the cell containing the point
+	 *
+	 * @param point
+	 *            point
+	 * @return cell id
+	 */
+	public long encode(Point point) {
+		point = point.toDegrees();
+		return encode(point.getLongitude(), point.getLatitude());
+	}
+
+	/**
+	 * Encode the cell bounds at this precision, identified by the cell
+	 * containing the bounds center in degrees
+	 *
+	 * @param bounds
+	 *            cell bounds
+	 * @return cell id
+	 */
+	public long encode(Bounds bounds) {
+		bounds = bounds.toDegrees();
+		return encode(
+				(bounds.getMinLongitude() + bounds.getMaxLongitude()) / 2.0,
+				(bounds.getMinLatitude() + bounds.getMaxLatitude()) / 2.0);
+	}
+
+	/**
+	 * Encode the cells containing each coordinate
+	 *
+	 * @param longitudes
+	 *            longitudes
+	 * @param latitudes
+	 *            latitudes
+	 * @param unit
+	 *            coordinate unit
+	 * @param parallel
+	 *            true to encode in parallel
+	 * @return cell ids
+	 */
+	public long[] encode(double[] longitudes, double[] latitudes, Unit unit,
+			boolean parallel) {
+		long[] cells = new long[longitudes.length];
+		encode(longitudes, latitudes, unit, cells, parallel);
+		return cells;
+	}
+
+	/**
+	 * Encode the cells containing each coordinate
+	 *
+	 * @param longitudes
+	 *            longitudes
+	 * @param latitudes
+	 *            latitudes
+	 * @param unit
+	 *            coordinate unit
+	 * @param cells
+	 *            cell ids array of at least the coordinates length
+	 * @param parallel
+	 *            true to encode in parallel
+	 */
+	public void encode(double[] longitudes, double[] latitudes, Unit unit,
+			long[] cells, boolean parallel) {
+		int count = checkLengths(longitudes, latitudes);
+		if (cells.length < count) {
+			throw new IllegalArgumentException(
+					"Cells array too small. required: " + count + ", cells: "
+							+ cells.length);
+		}
+		range(count, parallel).forEach(i -> cells[i] = encode(longitudes[i],
+				latitudes[i], unit));
+	}
+
+	/**
+	 * Count the coordinates in each cell
+	 *
+	 * @param longitudes
+	 *            longitudes
+	 * @param latitudes
+	 *            latitudes
+	 * @param unit
+	 *            coordinate unit
+	 * @param parallel
+	 *            true to count in parallel
+	 * @return cell statistics with counts
+	 */
+	public CellStatistics count(double[] longitudes, double[] latitudes,
+			Unit unit, boolean parallel) {
+		int count = checkLengths(longitudes, latitudes);
+		return range(count, parallel).collect(CellStatistics::new,
+				(statistics, i) -> statistics.add(encode(longitudes[i],
+						latitudes[i], unit)),
+				CellStatistics::merge);
+	}
+
+	/**
+	 * Aggregate the coordinate values in each cell
+	 *
+	 * @param longitudes
+	 *            longitudes
+	 * @param latitudes
+	 *            latitudes
+	 * @param values
+	 *            values of at least the coordinates length
+	 * @param unit
+	 *            coordinate unit
+	 * @param parallel
+	 *            true to aggregate in parallel
+	 * @return cell statistics with counts and sums
+	 */
+	public CellStatistics aggregate(double[] longitudes, double[] latitudes,
+			double[] values, Unit unit, boolean parallel) {
+		int count = checkLengths(longitudes, latitudes);
+		if (values.length < count) {
+			throw new IllegalArgumentException(
+					"Values array too small. required: " + count
+							+ ", values: " + values.length);
+		}
+		return range(count, parallel).collect(CellStatistics::new,
+				(statistics, i) -> statistics.add(encode(longitudes[i],
+						latitudes[i], unit), values[i]),
+				CellStatistics::merge);
+	}
+
+	/**
+	 * Encode the cell containing the coordinate
+	 *
+	 * @param longitude
+	 *            longitude
+	 * @param latitude
+	 *            latitude
+	 * @param unit
+	 *            coordinate unit
+	 * @return cell id
+	 */
+	private long encode(double longitude, double latitude, Unit unit) {
+		if (unit == Unit.METER) {
+			longitude = GridUtils.longitudeToDegrees(longitude);
+			latitude = GridUtils.latitudeToDegrees(latitude);
+		}
+		return encode(longitude, latitude);
+	}
+
+	/**
+	 * Get an index range stream
+	 *
+	 * @param count
+	 *            number of indices
+	 * @param parallel
+	 *            true for a parallel stream
+	 * @return index stream
+	 */
+	private static IntStream range(int count, boolean parallel) {
+		IntStream range = IntStream.range(0, count);
+		if (parallel) {
+			range = range.parallel();
+		}
+		return range;
+	}
+
+	/**
+	 * Check the coordinate arrays are the same length
+	 *
+	 * @param longitudes
+	 *            longitudes
+	 * @param latitudes
+	 *            latitudes
+	 * @return number of coordinates
+	 */
+	private static int checkLengths(double[] longitudes, double[] latitudes) {
+		if (longitudes.length != latitudes.length) {
+			throw new IllegalArgumentException(
+					"Coordinate arrays must be the same length. longitudes: "
+							+ longitudes.length + ", latitudes: "
+							+ latitudes.length);
+		}
+		return longitudes.length;
+	}
+
+	/**
+	 * Decode the cell bounds
+	 *
+	 * @param cell
+	 *            cell id
+	 * @return cell bounds in degrees
+	 */
+	public Bounds decode(long cell) {
+		int longitudeIndex = getLongitudeIndex(cell);
+		int latitudeIndex = getLatitudeIndex(cell);
+		return Bounds.degrees(longitudeIndex * precision,
+				latitudeIndex * precision, (longitudeIndex + 1L) * precision,
+				(latitudeIndex + 1L) * precision);
+	}
+
+	/**
+	 * Get the southwest longitude of the cell
+	 *
+	 * @param cell
+	 *            cell id
+	 * @return longitude in degrees
+	 */
+	public double getLongitude(long cell) {
+		return getLongitudeIndex(cell) * precision;
+	}
+
+	/**
+	 * Get the southwest latitude of the cell
+	 *
+	 * @param cell
+	 *            cell id
+	 * @return latitude in degrees
+	 */
+	public double getLatitude(long cell) {
+		return getLatitudeIndex(cell) * precision;
+	}
+
+}
@@ -0,0 +1,301 @@
+package mil.nga.grid;
+
+import java.util.Arrays;
+
+/**
+ * Per cell counts and value sums keyed by packed {@link CellCodec} cell ids,
+ * stored in a primitive open addressing hash table. Not thread safe, intended
+ * as a per thread accumulator merged after parallel aggregation.
+ *
+ * @author osbornb
+ */
+public final class CellStatistics {
+
+	/**
+	 * Cell statistics visitor
+	 */
+	@FunctionalInterface
+	public interface Visitor {
+
+		/**
+		 * Visit a cell
+		 *
+		 * @param cell
+		 *            cell id
+		 * @param count
+		 *            number of values
+		 * @param sum
+		 *            sum of values
+		 */
+		void visit(long cell, long count, double sum);
+
+	}
+
+	/**
+	 * Default initial capacity, power of 2
+	 */
+	private static final int DEFAULT_CAPACITY = 64;
+
+	/**
+	 * Cell ids
+	 */
+	private long[] cells;
+
+	/**
+	 * Counts, 0 for empty slots
+	 */
+	private long[] counts;
+
+	/**
+	 * Sums
+	 */
+	private double[] sums;
+
+	/**
+	 * Number of cells
+	 */
+	private int size;
+
+	/**
+	 * Constructor
+	 */
+	public CellStatistics() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param capacity
+	 *            expected number of cells
+	 */
+	public CellStatistics(int capacity) {
+		int slots = DEFAULT_CAPACITY;
+		while (slots < capacity * 2) {
+			slots <<= 1;
+		}
+		cells = new long[slots];
+		counts = new long[slots];
+		sums = new double[slots];
+	}
+
+	/**
+	 * Get the number of cells
+	 *
+	 * @return number of cells
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Is empty
+	 *
+	 * @return true if no cells
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Add a count to the cell
+	 *
+	 * @param cell
+	 *            cell id
+	 */
+	public void add(long cell) {
+		add(cell, 1, 0.0);
+	}
+
+	/**
+	 * Add a value to the cell
+	 *
+	 * @param cell
+	 *            cell id
+	 * @param value
+	 *            value
+	 */
+	public void add(long cell, double value) {
+		add(cell, 1, value);
+	}
+
+	/**
+	 * Add a count and sum to the cell
+	 *
+	 * @param cell
+	 *            cell id
+	 * @param count
+	 *            count, greater than 0
+	 * @param sum
+	 *            sum
+	 */
+	public void add(long cell, long count, double sum) {
+		if (count <= 0) {
+			throw new IllegalArgumentException(
+					"Count must be greater than 0. count: " + count);
+		}
+		int slot = slot(cell);
+		if (counts[slot] == 0) {
+			cells[slot] = cell;
+			counts[slot] = count;
+			sums[slot] = sum;
+			if (++size > cells.length >> 1) {
+				resize();
+			}
+		} else {
+			counts[slot] += count;
+			sums[slot] += sum;
+		}
+	}
+
+	/**
+	 * Merge the statistics into these statistics
+	 *
+	 * @param statistics
+	 *            statistics
+	 */
+	public void merge(CellStatistics statistics) {
+		statistics.forEach(this::add);
+	}
+
+	/**
+	 * Determine if the cell has statistics
+	 *
+	 * @param cell
+	 *            cell id
+	 * @return true if contains
+	 */
+	public boolean contains(long cell) {
+		return counts[slot(cell)] > 0;
+	}
+
+	/**
+	 * Get the cell count
+	 *
+	 * @param cell
+	 *            cell id
+	 * @return count, 0 if not present
+	 */
+	public long getCount(long cell) {
+		return counts[slot(cell)];
+	}
+
+	/**
+	 * Get the cell sum
+	 *
+	 * @param cell
+	 *            cell id
+	 * @return sum, 0 if not present
+	 */
+	public double getSum(long cell) {
+		return sums[slot(cell)];
+	}
+
+	/**
+	 * Get the cell mean
+	 *
+	 * @param cell
+	 *            cell id
+	 * @return mean, NaN if not present
+	 */
+	public double getMean(long cell) {
+		int slot = slot(cell);
+		return sums[slot] / counts[slot];
+	}
+
+	/**
+	 * Get the total count of all cells
+	 *
+	 * @return total count
+	 */
+	public long getTotalCount() {
+		long total = 0;
+		for (long count : counts) {
+			total += count;
+		}
+		return total;
+	}
+
+	/**
+	 * Get the cell ids in ascending order
+	 *
+	 * @return cell ids
+	 */
+	public long[] getCells() {
+		long[] ids = new long[size];
+		int index = 0;
+		for (int i = 0; i < counts.length; i++) {
+			if (counts[i] > 0) {
+				ids[index++] = cells[i];
+			}
+		}
+		Arrays.sort(ids);
+		return ids;
+	}
+
+	/**
+	 * Visit each cell in table order
+	 *
+	 * @param visitor
+	 *            cell visitor
+	 */
+	public void forEach(Visitor visitor) {
+		for (int i = 0; i < counts.length; i++) {
+			if (counts[i] > 0) {
+				visitor.visit(cells[i], counts[i], sums[i]);
+			}
+		}
+	}
+
+	/**
+	 * Find the slot of the cell, or the empty slot where it belongs
+	 *
+	 * @param cell
+	 *            cell id
+	 * @return slot
+	 */
+	private int slot(long cell) {
+		int mask = cells.length - 1;
+		int slot = hash(cell) & mask;
+		while (counts[slot] > 0 && cells[slot] != cell) {
+			slot = (slot + 1) & mask;
+		}
+		return slot;
+	}
+
+	/**
+	 * Double the table capacity and rehash
+	 */
+	private void resize() {
+		long[] oldCells = cells;
+		long[] oldCounts = counts;
+		double[] oldSums = sums;
+		int slots = oldCells.length << 1;
+		cells = new long[slots];
+		counts = new long[slots];
+		sums = new double[slots];
+		for (int i = 0; i < oldCounts.length; i++) {
+			if (oldCounts[i] > 0) {
+				int slot = slot(oldCells[i]);
+				cells[slot] = oldCells[i];
+				counts[slot] = oldCounts[i];
+				sums[slot] = oldSums[i];
+			}
+		}
+	}
+
+	/**
+	 * Hash the cell id
+	 *
+	 * @param cell
+	 *            cell id
+	 * @return hash
+	 */
+	private static int hash(long cell) {
+		cell ^= cell >>> 33;
+		cell *= 0xff51afd7ed558ccdL;
+		cell ^= cell >>> 33;
+		return (int) cell;
+	}
+
+}
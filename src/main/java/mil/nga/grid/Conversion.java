@@ -0,0 +1,113 @@
+package mil.nga.grid;
+
+import mil.nga.grid.features.Point;
+import mil.nga.grid.features.Unit;
+import mil.nga.grid.tile.TileTransform;
+
+/**
+ * Degree and meter unit conversion engine, passed explicitly to conversion
+ * overloads such as {@link Point#toUnit(Unit, Conversion)} or held by a
+ * {@link TileTransform}. Conversions made without an engine use
+ * {@link #STRICT}.
+ *
+ * @author osbornb
+ */
+public enum Conversion {
+
+	/**
+	 * Exact Web Mercator conversions, the default
+	 */
+	STRICT {
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public double latitudeToMeters(double latitude) {
+			return GridUtils.latitudeToMeters(latitude);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public double latitudeToDegrees(double latitude) {
+			return GridUtils.latitudeToDegrees(latitude);
+		}
+
+	},
+
+	/**
+	 * Approximate Web Mercator latitude conversions using cubic Hermite
+	 * interpolation of lookup tables, intended for rendering. Conversion
+	 * error is less than {@link #FAST_MAX_ERROR_PIXELS} of a 256 pixel tile
+	 * at zoom level 21. Latitudes beyond the Web Mercator range fall back to
+	 * {@link #STRICT} conversions. Longitude conversions are linear and exact.
+	 */
+	FAST {
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public double latitudeToMeters(double latitude) {
+			return MercatorTables.latitudeToMeters(latitude);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public double latitudeToDegrees(double latitude) {
+			return MercatorTables.latitudeToDegrees(latitude);
+		}
+
+	};
+
+	/**
+	 * Max {@link #FAST} conversion error in pixels of a 256 pixel tile at zoom
+	 * level 21, about 0.75 millimeters
+	 */
+	public static final double FAST_MAX_ERROR_PIXELS = 0.01;
+
+	/**
+	 * Convert a longitude in degrees to meters
+	 *
+	 * @param longitude
+	 *            longitude in degrees
+	 * @return longitude in meters
+	 */
+	public double longitudeToMeters(double longitude) {
+		return GridUtils.longitudeToMeters(longitude);
+	}
+
+	/**
+	 * Convert a latitude in degrees to meters
+	 *
+	 * @param latitude
+	 *            latitude in degrees
+	 * @return latitude in meters
+	 */
+	public abstract double latitudeToMeters(double latitude);
+
+	/**
+	 * Convert a longitude in meters to degrees
+	 *
+	 * @param longitude
+	 *            longitude in meters
+	 * @return longitude in degrees
+	 */
+	public double longitudeToDegrees(double longitude) {
+		return GridUtils.longitudeToDegrees(longitude);
+	}
+
+	/**
+	 * Convert a latitude in meters to degrees
+	 *
+	 * @param latitude
+	 *            latitude in meters
+	 * @return latitude in degrees
+	 */
+	public abstract double latitudeToDegrees(double latitude);
+
+}
@@ -0,0 +1,180 @@
+package mil.nga.grid;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Grid configuration change event identifying the changed grid, the zoom
+ * interval affected, the change types, and the published version
+ * 
+ * @author osbornb
+ * @param <TGrid>
+ *            grid type
+ */
+public class GridChangeEvent<TGrid extends BaseGrid> {
+
+	/**
+	 * Changed grid
+	 */
+	private final TGrid grid;
+
+	/**
+	 * Minimum affected zoom
+	 */
+	private final int minZoom;
+
+	/**
+	 * Maximum affected zoom, null for no maximum
+	 */
+	private final Integer maxZoom;
+
+	/**
+	 * Change types
+	 */
+	private final Set<GridChangeType> types;
+
+	/**
+	 * Published configuration version
+	 */
+	private final long version;
+
+	/**
+	 * Constructor
+	 * 
+	 * @param grid
+	 *            changed grid
+	 * @param minZoom
+	 *            minimum affected zoom
+	 * @param maxZoom
+	 *            maximum affected zoom, null for no maximum
+	 * @param types
+	 *            change types
+	 * @param version
+	 *            published configuration version
+	 */
+	public GridChangeEvent(TGrid grid, int minZoom, Integer maxZoom,
+			Set<GridChangeType> types, long version) {
+		this.grid = grid;
+		this.minZoom = minZoom;
+		this.maxZoom = maxZoom;
+		this.types = Collections.unmodifiableSet(types.isEmpty()
+				? EnumSet.noneOf(GridChangeType.class)
+				: EnumSet.copyOf(types));
+		this.version = version;
+	}
+
+	/**
+	 * Get the changed grid
+	 * 
+	 * @return grid
+	 */
+	public TGrid getGrid() {
+		return grid;
+	}
+
+	/**
+	 * Get the minimum affected zoom
+	 * 
+	 * @return minimum zoom
+	 */
+	public int getMinZoom() {
+		return minZoom;
+	}
+
+	/**
+	 * Get the maximum affected zoom
+	 * 
+	 * @return maximum zoom, null for no maximum
+	 */
+	public Integer getMaxZoom() {
+		return maxZoom;
+	}
+
+	/**
+	 * Has a maximum affected zoom
+	 * 
+	 * @return true if has a maximum
+	 */
+	public boolean hasMaxZoom() {
+		return maxZoom != null;
+	}
+
+	/**
+	 * Is the zoom level within the affected zoom interval
+	 * 
+	 * @param zoom
+	 *            zoom level
+	 * @return true if affected
+	 */
+	public boolean isWithin(int zoom) {
+		return zoom >= minZoom && (maxZoom == null || zoom <= maxZoom);
+	}
+
+	/**
+	 * Get the change types
+	 * 
+	 * @return unmodifiable change types
+	 */
+	public Set<GridChangeType> getTypes() {
+		return types;
+	}
+
+	/**
+	 * Determine if the change includes the type
+	 * 
+	 * @param type
+	 *            change type
+	 * @return true if includes the type
+	 */
+	public boolean hasType(GridChangeType type) {
+		return types.contains(type);
+	}
+
+	/**
+	 * Did the change affect the grid lines
+	 * 
+	 * @return true if lines changed
+	 */
+	public boolean isLines() {
+		return hasType(GridChangeType.LINES);
+	}
+
+	/**
+	 * Did the change affect the grid labels
+	 * 
+	 * @return true if labels changed
+	 */
+	public boolean isLabels() {
+		return hasType(GridChangeType.LABELS);
+	}
+
+	/**
+	 * Did the change affect the grid line style
+	 * 
+	 * @return true if style changed
+	 */
+	public boolean isStyle() {
+		return hasType(GridChangeType.STYLE);
+	}
+
+	/**
+	 * Get the published configuration version
+	 * 
+	 * @return version
+	 */
+	public long getVersion() {
+		return version;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		return "GridChangeEvent [grid=" + grid + ", minZoom=" + minZoom
+				+ ", maxZoom=" + maxZoom + ", types=" + types + ", version="
+				+ version + "]";
+	}
+
+}
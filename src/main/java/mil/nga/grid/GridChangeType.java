@@ -0,0 +1,26 @@
+package mil.nga.grid;
+
+/**
+ * Grid change type enumeration of the drawn grid parts affected by a change
+ * 
+ * @author osbornb
+ */
+public enum GridChangeType {
+
+	/**
+	 * Grid lines, including grid enablement and zoom range changes
+	 */
+	LINES,
+
+	/**
+	 * Grid labels, including labeler enablement, zoom range, and buffer
+	 * changes
+	 */
+	LABELS,
+
+	/**
+	 * Grid line color and width
+	 */
+	STYLE;
+
+}
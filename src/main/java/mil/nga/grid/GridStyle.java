@@ -3,7 +3,8 @@ package mil.nga.grid;
 import mil.nga.color.Color;
 
 /**
- * Grid Line Style
+ * Grid Line Style, backed by the interned {@link RenderStyle} of its color
+ * and width
  * 
  * @author osbornb
  */
@@ -19,6 +20,11 @@ public class GridStyle {
 	 */
 	private double width;
 
+	/**
+	 * Cached interned render style, revalidated against the color and width
+	 */
+	private RenderStyle renderStyle;
+
 	/**
 	 * Create a new style
 	 * 
@@ -90,4 +96,22 @@ public class GridStyle {
 		this.width = width;
 	}
 
+	/**
+	 * Get the interned immutable render style of the current color and width,
+	 * cached until the color or width changes
+	 * 
+	 * @return render style
+	 */
+	public RenderStyle getRenderStyle() {
+		RenderStyle style = renderStyle;
+		int argb = color != null ? color.getColorWithAlpha()
+				: RenderStyle.BLACK;
+		if (style == null || style.getColor() != argb
+				|| style.getWidth() != (float) width) {
+			style = RenderStyle.style(argb, (float) width);
+			renderStyle = style;
+		}
+		return style;
+	}
+
 }
@@ -4,9 +4,12 @@ import mil.nga.grid.features.Bounds;
 import mil.nga.grid.features.Line;
 import mil.nga.grid.features.Point;
 import mil.nga.grid.features.Unit;
+import mil.nga.grid.tile.GridTile;
 import mil.nga.grid.tile.Pixel;
+import mil.nga.grid.tile.TileEdges;
+import mil.nga.grid.tile.TileKey;
+import mil.nga.grid.tile.TileTransform;
 import mil.nga.sf.util.GeometryConstants;
-import mil.nga.sf.util.GeometryUtils;
 
 /**
  * Grid utilities
@@ -15,6 +18,11 @@ import mil.nga.sf.util.GeometryUtils;
  */
 public class GridUtils {
 
+	/**
+	 * Natural logarithm of 2
+	 */
+	private static final double LOG_2 = Math.log(2);
+
 	/**
 	 * Get the pixel where the point fits into the bounds
 	 * 
@@ -39,6 +47,120 @@ public class GridUtils {
 		return new Pixel(x, y);
 	}
 
+	/**
+	 * Get the pixels where the coordinates fit into the bounds. The bounds are
+	 * converted once and no per coordinate objects are created. Pixels are
+	 * written to the pixels array as interleaved x and y values.
+	 * 
+	 * @param width
+	 *            width
+	 * @param height
+	 *            height
+	 * @param bounds
+	 *            bounds
+	 * @param longitudes
+	 *            longitudes
+	 * @param latitudes
+	 *            latitudes
+	 * @param unit
+	 *            unit of the longitudes and latitudes
+	 * @param pixels
+	 *            pixels array of at least twice the coordinate count, filled
+	 *            as [x0, y0, x1, y1, ...]
+	 */
+	public static void getPixels(int width, int height, Bounds bounds,
+			double[] longitudes, double[] latitudes, Unit unit,
+			float[] pixels) {
+
+		int count = longitudes.length;
+		if (latitudes.length != count) {
+			throw new IllegalArgumentException(
+					"Longitude and latitude counts differ. longitudes: "
+							+ count + ", latitudes: " + latitudes.length);
+		}
+		if (pixels.length < 2 * count) {
+			throw new IllegalArgumentException(
+					"Pixels array too small. required: " + (2 * count)
+							+ ", length: " + pixels.length);
+		}
+
+		bounds = bounds.toMeters();
+
+		double minLongitude = bounds.getMinLongitude();
+		double maxLatitude = bounds.getMaxLatitude();
+		double boxWidth = bounds.getMaxLongitude() - minLongitude;
+		double boxHeight = maxLatitude - bounds.getMinLatitude();
+
+		boolean degrees = unit == Unit.DEGREE;
+
+		for (int i = 0, p = 0; i < count; i++) {
+
+			double longitude = longitudes[i];
+			double latitude = latitudes[i];
+			if (degrees) {
+				longitude = longitudeToMeters(longitude);
+				latitude = latitudeToMeters(latitude);
+			}
+
+			pixels[p++] = (float) (((longitude - minLongitude) / boxWidth)
+					* width);
+			pixels[p++] = (float) (((maxLatitude - latitude) / boxHeight)
+					* height);
+		}
+
+	}
+
+	/**
+	 * Get the point at the pixel location within the bounds. Use
+	 * {@link GridTile#getPoint(double, double, Unit)} for repeated lookups to
+	 * reuse the tile transform.
+	 * 
+	 * @param width
+	 *            width
+	 * @param height
+	 *            height
+	 * @param bounds
+	 *            bounds
+	 * @param x
+	 *            x pixel
+	 * @param y
+	 *            y pixel
+	 * @param unit
+	 *            unit
+	 * @return point in unit
+	 */
+	public static Point getPoint(int width, int height, Bounds bounds,
+			double x, double y, Unit unit) {
+		return TileTransform.transform(width, height, bounds).getPoint(x, y,
+				unit);
+	}
+
+	/**
+	 * Get the coordinates of interleaved x and y pixel locations within the
+	 * bounds
+	 * 
+	 * @param width
+	 *            width
+	 * @param height
+	 *            height
+	 * @param bounds
+	 *            bounds
+	 * @param pixels
+	 *            pixels as [x0, y0, x1, y1, ...], of even length
+	 * @param unit
+	 *            unit of the coordinates
+	 * @param longitudes
+	 *            longitudes array of at least half the pixels length
+	 * @param latitudes
+	 *            latitudes array of at least half the pixels length
+	 */
+	public static void getCoordinates(int width, int height, Bounds bounds,
+			float[] pixels, Unit unit, double[] longitudes,
+			double[] latitudes) {
+		TileTransform.transform(width, height, bounds).getCoordinates(pixels,
+				unit, longitudes, latitudes);
+	}
+
 	/**
 	 * Get the X pixel for where the longitude in meters fits into the bounds
 	 *
@@ -98,21 +220,36 @@ public class GridUtils {
 	 */
 	public static Bounds getBounds(int x, int y, int zoom) {
 
-		int tilesPerSide = tilesPerSide(zoom);
-		double tileSize = tileSize(tilesPerSide);
-
-		double minLon = (-1 * GeometryConstants.WEB_MERCATOR_HALF_WORLD_WIDTH)
-				+ (x * tileSize);
-		double minLat = GeometryConstants.WEB_MERCATOR_HALF_WORLD_WIDTH
-				- ((y + 1) * tileSize);
-		double maxLon = (-1 * GeometryConstants.WEB_MERCATOR_HALF_WORLD_WIDTH)
-				+ ((x + 1) * tileSize);
-		double maxLat = GeometryConstants.WEB_MERCATOR_HALF_WORLD_WIDTH
-				- (y * tileSize);
+		double minLon = TileEdges.getLongitudeMeters(x, zoom);
+		double minLat = TileEdges.getLatitudeMeters(y + 1, zoom);
+		double maxLon = TileEdges.getLongitudeMeters(x + 1, zoom);
+		double maxLat = TileEdges.getLatitudeMeters(y, zoom);
 
 		return Bounds.meters(minLon, minLat, maxLon, maxLat);
 	}
 
+	/**
+	 * Get the tile bounds in degrees from the XYZ tile coordinates and zoom
+	 * level, using tile edge lookup tables
+	 *
+	 * @param x
+	 *            x coordinate
+	 * @param y
+	 *            y coordinate
+	 * @param zoom
+	 *            zoom level
+	 * @return bounds in degrees
+	 */
+	public static Bounds getBoundsDegrees(int x, int y, int zoom) {
+
+		double minLon = TileEdges.getLongitudeDegrees(x, zoom);
+		double minLat = TileEdges.getLatitudeDegrees(y + 1, zoom);
+		double maxLon = TileEdges.getLongitudeDegrees(x + 1, zoom);
+		double maxLat = TileEdges.getLatitudeDegrees(y, zoom);
+
+		return Bounds.degrees(minLon, minLat, maxLon, maxLat);
+	}
+
 	/**
 	 * Get the tiles per side, width and height, at the zoom level
 	 *
@@ -121,7 +258,7 @@ public class GridUtils {
 	 * @return tiles per side
 	 */
 	public static int tilesPerSide(int zoom) {
-		return (int) Math.pow(2, zoom);
+		return TileKey.tilesPerSide(zoom);
 	}
 
 	/**
@@ -148,7 +285,7 @@ public class GridUtils {
 		double tileSize = Math.min(bounds.getWidth(), bounds.getHeight());
 		double tilesPerSide = 2
 				* GeometryConstants.WEB_MERCATOR_HALF_WORLD_WIDTH / tileSize;
-		return Math.log(tilesPerSide) / Math.log(2);
+		return Math.log(tilesPerSide) / LOG_2;
 	}
 
 	/**
@@ -188,18 +325,86 @@ public class GridUtils {
 	 * @return point in unit
 	 */
 	public static Point toUnit(double longitude, double latitude, Unit unit) {
-		mil.nga.sf.Point point = null;
+		double lon;
+		double lat;
 		switch (unit) {
 		case DEGREE:
-			point = GeometryUtils.metersToDegrees(longitude, latitude);
+			lon = longitudeToDegrees(longitude);
+			lat = latitudeToDegrees(latitude);
 			break;
 		case METER:
-			point = GeometryUtils.degreesToMeters(longitude, latitude);
+			lon = longitudeToMeters(longitude);
+			lat = latitudeToMeters(latitude);
 			break;
 		default:
 			throw new IllegalArgumentException("Unsupported unit: " + unit);
 		}
-		return Point.point(point, unit);
+		return Point.point(lon, lat, unit);
+	}
+
+	/**
+	 * Convert a longitude in degrees to meters
+	 * 
+	 * @param longitude
+	 *            longitude in degrees
+	 * @return longitude in meters
+	 */
+	public static double longitudeToMeters(double longitude) {
+		if (longitude < -GeometryConstants.WGS84_HALF_WORLD_LON_WIDTH) {
+			longitude += 2 * GeometryConstants.WGS84_HALF_WORLD_LON_WIDTH;
+		} else if (longitude > GeometryConstants.WGS84_HALF_WORLD_LON_WIDTH) {
+			longitude -= 2 * GeometryConstants.WGS84_HALF_WORLD_LON_WIDTH;
+		}
+		return longitude * GeometryConstants.WEB_MERCATOR_HALF_WORLD_WIDTH
+				/ GeometryConstants.WGS84_HALF_WORLD_LON_WIDTH;
+	}
+
+	/**
+	 * Convert a latitude in degrees to meters
+	 * 
+	 * @param latitude
+	 *            latitude in degrees
+	 * @return latitude in meters
+	 */
+	public static double latitudeToMeters(double latitude) {
+		latitude = Math.min(latitude,
+				GeometryConstants.WGS84_HALF_WORLD_LAT_HEIGHT);
+		latitude = Math.max(latitude,
+				GeometryConstants.DEGREES_TO_METERS_MIN_LAT);
+		double meters = Math.log(Math.tan(
+				(GeometryConstants.WGS84_HALF_WORLD_LAT_HEIGHT + latitude)
+						* Math.PI
+						/ (2 * GeometryConstants.WGS84_HALF_WORLD_LON_WIDTH)))
+				/ GeometryConstants.DEGREES_TO_RADIANS;
+		return meters * GeometryConstants.WEB_MERCATOR_HALF_WORLD_WIDTH
+				/ GeometryConstants.WGS84_HALF_WORLD_LON_WIDTH;
+	}
+
+	/**
+	 * Convert a longitude in meters to degrees
+	 * 
+	 * @param longitude
+	 *            longitude in meters
+	 * @return longitude in degrees
+	 */
+	public static double longitudeToDegrees(double longitude) {
+		return longitude * GeometryConstants.WGS84_HALF_WORLD_LON_WIDTH
+				/ GeometryConstants.WEB_MERCATOR_HALF_WORLD_WIDTH;
+	}
+
+	/**
+	 * Convert a latitude in meters to degrees
+	 * 
+	 * @param latitude
+	 *            latitude in meters
+	 * @return latitude in degrees
+	 */
+	public static double latitudeToDegrees(double latitude) {
+		double degrees = latitude * GeometryConstants.WGS84_HALF_WORLD_LON_WIDTH
+				/ GeometryConstants.WEB_MERCATOR_HALF_WORLD_WIDTH;
+		return Math.atan(Math.exp(degrees * GeometryConstants.DEGREES_TO_RADIANS))
+				/ Math.PI * (4 * GeometryConstants.WGS84_HALF_WORLD_LAT_HEIGHT)
+				- GeometryConstants.WGS84_HALF_WORLD_LAT_HEIGHT;
 	}
 
 	/**
@@ -280,16 +485,72 @@ public class GridUtils {
 
 		Point intersection = null;
 
-		mil.nga.sf.Point point = GeometryUtils.intersection(
-				line1Point1.toMeters(), line1Point2.toMeters(),
-				line2Point1.toMeters(), line2Point2.toMeters());
+		Unit unit = line1Point1.getUnit();
+
+		line1Point1 = line1Point1.toMeters();
+		line1Point2 = line1Point2.toMeters();
+		line2Point1 = line2Point1.toMeters();
+		line2Point2 = line2Point2.toMeters();
 
-		if (point != null) {
-			intersection = Point.point(point, Unit.METER)
-					.toUnit(line1Point1.getUnit());
+		double[] point = new double[2];
+		if (intersection(line1Point1.getLongitude(), line1Point1.getLatitude(),
+				line1Point2.getLongitude(), line1Point2.getLatitude(),
+				line2Point1.getLongitude(), line2Point1.getLatitude(),
+				line2Point2.getLongitude(), line2Point2.getLatitude(), point,
+				0)) {
+			intersection = Point.meters(point[0], point[1]).toUnit(unit);
 		}
 
 		return intersection;
 	}
 
+	/**
+	 * Get the point intersection between the infinite lines through two
+	 * segments, using primitive coordinates in the same unit
+	 * 
+	 * @param x1
+	 *            first line first x
+	 * @param y1
+	 *            first line first y
+	 * @param x2
+	 *            first line second x
+	 * @param y2
+	 *            first line second y
+	 * @param x3
+	 *            second line first x
+	 * @param y3
+	 *            second line first y
+	 * @param x4
+	 *            second line second x
+	 * @param y4
+	 *            second line second y
+	 * @param intersection
+	 *            intersection array, written as [x, y] at the offset
+	 * @param offset
+	 *            intersection array offset
+	 * @return true if the lines intersect, false if parallel
+	 */
+	public static boolean intersection(double x1, double y1, double x2,
+			double y2, double x3, double y3, double x4, double y4,
+			double[] intersection, int offset) {
+
+		double a1 = y2 - y1;
+		double b1 = x1 - x2;
+		double c1 = a1 * x1 + b1 * y1;
+
+		double a2 = y4 - y3;
+		double b2 = x3 - x4;
+		double c2 = a2 * x3 + b2 * y3;
+
+		double determinant = a1 * b2 - a2 * b1;
+
+		boolean intersects = determinant != 0;
+		if (intersects) {
+			intersection[offset] = (b2 * c1 - b1 * c2) / determinant;
+			intersection[offset + 1] = (a1 * c2 - a2 * c1) / determinant;
+		}
+
+		return intersects;
+	}
+
 }
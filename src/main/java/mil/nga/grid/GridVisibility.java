@@ -0,0 +1,294 @@
+package mil.nga.grid;
+
+import java.util.Collection;
+
+/**
+ * Grid visibility index of enabled, lines, and labeler bitmasks per zoom
+ * level, with one bit per grid ordinal. Supports up to {@link #MAX_GRIDS}
+ * grids. Published instances are not modified.
+ *
+ * @author osbornb
+ */
+public final class GridVisibility {
+
+	/**
+	 * Maximum number of grids
+	 */
+	public static final int MAX_GRIDS = Long.SIZE;
+
+	/**
+	 * Grids by ordinal
+	 */
+	private final BaseGrid[] grids;
+
+	/**
+	 * Enabled grids per zoom level
+	 */
+	private final long[] enabled;
+
+	/**
+	 * Enabled grids with visible lines per zoom level
+	 */
+	private final long[] lines;
+
+	/**
+	 * Enabled grids with visible labelers per zoom level
+	 */
+	private final long[] labelers;
+
+	/**
+	 * Build a visibility index from the current grid states
+	 *
+	 * @param grids
+	 *            grids in ordinal order
+	 * @return visibility index
+	 * @throws IllegalStateException
+	 *             if more than {@link #MAX_GRIDS} grids
+	 */
+	static GridVisibility build(Collection<? extends BaseGrid> grids) {
+		if (grids.size() > MAX_GRIDS) {
+			throw new IllegalStateException(
+					"Grid visibility supports at most " + MAX_GRIDS
+							+ " grids. grids: " + grids.size());
+		}
+		GridVisibility visibility = new GridVisibility(
+				grids.toArray(new BaseGrid[0]),
+				new long[GridConstants.MAX_MAP_ZOOM_LEVEL + 1],
+				new long[GridConstants.MAX_MAP_ZOOM_LEVEL + 1],
+				new long[GridConstants.MAX_MAP_ZOOM_LEVEL + 1]);
+		for (int ordinal = 0; ordinal < visibility.grids.length; ordinal++) {
+			BaseGrid grid = visibility.grids[ordinal];
+			if (grid.isEnabled()) {
+				for (int zoom = 0; zoom <= GridConstants.MAX_MAP_ZOOM_LEVEL; zoom++) {
+					if (grid.isWithin(zoom)) {
+						visibility.set(ordinal, zoom);
+					}
+				}
+			}
+		}
+		return visibility;
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param grids
+	 *            grids by ordinal
+	 * @param enabled
+	 *            enabled masks
+	 * @param lines
+	 *            lines masks
+	 * @param labelers
+	 *            labeler masks
+	 */
+	private GridVisibility(BaseGrid[] grids, long[] enabled, long[] lines,
+			long[] labelers) {
+		this.grids = grids;
+		this.enabled = enabled;
+		this.lines = lines;
+		this.labelers = labelers;
+	}
+
+	/**
+	 * Create an unpublished copy for modification
+	 *
+	 * @return visibility copy
+	 */
+	GridVisibility copy() {
+		return new GridVisibility(grids, enabled.clone(), lines.clone(),
+				labelers.clone());
+	}
+
+	/**
+	 * Set the grid as enabled at the zoom level, with lines and labeler bits
+	 * from the grid state. Disabled grids are cleared. Only for unpublished
+	 * copies.
+	 *
+	 * @param ordinal
+	 *            grid ordinal
+	 * @param zoom
+	 *            zoom level
+	 */
+	void set(int ordinal, int zoom) {
+		BaseGrid grid = grids[ordinal];
+		if (!grid.isEnabled()) {
+			clear(ordinal, zoom);
+		} else if (isZoomLevel(zoom)) {
+			long bit = 1L << ordinal;
+			enabled[zoom] |= bit;
+			if (grid.isLinesWithin(zoom)) {
+				lines[zoom] |= bit;
+			} else {
+				lines[zoom] &= ~bit;
+			}
+			if (grid.isLabelerWithin(zoom)) {
+				labelers[zoom] |= bit;
+			} else {
+				labelers[zoom] &= ~bit;
+			}
+		}
+	}
+
+	/**
+	 * Clear the grid at the zoom level. Only for unpublished copies.
+	 *
+	 * @param ordinal
+	 *            grid ordinal
+	 * @param zoom
+	 *            zoom level
+	 */
+	void clear(int ordinal, int zoom) {
+		if (isZoomLevel(zoom)) {
+			long mask = ~(1L << ordinal);
+			enabled[zoom] &= mask;
+			lines[zoom] &= mask;
+			labelers[zoom] &= mask;
+		}
+	}
+
+	/**
+	 * Determine if the zoom level is within the indexed map zoom levels
+	 *
+	 * @param zoom
+	 *            zoom level
+	 * @return true if indexed
+	 */
+	public static boolean isZoomLevel(int zoom) {
+		return zoom >= 0 && zoom <= GridConstants.MAX_MAP_ZOOM_LEVEL;
+	}
+
+	/**
+	 * Get the number of grids
+	 *
+	 * @return number of grids
+	 */
+	public int numGrids() {
+		return grids.length;
+	}
+
+	/**
+	 * Get the grid ordinal
+	 *
+	 * @param grid
+	 *            grid
+	 * @return ordinal, or -1 if not indexed
+	 */
+	public int getOrdinal(BaseGrid grid) {
+		int ordinal = -1;
+		for (int i = 0; i < grids.length; i++) {
+			if (grids[i] == grid) {
+				ordinal = i;
+				break;
+			}
+		}
+		return ordinal;
+	}
+
+	/**
+	 * Get the grid by ordinal
+	 *
+	 * @param ordinal
+	 *            grid ordinal
+	 * @return grid
+	 */
+	public BaseGrid getGrid(int ordinal) {
+		return grids[ordinal];
+	}
+
+	/**
+	 * Get the enabled grids bitmask at the zoom level, by grid ordinal
+	 *
+	 * @param zoom
+	 *            map zoom level
+	 * @return enabled grids bitmask
+	 */
+	public long getEnabled(int zoom) {
+		return enabled[zoom];
+	}
+
+	/**
+	 * Get the grids with visible lines bitmask at the zoom level, by grid
+	 * ordinal
+	 *
+	 * @param zoom
+	 *            map zoom level
+	 * @return lines bitmask
+	 */
+	public long getLines(int zoom) {
+		return lines[zoom];
+	}
+
+	/**
+	 * Get the grids with visible labelers bitmask at the zoom level, by grid
+	 * ordinal
+	 *
+	 * @param zoom
+	 *            map zoom level
+	 * @return labelers bitmask
+	 */
+	public long getLabelers(int zoom) {
+		return labelers[zoom];
+	}
+
+	/**
+	 * Determine if any grid is enabled at the zoom level
+	 *
+	 * @param zoom
+	 *            map zoom level
+	 * @return true if has grids
+	 */
+	public boolean hasGrids(int zoom) {
+		return enabled[zoom] != 0;
+	}
+
+	/**
+	 * Get the number of grids enabled at the zoom level
+	 *
+	 * @param zoom
+	 *            map zoom level
+	 * @return number of grids
+	 */
+	public int numGrids(int zoom) {
+		return Long.bitCount(enabled[zoom]);
+	}
+
+	/**
+	 * Is the grid enabled at the zoom level
+	 *
+	 * @param ordinal
+	 *            grid ordinal
+	 * @param zoom
+	 *            map zoom level
+	 * @return true if enabled
+	 */
+	public boolean isEnabled(int ordinal, int zoom) {
+		return (enabled[zoom] & (1L << ordinal)) != 0;
+	}
+
+	/**
+	 * Are the grid lines visible at the zoom level
+	 *
+	 * @param ordinal
+	 *            grid ordinal
+	 * @param zoom
+	 *            map zoom level
+	 * @return true if lines are visible
+	 */
+	public boolean isLines(int ordinal, int zoom) {
+		return (lines[zoom] & (1L << ordinal)) != 0;
+	}
+
+	/**
+	 * Is the grid labeler visible at the zoom level
+	 *
+	 * @param ordinal
+	 *            grid ordinal
+	 * @param zoom
+	 *            map zoom level
+	 * @return true if labeler is visible
+	 */
+	public boolean isLabeler(int ordinal, int zoom) {
+		return (labelers[zoom] & (1L << ordinal)) != 0;
+	}
+
+}
@@ -0,0 +1,25 @@
+package mil.nga.grid;
+
+import java.util.List;
+
+/**
+ * Grids configuration change listener, notified after each published
+ * configuration version that changed grids
+ * 
+ * @author osbornb
+ * @param <TGrid>
+ *            grid type
+ */
+public interface GridsListener<TGrid extends BaseGrid> {
+
+	/**
+	 * Grids changed, called outside of the grids lock after the version is
+	 * published. Versions are delivered one at a time in version order, so
+	 * changes made by a listener are delivered after the current version.
+	 * 
+	 * @param events
+	 *            grid change events of the version, one per changed grid
+	 */
+	public void gridsChanged(List<GridChangeEvent<TGrid>> events);
+
+}
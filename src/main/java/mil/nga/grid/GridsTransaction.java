@@ -0,0 +1,318 @@
+package mil.nga.grid;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import mil.nga.color.Color;
+
+/**
+ * Staged grid enablement, zoom range, style, and labeler changes, committed
+ * to the grids together as a single new configuration version. Changes are
+ * applied in the order staged. Invalid changes, including null grids and
+ * grids not of the transaction grids, are rejected when staged.
+ *
+ * @author osbornb
+ * @param <TGrid>
+ *            grid type
+ */
+public class GridsTransaction<TGrid extends BaseGrid> {
+
+	/**
+	 * Grids
+	 */
+	private final BaseGrids<TGrid, ?> grids;
+
+	/**
+	 * Staged changes
+	 */
+	private final List<Runnable> changes = new ArrayList<>();
+
+	/**
+	 * Constructor
+	 *
+	 * @param grids
+	 *            grids
+	 */
+	GridsTransaction(BaseGrids<TGrid, ?> grids) {
+		this.grids = grids;
+	}
+
+	/**
+	 * Get the number of staged changes
+	 *
+	 * @return number of changes
+	 */
+	public int size() {
+		return changes.size();
+	}
+
+	/**
+	 * Determine if no changes are staged
+	 *
+	 * @return true if empty
+	 */
+	public boolean isEmpty() {
+		return changes.isEmpty();
+	}
+
+	/**
+	 * Stage enabling the grid
+	 *
+	 * @param grid
+	 *            grid
+	 * @return this transaction
+	 */
+	public GridsTransaction<TGrid> enable(TGrid grid) {
+		return setEnabled(grid, true);
+	}
+
+	/**
+	 * Stage disabling the grid
+	 *
+	 * @param grid
+	 *            grid
+	 * @return this transaction
+	 */
+	public GridsTransaction<TGrid> disable(TGrid grid) {
+		return setEnabled(grid, false);
+	}
+
+	/**
+	 * Stage enabling or disabling the grid
+	 *
+	 * @param grid
+	 *            grid
+	 * @param enabled
+	 *            enabled value
+	 * @return this transaction
+	 */
+	public GridsTransaction<TGrid> setEnabled(TGrid grid, boolean enabled) {
+		validateGrid(grid);
+		changes.add(() -> grid.setEnabled(enabled));
+		return this;
+	}
+
+	/**
+	 * Stage setting the grid minimum zoom, raising the maximum zoom if below
+	 *
+	 * @param grid
+	 *            grid
+	 * @param minZoom
+	 *            minimum zoom
+	 * @return this transaction
+	 */
+	public GridsTransaction<TGrid> setMinZoom(TGrid grid, int minZoom) {
+		validateGrid(grid);
+		changes.add(() -> {
+			Integer maxZoom = grid.getMaxZoom();
+			if (maxZoom != null && maxZoom < minZoom) {
+				grid.setMaxZoom(minZoom);
+			}
+			grid.setMinZoom(minZoom);
+		});
+		return this;
+	}
+
+	/**
+	 * Stage setting the grid maximum zoom, lowering the minimum zoom if above
+	 *
+	 * @param grid
+	 *            grid
+	 * @param maxZoom
+	 *            maximum zoom
+	 * @return this transaction
+	 */
+	public GridsTransaction<TGrid> setMaxZoom(TGrid grid, Integer maxZoom) {
+		validateGrid(grid);
+		changes.add(() -> {
+			if (maxZoom != null && grid.getMinZoom() > maxZoom) {
+				grid.setMinZoom(maxZoom);
+			}
+			grid.setMaxZoom(maxZoom);
+		});
+		return this;
+	}
+
+	/**
+	 * Stage setting the grid zoom range
+	 *
+	 * @param grid
+	 *            grid
+	 * @param minZoom
+	 *            minimum zoom
+	 * @param maxZoom
+	 *            maximum zoom
+	 * @return this transaction
+	 */
+	public GridsTransaction<TGrid> setZoomRange(TGrid grid, int minZoom,
+			Integer maxZoom) {
+		validateGrid(grid);
+		if (maxZoom != null && maxZoom < minZoom) {
+			throw new IllegalArgumentException("Min zoom '" + minZoom
+					+ "' can not be larger than max zoom '" + maxZoom + "'");
+		}
+		changes.add(() -> {
+			grid.setMinZoom(minZoom);
+			grid.setMaxZoom(maxZoom);
+		});
+		return this;
+	}
+
+	/**
+	 * Stage setting the grid line color
+	 *
+	 * @param grid
+	 *            grid
+	 * @param color
+	 *            grid line color
+	 * @return this transaction
+	 */
+	public GridsTransaction<TGrid> setColor(TGrid grid, Color color) {
+		validateGrid(grid);
+		Color copy = color != null ? color.copy() : null;
+		changes.add(() -> grid.setColor(copy));
+		return this;
+	}
+
+	/**
+	 * Stage setting the grid line width
+	 *
+	 * @param grid
+	 *            grid
+	 * @param width
+	 *            grid line width
+	 * @return this transaction
+	 */
+	public GridsTransaction<TGrid> setWidth(TGrid grid, double width) {
+		validateGrid(grid);
+		changes.add(() -> grid.setWidth(width));
+		return this;
+	}
+
+	/**
+	 * Stage enabling or disabling the grid labeler, if the grid has one
+	 *
+	 * @param grid
+	 *            grid
+	 * @param enabled
+	 *            enabled value
+	 * @return this transaction
+	 */
+	public GridsTransaction<TGrid> setLabelerEnabled(TGrid grid,
+			boolean enabled) {
+		validateGrid(grid);
+		changes.add(() -> {
+			Labeler labeler = grid.getLabeler();
+			if (labeler != null) {
+				labeler.setEnabled(enabled);
+			}
+		});
+		return this;
+	}
+
+	/**
+	 * Stage setting the grid label edge buffer, if the grid has a labeler
+	 *
+	 * @param grid
+	 *            grid
+	 * @param buffer
+	 *            label buffer (greater than or equal to 0.0 and less than 0.5)
+	 * @return this transaction
+	 */
+	public GridsTransaction<TGrid> setLabelBuffer(TGrid grid, double buffer) {
+		validateGrid(grid);
+		validateBuffer(buffer);
+		changes.add(() -> {
+			Labeler labeler = grid.getLabeler();
+			if (labeler != null) {
+				labeler.setBuffer(buffer);
+			}
+		});
+		return this;
+	}
+
+	/**
+	 * Stage enabling all grid labelers
+	 *
+	 * @return this transaction
+	 */
+	public GridsTransaction<TGrid> enableAllLabelers() {
+		changes.add(() -> {
+			for (TGrid grid : grids.grids()) {
+				Labeler labeler = grid.getLabeler();
+				if (labeler != null) {
+					labeler.setEnabled(true);
+				}
+			}
+		});
+		return this;
+	}
+
+	/**
+	 * Stage setting all label grid edge buffers
+	 *
+	 * @param buffer
+	 *            label buffer (greater than or equal to 0.0 and less than 0.5)
+	 * @return this transaction
+	 */
+	public GridsTransaction<TGrid> setAllLabelBuffers(double buffer) {
+		validateBuffer(buffer);
+		changes.add(() -> {
+			for (TGrid grid : grids.grids()) {
+				Labeler labeler = grid.getLabeler();
+				if (labeler != null) {
+					labeler.setBuffer(buffer);
+				}
+			}
+		});
+		return this;
+	}
+
+	/**
+	 * Apply the staged changes and publish the zoom grids as a single new
+	 * configuration version, clearing the staged changes. No version is
+	 * published when no changes are staged. When a staged change throws, the
+	 * changes applied before it are still published and the exception is
+	 * rethrown.
+	 *
+	 * @return committed configuration version, or the current version if no
+	 *         changes
+	 */
+	public long commit() {
+		List<Runnable> staged = new ArrayList<>(changes);
+		changes.clear();
+		return grids.commit(staged);
+	}
+
+	/**
+	 * Validate a grid is one of the transaction grids
+	 *
+	 * @param grid
+	 *            grid
+	 */
+	private void validateGrid(TGrid grid) {
+		if (grid == null) {
+			throw new IllegalArgumentException("Grid can not be null");
+		}
+		if (!grids.grids().contains(grid)) {
+			throw new IllegalArgumentException(
+					"Grid is not one of the transaction grids. grid: "
+							+ grid);
+		}
+	}
+
+	/**
+	 * Validate a label buffer
+	 *
+	 * @param buffer
+	 *            label buffer
+	 */
+	private static void validateBuffer(double buffer) {
+		if (buffer < 0.0 || buffer >= 0.5) {
+			throw new IllegalArgumentException(
+					"Grid edge buffer must be >= 0 and < 0.5. buffer: "
+							+ buffer);
+		}
+	}
+
+}
@@ -0,0 +1,305 @@
+package mil.nga.grid;
+
+import java.util.function.DoubleConsumer;
+import java.util.stream.DoubleStream;
+import java.util.stream.LongStream;
+
+import mil.nga.grid.features.Bounds;
+
+/**
+ * Immutable one dimensional lattice of grid line values at a precision.
+ * Values are computed as an integer index times the precision, avoiding the
+ * drift of repeatedly adding the precision. Index ranges match the bounds
+ * produced by {@link Bounds#toPrecision(double)}.
+ *
+ * @author osbornb
+ */
+public final class Lattice {
+
+	/**
+	 * Precision
+	 */
+	private final double precision;
+
+	/**
+	 * Minimum index, inclusive
+	 */
+	private final long minIndex;
+
+	/**
+	 * Maximum index, inclusive
+	 */
+	private final long maxIndex;
+
+	/**
+	 * Create a lattice of longitude grid lines in degrees, minimally
+	 * containing the bounds longitudes
+	 *
+	 * @param bounds
+	 *            bounds
+	 * @param precision
+	 *            precision in degrees
+	 * @return longitude lattice
+	 */
+	public static Lattice longitudes(Bounds bounds, double precision) {
+		bounds = bounds.toDegrees();
+		return lattice(bounds.getMinLongitude(), bounds.getMaxLongitude(),
+				precision);
+	}
+
+	/**
+	 * Create a lattice of latitude grid lines in degrees, minimally
+	 * containing the bounds latitudes
+	 *
+	 * @param bounds
+	 *            bounds
+	 * @param precision
+	 *            precision in degrees
+	 * @return latitude lattice
+	 */
+	public static Lattice latitudes(Bounds bounds, double precision) {
+		bounds = bounds.toDegrees();
+		return lattice(bounds.getMinLatitude(), bounds.getMaxLatitude(),
+				precision);
+	}
+
+	/**
+	 * Create a lattice minimally containing the range, from the precision
+	 * value before the min to the precision value after the max
+	 *
+	 * @param min
+	 *            min value
+	 * @param max
+	 *            max value
+	 * @param precision
+	 *            precision
+	 * @return lattice
+	 */
+	public static Lattice lattice(double min, double max, double precision) {
+		validatePrecision(precision);
+		long minIndex = index(GridUtils.precisionBefore(min, precision),
+				precision);
+		long maxIndex = index(GridUtils.precisionAfter(max, precision),
+				precision);
+		return new Lattice(precision, minIndex, maxIndex);
+	}
+
+	/**
+	 * Create a lattice of indices
+	 *
+	 * @param precision
+	 *            precision
+	 * @param minIndex
+	 *            minimum index, inclusive
+	 * @param maxIndex
+	 *            maximum index, inclusive
+	 * @return lattice
+	 */
+	public static Lattice lattice(double precision, long minIndex,
+			long maxIndex) {
+		validatePrecision(precision);
+		return new Lattice(precision, minIndex, maxIndex);
+	}
+
+	/**
+	 * Validate the precision is a finite value greater than 0
+	 *
+	 * @param precision
+	 *            precision
+	 */
+	private static void validatePrecision(double precision) {
+		if (!(precision > 0.0) || Double.isInfinite(precision)) {
+			throw new IllegalArgumentException(
+					"Precision must be finite and greater than 0. precision: "
+							+ precision);
+		}
+	}
+
+	/**
+	 * Get the lattice index of a precision value
+	 *
+	 * @param value
+	 *            precision value
+	 * @param precision
+	 *            precision
+	 * @return index
+	 */
+	private static long index(double value, double precision) {
+		return Math.round(value / precision);
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param precision
+	 *            precision
+	 * @param minIndex
+	 *            minimum index, inclusive
+	 * @param maxIndex
+	 *            maximum index, inclusive
+	 */
+	private Lattice(double precision, long minIndex, long maxIndex) {
+		if (maxIndex < minIndex) {
+			throw new IllegalArgumentException("Min index '" + minIndex
+					+ "' can not be larger than max index '" + maxIndex + "'");
+		}
+		this.precision = precision;
+		this.minIndex = minIndex;
+		this.maxIndex = maxIndex;
+	}
+
+	/**
+	 * Get the precision
+	 *
+	 * @return precision
+	 */
+	public double getPrecision() {
+		return precision;
+	}
+
+	/**
+	 * Get the minimum index, inclusive
+	 *
+	 * @return minimum index
+	 */
+	public long getMinIndex() {
+		return minIndex;
+	}
+
+	/**
+	 * Get the maximum index, inclusive
+	 *
+	 * @return maximum index
+	 */
+	public long getMaxIndex() {
+		return maxIndex;
+	}
+
+	/**
+	 * Get the number of values
+	 *
+	 * @return number of values
+	 */
+	public long size() {
+		return maxIndex - minIndex + 1;
+	}
+
+	/**
+	 * Get the minimum value
+	 *
+	 * @return minimum value
+	 */
+	public double getMin() {
+		return getValue(minIndex);
+	}
+
+	/**
+	 * Get the maximum value
+	 *
+	 * @return maximum value
+	 */
+	public double getMax() {
+		return getValue(maxIndex);
+	}
+
+	/**
+	 * Get the value at the lattice index
+	 *
+	 * @param index
+	 *            lattice index
+	 * @return value
+	 */
+	public double getValue(long index) {
+		return index * precision;
+	}
+
+	/**
+	 * Get the value at the position from the minimum index
+	 *
+	 * @param position
+	 *            position, 0 to size - 1
+	 * @return value
+	 */
+	public double get(long position) {
+		return getValue(minIndex + position);
+	}
+
+	/**
+	 * Pass each value to the sink in increasing order
+	 *
+	 * @param sink
+	 *            value sink
+	 */
+	public void forEach(DoubleConsumer sink) {
+		for (long index = minIndex; index <= maxIndex; index++) {
+			sink.accept(index * precision);
+		}
+	}
+
+	/**
+	 * Fill the values array from the offset with values in increasing order,
+	 * up to the array length
+	 *
+	 * @param values
+	 *            values array
+	 * @param offset
+	 *            array offset, 0 to the array length
+	 * @return number of values written
+	 * @throws IndexOutOfBoundsException
+	 *             if the offset is outside the array
+	 */
+	public int fill(double[] values, int offset) {
+		if (offset < 0 || offset > values.length) {
+			throw new IndexOutOfBoundsException("Offset '" + offset
+					+ "' is outside the values array of length '"
+					+ values.length + "'");
+		}
+		int count = (int) Math.min(size(), values.length - offset);
+		for (int i = 0; i < count; i++) {
+			values[offset + i] = (minIndex + i) * precision;
+		}
+		return count;
+	}
+
+	/**
+	 * Get the values as a new array
+	 *
+	 * @return values
+	 */
+	public double[] toArray() {
+		double[] values = new double[Math.toIntExact(size())];
+		fill(values, 0);
+		return values;
+	}
+
+	/**
+	 * Stream the values in increasing order, splitting evenly when parallel
+	 *
+	 * @return value stream
+	 */
+	public DoubleStream stream() {
+		return LongStream.rangeClosed(minIndex, maxIndex)
+				.mapToDouble(this::getValue);
+	}
+
+	/**
+	 * Split the lattice into contiguous index ranges for parallel work
+	 *
+	 * @param parts
+	 *            maximum number of parts
+	 * @return lattice parts in increasing order
+	 */
+	public Lattice[] split(int parts) {
+		int count = (int) Math.max(1, Math.min(parts, size()));
+		Lattice[] split = new Lattice[count];
+		long size = size();
+		long start = minIndex;
+		for (int i = 0; i < count; i++) {
+			long end = minIndex + (size * (i + 1)) / count - 1;
+			split[i] = new Lattice(precision, start, end);
+			start = end + 1;
+		}
+		return split;
+	}
+
+}
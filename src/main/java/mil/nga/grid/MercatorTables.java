@@ -0,0 +1,159 @@
+package mil.nga.grid;
+
+import mil.nga.sf.util.GeometryConstants;
+
+/**
+ * Web Mercator latitude lookup tables storing values and derivatives for
+ * cubic Hermite interpolation, used by {@link Conversion#FAST}. Tables are
+ * built on first use, about 150 KB in total.
+ *
+ * @author osbornb
+ */
+class MercatorTables {
+
+	/**
+	 * Degree latitude table step, in degrees
+	 */
+	private static final double DEGREES_STEP = 1.0 / 32.0;
+
+	/**
+	 * Meter latitude table node count
+	 */
+	private static final int METERS_NODES = 4096;
+
+	/**
+	 * Degree latitude table minimum latitude
+	 */
+	private static final double DEGREES_MIN = GeometryConstants.WEB_MERCATOR_MIN_LAT_RANGE;
+
+	/**
+	 * Degree latitude table maximum latitude
+	 */
+	private static final double DEGREES_MAX = GeometryConstants.WEB_MERCATOR_MAX_LAT_RANGE;
+
+	/**
+	 * Meter latitude table minimum latitude
+	 */
+	private static final double METERS_MIN = -GeometryConstants.WEB_MERCATOR_HALF_WORLD_WIDTH;
+
+	/**
+	 * Meter latitude table maximum latitude
+	 */
+	private static final double METERS_MAX = GeometryConstants.WEB_MERCATOR_HALF_WORLD_WIDTH;
+
+	/**
+	 * Meter latitude table step, in meters
+	 */
+	private static final double METERS_STEP = (METERS_MAX - METERS_MIN)
+			/ (METERS_NODES - 1);
+
+	/**
+	 * Latitudes in meters at each degree node
+	 */
+	private static final double[] meters;
+
+	/**
+	 * Meters per degree derivatives at each degree node
+	 */
+	private static final double[] metersSlopes;
+
+	/**
+	 * Latitudes in degrees at each meter node
+	 */
+	private static final double[] degrees;
+
+	/**
+	 * Degrees per meter derivatives at each meter node
+	 */
+	private static final double[] degreesSlopes;
+
+	static {
+
+		int degreesNodes = (int) Math
+				.ceil((DEGREES_MAX - DEGREES_MIN) / DEGREES_STEP) + 1;
+		meters = new double[degreesNodes];
+		metersSlopes = new double[degreesNodes];
+		for (int i = 0; i < degreesNodes; i++) {
+			double latitude = DEGREES_MIN + i * DEGREES_STEP;
+			meters[i] = GridUtils.latitudeToMeters(latitude);
+			metersSlopes[i] = GeometryConstants.WEB_MERCATOR_HALF_WORLD_WIDTH
+					/ GeometryConstants.WGS84_HALF_WORLD_LON_WIDTH
+					/ Math.cos(latitude * GeometryConstants.DEGREES_TO_RADIANS);
+		}
+
+		double radius = GeometryConstants.WEB_MERCATOR_HALF_WORLD_WIDTH
+				/ Math.PI;
+		degrees = new double[METERS_NODES];
+		degreesSlopes = new double[METERS_NODES];
+		for (int i = 0; i < METERS_NODES; i++) {
+			double latitude = METERS_MIN + i * METERS_STEP;
+			degrees[i] = GridUtils.latitudeToDegrees(latitude);
+			degreesSlopes[i] = GeometryConstants.WGS84_HALF_WORLD_LON_WIDTH
+					/ GeometryConstants.WEB_MERCATOR_HALF_WORLD_WIDTH
+					/ Math.cosh(latitude / radius);
+		}
+
+	}
+
+	/**
+	 * Convert a latitude in degrees to meters
+	 *
+	 * @param latitude
+	 *            latitude in degrees
+	 * @return latitude in meters
+	 */
+	static double latitudeToMeters(double latitude) {
+		double value;
+		if (latitude >= DEGREES_MIN && latitude <= DEGREES_MAX) {
+			value = interpolate(meters, metersSlopes, DEGREES_STEP,
+					(latitude - DEGREES_MIN) / DEGREES_STEP);
+		} else {
+			value = GridUtils.latitudeToMeters(latitude);
+		}
+		return value;
+	}
+
+	/**
+	 * Convert a latitude in meters to degrees
+	 *
+	 * @param latitude
+	 *            latitude in meters
+	 * @return latitude in degrees
+	 */
+	static double latitudeToDegrees(double latitude) {
+		double value;
+		if (latitude >= METERS_MIN && latitude <= METERS_MAX) {
+			value = interpolate(degrees, degreesSlopes, METERS_STEP,
+					(latitude - METERS_MIN) / METERS_STEP);
+		} else {
+			value = GridUtils.latitudeToDegrees(latitude);
+		}
+		return value;
+	}
+
+	/**
+	 * Cubic Hermite interpolation between table nodes
+	 *
+	 * @param values
+	 *            node values
+	 * @param slopes
+	 *            node derivatives
+	 * @param step
+	 *            node step
+	 * @param position
+	 *            fractional node position
+	 * @return interpolated value
+	 */
+	private static double interpolate(double[] values, double[] slopes,
+			double step, double position) {
+		int i = Math.min((int) position, values.length - 2);
+		double t = position - i;
+		double t2 = t * t;
+		double t3 = t2 * t;
+		return (2 * t3 - 3 * t2 + 1) * values[i]
+				+ (t3 - 2 * t2 + t) * step * slopes[i]
+				+ (3 * t2 - 2 * t3) * values[i + 1]
+				+ (t3 - t2) * step * slopes[i + 1];
+	}
+
+}
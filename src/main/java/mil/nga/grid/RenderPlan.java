@@ -0,0 +1,167 @@
+package mil.nga.grid;
+
+/**
+ * Immutable array backed render plan of the grids at a zoom level, in zoom
+ * grids order, with the grid line style, lines and labeler visibility, and
+ * label buffer resolved when compiled
+ *
+ * @author osbornb
+ * @param <TGrid>
+ *            grid type
+ */
+public final class RenderPlan<TGrid extends BaseGrid> {
+
+	/**
+	 * Zoom level
+	 */
+	private final int zoom;
+
+	/**
+	 * Grids
+	 */
+	private final Object[] grids;
+
+	/**
+	 * Resolved interned grid line styles
+	 */
+	private final RenderStyle[] styles;
+
+	/**
+	 * Grid lines visible flags
+	 */
+	private final boolean[] lines;
+
+	/**
+	 * Grid labeler visible flags
+	 */
+	private final boolean[] labelers;
+
+	/**
+	 * Label grid edge buffers
+	 */
+	private final double[] labelBuffers;
+
+	/**
+	 * Compile a render plan from the zoom grids
+	 *
+	 * @param <TGrid>
+	 *            grid type
+	 * @param zoomGrids
+	 *            zoom grids
+	 * @return render plan
+	 */
+	public static <TGrid extends BaseGrid> RenderPlan<TGrid> compile(
+			BaseZoomGrids<TGrid> zoomGrids) {
+		return new RenderPlan<>(zoomGrids);
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param zoomGrids
+	 *            zoom grids
+	 */
+	private RenderPlan(BaseZoomGrids<TGrid> zoomGrids) {
+		zoom = zoomGrids.getZoom();
+		int count = zoomGrids.numGrids();
+		grids = new Object[count];
+		styles = new RenderStyle[count];
+		lines = new boolean[count];
+		labelers = new boolean[count];
+		labelBuffers = new double[count];
+		int index = 0;
+		for (TGrid grid : zoomGrids) {
+			grids[index] = grid;
+			styles[index] = grid.getRenderStyle();
+			lines[index] = grid.isLinesWithin(zoom);
+			labelers[index] = grid.isLabelerWithin(zoom);
+			labelBuffers[index] = grid.getLabelBuffer();
+			index++;
+		}
+	}
+
+	/**
+	 * Get the zoom level
+	 *
+	 * @return zoom level
+	 */
+	public int getZoom() {
+		return zoom;
+	}
+
+	/**
+	 * Get the number of grids
+	 *
+	 * @return number of grids
+	 */
+	public int size() {
+		return grids.length;
+	}
+
+	/**
+	 * Determine if the plan has grids
+	 *
+	 * @return true if has grids
+	 */
+	public boolean hasGrids() {
+		return grids.length > 0;
+	}
+
+	/**
+	 * Get the grid
+	 *
+	 * @param index
+	 *            grid index
+	 * @return grid
+	 */
+	@SuppressWarnings("unchecked")
+	public TGrid getGrid(int index) {
+		return (TGrid) grids[index];
+	}
+
+	/**
+	 * Get the resolved interned grid line style, equal for grids sharing a
+	 * color and width and identical while interned
+	 *
+	 * @param index
+	 *            grid index
+	 * @return grid line style
+	 */
+	public RenderStyle getStyle(int index) {
+		return styles[index];
+	}
+
+	/**
+	 * Are the grid lines visible at the zoom level
+	 *
+	 * @param index
+	 *            grid index
+	 * @return true if lines are visible
+	 */
+	public boolean isLines(int index) {
+		return lines[index];
+	}
+
+	/**
+	 * Is the grid labeler enabled and visible at the zoom level
+	 *
+	 * @param index
+	 *            grid index
+	 * @return true if labels are visible
+	 */
+	public boolean isLabeler(int index) {
+		return labelers[index];
+	}
+
+	/**
+	 * Get the label grid edge buffer
+	 *
+	 * @param index
+	 *            grid index
+	 * @return label buffer
+	 */
+	public double getLabelBuffer(int index) {
+		return labelBuffers[index];
+	}
+
+}
@@ -0,0 +1,204 @@
+package mil.nga.grid;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+import mil.nga.color.Color;
+
+/**
+ * Immutable interned grid line render style of a packed ARGB color and a
+ * float width. Equal color and width pairs share a single instance, so
+ * styles may be compared and grouped by identity. The pool holds at most
+ * {@link #MAX_STYLES} styles and is never evicted, as grids use a small set
+ * of styles. Pairs beyond the bound return new equal but not interned
+ * instances.
+ *
+ * @author osbornb
+ */
+public final class RenderStyle {
+
+	/**
+	 * Maximum number of interned styles
+	 */
+	public static final int MAX_STYLES = 1024;
+
+	/**
+	 * Packed ARGB color of black, used for null colors
+	 */
+	public static final int BLACK = 0xFF000000;
+
+	/**
+	 * Interned styles by packed color and width key
+	 */
+	private static final ConcurrentHashMap<Long, RenderStyle> styles = new ConcurrentHashMap<>();
+
+	/**
+	 * Packed ARGB color
+	 */
+	private final int color;
+
+	/**
+	 * Line width
+	 */
+	private final float width;
+
+	/**
+	 * Get the interned style
+	 *
+	 * @param color
+	 *            packed ARGB color
+	 * @param width
+	 *            line width
+	 * @return style, not interned when the pool is full
+	 */
+	public static RenderStyle style(int color, float width) {
+		// Normalize negative zero to share the zero width style
+		final float styleWidth = width + 0.0f;
+		long key = ((long) color << 32)
+				| (Float.floatToIntBits(styleWidth) & 0xFFFFFFFFL);
+		RenderStyle style = styles.get(key);
+		if (style == null) {
+			if (styles.size() < MAX_STYLES) {
+				style = styles.computeIfAbsent(key,
+						k -> new RenderStyle(color, styleWidth));
+			} else {
+				style = new RenderStyle(color, styleWidth);
+			}
+		}
+		return style;
+	}
+
+	/**
+	 * Get the interned style
+	 *
+	 * @param color
+	 *            color, null for black
+	 * @param width
+	 *            line width
+	 * @return style
+	 */
+	public static RenderStyle style(Color color, double width) {
+		return style(color != null ? color.getColorWithAlpha() : BLACK,
+				(float) width);
+	}
+
+	/**
+	 * Get the interned style
+	 *
+	 * @param style
+	 *            grid style
+	 * @return style
+	 */
+	public static RenderStyle style(GridStyle style) {
+		return style(style.getColor(), style.getWidth());
+	}
+
+	/**
+	 * Get the number of interned styles
+	 *
+	 * @return number of styles
+	 */
+	public static int numStyles() {
+		return styles.size();
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param color
+	 *            packed ARGB color
+	 * @param width
+	 *            line width
+	 */
+	private RenderStyle(int color, float width) {
+		this.color = color;
+		this.width = width;
+	}
+
+	/**
+	 * Get the packed ARGB color
+	 *
+	 * @return ARGB color
+	 */
+	public int getColor() {
+		return color;
+	}
+
+	/**
+	 * Get the alpha color component
+	 *
+	 * @return alpha (0 to 255)
+	 */
+	public int getAlpha() {
+		return color >>> 24;
+	}
+
+	/**
+	 * Get the line width
+	 *
+	 * @return width
+	 */
+	public float getWidth() {
+		return width;
+	}
+
+	/**
+	 * Create a new color from the packed color
+	 *
+	 * @return color
+	 */
+	public Color toColor() {
+		return Color.color((color >> 16) & 0xFF, (color >> 8) & 0xFF,
+				color & 0xFF, color >>> 24);
+	}
+
+	/**
+	 * Create a new mutable grid style from this style
+	 *
+	 * @return grid style
+	 */
+	public GridStyle toGridStyle() {
+		return GridStyle.style(toColor(), width);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int hashCode() {
+		final int prime = 31;
+		int result = 1;
+		result = prime * result + color;
+		result = prime * result + Float.floatToIntBits(width);
+		return result;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		RenderStyle other = (RenderStyle) obj;
+		if (color != other.color)
+			return false;
+		if (Float.floatToIntBits(width) != Float
+				.floatToIntBits(other.width))
+			return false;
+		return true;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		return "RenderStyle [color=" + String.format("#%08X", color)
+				+ ", width=" + width + "]";
+	}
+
+}
@@ -3,10 +3,12 @@ package mil.nga.grid.features;
 import java.util.ArrayList;
 import java.util.List;
 
+import mil.nga.grid.Conversion;
 import mil.nga.grid.GridUtils;
 import mil.nga.grid.tile.GridTile;
 import mil.nga.grid.tile.Pixel;
 import mil.nga.grid.tile.PixelRange;
+import mil.nga.grid.tile.TileTransform;
 import mil.nga.sf.GeometryEnvelope;
 
 /**
@@ -26,6 +28,17 @@ public class Bounds extends GeometryEnvelope {
 	 */
 	private Unit unit;
 
+	/**
+	 * Lazily converted bounds in the other unit, never shared and cleared on
+	 * mutation
+	 */
+	private transient volatile Converted<Bounds> converted;
+
+	/**
+	 * Lazily computed centroid, cleared on mutation
+	 */
+	private transient volatile Point centroid;
+
 	/**
 	 * Create bounds
 	 * 
@@ -371,6 +384,43 @@ public class Bounds extends GeometryEnvelope {
 	 */
 	public void setUnit(Unit unit) {
 		this.unit = unit;
+		clearCache();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void setMinX(double minX) {
+		super.setMinX(minX);
+		clearCache();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void setMinY(double minY) {
+		super.setMinY(minY);
+		clearCache();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void setMaxX(double maxX) {
+		super.setMaxX(maxX);
+		clearCache();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void setMaxY(double maxY) {
+		super.setMaxY(maxY);
+		clearCache();
 	}
 
 	/**
@@ -407,20 +457,116 @@ public class Bounds extends GeometryEnvelope {
 	 * 
 	 * @param unit
 	 *            unit
-	 * @return bounds in units, same bounds if equal units
+	 * @return bounds in units, same bounds if equal units. Otherwise new
+	 *         bounds from the cached {@link Conversion#STRICT} conversion,
+	 *         which is kept until these bounds are mutated.
 	 */
 	public Bounds toUnit(Unit unit) {
+		return toUnit(unit, Conversion.STRICT);
+	}
+
+	/**
+	 * Convert to the unit with the conversion engine
+	 * 
+	 * @param unit
+	 *            unit
+	 * @param conversion
+	 *            conversion engine
+	 * @return bounds in units, same bounds if equal units. Otherwise new
+	 *         bounds from the cached conversion of the engine.
+	 */
+	public Bounds toUnit(Unit unit, Conversion conversion) {
 		Bounds bounds = null;
 		if (isUnit(unit)) {
 			bounds = this;
 		} else {
-			Point southwest = getSouthwest().toUnit(unit);
-			Point northeast = getNortheast().toUnit(unit);
+			bounds = new Bounds(converted(unit, conversion));
+		}
+		return bounds;
+	}
+
+	/**
+	 * Get the minimum longitude in the unit, from the cached
+	 * {@link Conversion#STRICT} conversion when in the other unit
+	 * 
+	 * @param unit
+	 *            unit
+	 * @return minimum longitude in unit
+	 */
+	public double getMinLongitude(Unit unit) {
+		return isUnit(unit) ? getMinLongitude()
+				: converted(unit, Conversion.STRICT).getMinLongitude();
+	}
+
+	/**
+	 * Get the minimum latitude in the unit, from the cached
+	 * {@link Conversion#STRICT} conversion when in the other unit
+	 * 
+	 * @param unit
+	 *            unit
+	 * @return minimum latitude in unit
+	 */
+	public double getMinLatitude(Unit unit) {
+		return isUnit(unit) ? getMinLatitude()
+				: converted(unit, Conversion.STRICT).getMinLatitude();
+	}
+
+	/**
+	 * Get the maximum longitude in the unit, from the cached
+	 * {@link Conversion#STRICT} conversion when in the other unit
+	 * 
+	 * @param unit
+	 *            unit
+	 * @return maximum longitude in unit
+	 */
+	public double getMaxLongitude(Unit unit) {
+		return isUnit(unit) ? getMaxLongitude()
+				: converted(unit, Conversion.STRICT).getMaxLongitude();
+	}
+
+	/**
+	 * Get the maximum latitude in the unit, from the cached
+	 * {@link Conversion#STRICT} conversion when in the other unit
+	 * 
+	 * @param unit
+	 *            unit
+	 * @return maximum latitude in unit
+	 */
+	public double getMaxLatitude(Unit unit) {
+		return isUnit(unit) ? getMaxLatitude()
+				: converted(unit, Conversion.STRICT).getMaxLatitude();
+	}
+
+	/**
+	 * Get the cached conversion to the other unit, converting on a miss. The
+	 * cached bounds are never returned to callers.
+	 * 
+	 * @param unit
+	 *            other unit
+	 * @param conversion
+	 *            conversion engine
+	 * @return converted bounds
+	 */
+	private Bounds converted(Unit unit, Conversion conversion) {
+		Converted<Bounds> cache = converted;
+		Bounds bounds = cache != null ? cache.get(conversion) : null;
+		if (bounds == null || !bounds.isUnit(unit)) {
+			Point southwest = getSouthwest().toUnit(unit, conversion);
+			Point northeast = getNortheast().toUnit(unit, conversion);
 			bounds = new Bounds(southwest, northeast);
+			converted = new Converted<>(conversion, bounds);
 		}
 		return bounds;
 	}
 
+	/**
+	 * Clear the cached centroid and converted bounds
+	 */
+	private void clearCache() {
+		centroid = null;
+		converted = null;
+	}
+
 	/**
 	 * Convert to degrees
 	 * 
@@ -456,7 +602,7 @@ public class Bounds extends GeometryEnvelope {
 	public double getCentroidLatitude() {
 		double centerLatitude;
 		if (unit == Unit.DEGREE) {
-			centerLatitude = getCentroid().getLatitude();
+			centerLatitude = centroid().getLatitude();
 		} else {
 			centerLatitude = getMidY();
 		}
@@ -468,11 +614,23 @@ public class Bounds extends GeometryEnvelope {
 	 */
 	@Override
 	public Point getCentroid() {
-		Point point = null;
-		if (unit == Unit.DEGREE) {
-			point = toMeters().getCentroid().toDegrees();
-		} else {
-			point = Point.point(super.getCentroid(), unit);
+		return centroid().copy();
+	}
+
+	/**
+	 * Get the lazily computed shared centroid
+	 * 
+	 * @return centroid
+	 */
+	private Point centroid() {
+		Point point = centroid;
+		if (point == null) {
+			if (unit == Unit.DEGREE) {
+				point = toMeters().centroid().toDegrees();
+			} else {
+				point = Point.point(super.getCentroid(), unit);
+			}
+			centroid = point;
 		}
 		return point;
 	}
@@ -639,8 +797,49 @@ public class Bounds extends GeometryEnvelope {
 	 * @return pixel range
 	 */
 	public PixelRange getPixelRange(GridTile tile) {
-		return getPixelRange(tile.getWidth(), tile.getHeight(),
-				tile.getBounds());
+		Pixel topLeft = tile.getPixel(getNorthwest());
+		Pixel bottomRight = tile.getPixel(getSoutheast());
+		return new PixelRange(topLeft, bottomRight);
+	}
+
+	/**
+	 * Get the pixel range where the bounds fit into the tile, written as
+	 * [left, top, right, bottom] at the offset
+	 * 
+	 * @param tile
+	 *            tile
+	 * @param range
+	 *            pixel range array
+	 * @param offset
+	 *            pixel range array offset
+	 */
+	public void getPixelRange(GridTile tile, float[] range, int offset) {
+		TileTransform transform = tile.getTransform();
+		range[offset] = transform.getXPixel(getMinLongitude(Unit.METER));
+		range[offset + 1] = transform.getYPixel(getMaxLatitude(Unit.METER));
+		range[offset + 2] = transform.getXPixel(getMaxLongitude(Unit.METER));
+		range[offset + 3] = transform.getYPixel(getMinLatitude(Unit.METER));
+	}
+
+	/**
+	 * Get the pixel range where the bounds fit into the tile, reusing the
+	 * provided pixel range and its pixels
+	 * 
+	 * @param tile
+	 *            tile
+	 * @param range
+	 *            reusable pixel range
+	 * @return provided pixel range
+	 */
+	public PixelRange getPixelRange(GridTile tile, PixelRange range) {
+		TileTransform transform = tile.getTransform();
+		Pixel topLeft = range.getTopLeft();
+		topLeft.setX(transform.getXPixel(getMinLongitude(Unit.METER)));
+		topLeft.setY(transform.getYPixel(getMaxLatitude(Unit.METER)));
+		Pixel bottomRight = range.getBottomRight();
+		bottomRight.setX(transform.getXPixel(getMaxLongitude(Unit.METER)));
+		bottomRight.setY(transform.getYPixel(getMinLatitude(Unit.METER)));
+		return range;
 	}
 
 	/**
@@ -684,6 +883,106 @@ public class Bounds extends GeometryEnvelope {
 		return lines;
 	}
 
+	/**
+	 * Get the four corners, written as the southwest, northwest, northeast,
+	 * and southeast [longitude, latitude] pairs at the offset
+	 * 
+	 * @param corners
+	 *            corners array of at least eight values from the offset
+	 * @param offset
+	 *            corners array offset
+	 */
+	public void getCorners(double[] corners, int offset) {
+		double west = getMinLongitude();
+		double south = getMinLatitude();
+		double east = getMaxLongitude();
+		double north = getMaxLatitude();
+		corners[offset] = west;
+		corners[offset + 1] = south;
+		corners[offset + 2] = west;
+		corners[offset + 3] = north;
+		corners[offset + 4] = east;
+		corners[offset + 5] = north;
+		corners[offset + 6] = east;
+		corners[offset + 7] = south;
+	}
+
+	/**
+	 * Get the four lines, written as [x1, y1, x2, y2] segments at the offset
+	 * in the same order as {@link #getLines()}
+	 * 
+	 * @param lines
+	 *            lines array of at least sixteen values from the offset
+	 * @param offset
+	 *            lines array offset
+	 */
+	public void getLines(double[] lines, int offset) {
+		double west = getMinLongitude();
+		double south = getMinLatitude();
+		double east = getMaxLongitude();
+		double north = getMaxLatitude();
+		setLine(lines, offset, west, south, west, north);
+		setLine(lines, offset + 4, west, north, east, north);
+		setLine(lines, offset + 8, east, north, east, south);
+		setLine(lines, offset + 12, east, south, west, south);
+	}
+
+	/**
+	 * Write a line segment into the array
+	 * 
+	 * @param lines
+	 *            lines array
+	 * @param offset
+	 *            lines array offset
+	 * @param x1
+	 *            first x
+	 * @param y1
+	 *            first y
+	 * @param x2
+	 *            second x
+	 * @param y2
+	 *            second y
+	 */
+	private static void setLine(double[] lines, int offset, double x1,
+			double y1, double x2, double y2) {
+		lines[offset] = x1;
+		lines[offset + 1] = y1;
+		lines[offset + 2] = x2;
+		lines[offset + 3] = y2;
+	}
+
+	/**
+	 * Get the centroid, written as [longitude, latitude] at the offset
+	 * 
+	 * @param centroid
+	 *            centroid array
+	 * @param offset
+	 *            centroid array offset
+	 */
+	public void getCentroid(double[] centroid, int offset) {
+		Point point = centroid();
+		centroid[offset] = point.getLongitude();
+		centroid[offset + 1] = point.getLatitude();
+	}
+
+	/**
+	 * Get the four compact segments that make up the bounds, in the same order
+	 * as {@link #getLines()}
+	 * 
+	 * @return segments
+	 */
+	public Segment[] getSegments() {
+		double west = getMinLongitude();
+		double south = getMinLatitude();
+		double east = getMaxLongitude();
+		double north = getMaxLatitude();
+		Unit unit = getUnit();
+		return new Segment[] { Segment.segment(west, south, west, north, unit),
+				Segment.segment(west, north, east, north, unit),
+				Segment.segment(east, north, east, south, unit),
+				Segment.segment(east, south, west, south, unit) };
+	}
+
 	/**
 	 * Copy the bounds
 	 * 
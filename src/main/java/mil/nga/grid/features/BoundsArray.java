@@ -0,0 +1,567 @@
+package mil.nga.grid.features;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import mil.nga.grid.Conversion;
+import mil.nga.grid.tile.GridTile;
+import mil.nga.grid.tile.TileTransform;
+
+/**
+ * Growable columnar container of bounds in a single unit, backed by primitive
+ * min and max longitude and latitude columns. {@link Bounds} views are created
+ * on demand.
+ *
+ * @author osbornb
+ */
+public final class BoundsArray {
+
+	/**
+	 * Default initial capacity
+	 */
+	private static final int DEFAULT_CAPACITY = 16;
+
+	/**
+	 * Unit
+	 */
+	private Unit unit;
+
+	/**
+	 * Min longitudes
+	 */
+	private double[] minLongitudes;
+
+	/**
+	 * Min latitudes
+	 */
+	private double[] minLatitudes;
+
+	/**
+	 * Max longitudes
+	 */
+	private double[] maxLongitudes;
+
+	/**
+	 * Max latitudes
+	 */
+	private double[] maxLatitudes;
+
+	/**
+	 * Number of bounds
+	 */
+	private int size;
+
+	/**
+	 * Create an empty bounds array
+	 *
+	 * @param unit
+	 *            unit
+	 * @return bounds array
+	 */
+	public static BoundsArray create(Unit unit) {
+		return new BoundsArray(unit, DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Create an empty bounds array
+	 *
+	 * @param unit
+	 *            unit
+	 * @param capacity
+	 *            initial capacity
+	 * @return bounds array
+	 */
+	public static BoundsArray create(Unit unit, int capacity) {
+		return new BoundsArray(unit, capacity);
+	}
+
+	/**
+	 * Create a bounds array from bounds, converting each to the unit
+	 *
+	 * @param bounds
+	 *            bounds
+	 * @param unit
+	 *            unit
+	 * @return bounds array
+	 */
+	public static BoundsArray create(Collection<Bounds> bounds, Unit unit) {
+		BoundsArray array = new BoundsArray(unit, bounds.size());
+		for (Bounds value : bounds) {
+			array.add(value);
+		}
+		return array;
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param unit
+	 *            unit
+	 * @param capacity
+	 *            initial capacity
+	 */
+	public BoundsArray(Unit unit, int capacity) {
+		this.unit = unit;
+		minLongitudes = new double[capacity];
+		minLatitudes = new double[capacity];
+		maxLongitudes = new double[capacity];
+		maxLatitudes = new double[capacity];
+	}
+
+	/**
+	 * Get the unit
+	 *
+	 * @return unit
+	 */
+	public Unit getUnit() {
+		return unit;
+	}
+
+	/**
+	 * Is in the provided unit type
+	 *
+	 * @param unit
+	 *            unit
+	 * @return true if in the unit
+	 */
+	public boolean isUnit(Unit unit) {
+		return this.unit == unit;
+	}
+
+	/**
+	 * Get the number of bounds
+	 *
+	 * @return size
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Is the array empty
+	 *
+	 * @return true if empty
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Add bounds
+	 *
+	 * @param minLongitude
+	 *            min longitude
+	 * @param minLatitude
+	 *            min latitude
+	 * @param maxLongitude
+	 *            max longitude
+	 * @param maxLatitude
+	 *            max latitude
+	 * @return index of the added bounds
+	 */
+	public int add(double minLongitude, double minLatitude,
+			double maxLongitude, double maxLatitude) {
+		if (size == minLongitudes.length) {
+			int capacity = Math.max(DEFAULT_CAPACITY, size + (size >> 1));
+			minLongitudes = Arrays.copyOf(minLongitudes, capacity);
+			minLatitudes = Arrays.copyOf(minLatitudes, capacity);
+			maxLongitudes = Arrays.copyOf(maxLongitudes, capacity);
+			maxLatitudes = Arrays.copyOf(maxLatitudes, capacity);
+		}
+		minLongitudes[size] = minLongitude;
+		minLatitudes[size] = minLatitude;
+		maxLongitudes[size] = maxLongitude;
+		maxLatitudes[size] = maxLatitude;
+		return size++;
+	}
+
+	/**
+	 * Add bounds, converting to the array unit
+	 *
+	 * @param bounds
+	 *            bounds
+	 * @return index of the added bounds
+	 */
+	public int add(Bounds bounds) {
+		bounds = bounds.toUnit(unit);
+		return add(bounds.getMinLongitude(), bounds.getMinLatitude(),
+				bounds.getMaxLongitude(), bounds.getMaxLatitude());
+	}
+
+	/**
+	 * Get the min longitude
+	 *
+	 * @param index
+	 *            index
+	 * @return min longitude
+	 */
+	public double getMinLongitude(int index) {
+		return minLongitudes[checkIndex(index)];
+	}
+
+	/**
+	 * Get the min latitude
+	 *
+	 * @param index
+	 *            index
+	 * @return min latitude
+	 */
+	public double getMinLatitude(int index) {
+		return minLatitudes[checkIndex(index)];
+	}
+
+	/**
+	 * Get the max longitude
+	 *
+	 * @param index
+	 *            index
+	 * @return max longitude
+	 */
+	public double getMaxLongitude(int index) {
+		return maxLongitudes[checkIndex(index)];
+	}
+
+	/**
+	 * Get the max latitude
+	 *
+	 * @param index
+	 *            index
+	 * @return max latitude
+	 */
+	public double getMaxLatitude(int index) {
+		return maxLatitudes[checkIndex(index)];
+	}
+
+	/**
+	 * Get a new bounds view of the values at the index
+	 *
+	 * @param index
+	 *            index
+	 * @return bounds
+	 */
+	public Bounds getBounds(int index) {
+		checkIndex(index);
+		return Bounds.bounds(minLongitudes[index], minLatitudes[index],
+				maxLongitudes[index], maxLatitudes[index], unit);
+	}
+
+	/**
+	 * Get new bounds views of all values
+	 *
+	 * @return bounds list
+	 */
+	public List<Bounds> toList() {
+		List<Bounds> bounds = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			bounds.add(getBounds(i));
+		}
+		return bounds;
+	}
+
+	/**
+	 * Convert to the unit
+	 *
+	 * @param unit
+	 *            unit
+	 * @return bounds array in units, same array if equal units
+	 */
+	public BoundsArray toUnit(Unit unit) {
+		return toUnit(unit, Conversion.STRICT);
+	}
+
+	/**
+	 * Convert to the unit with the conversion engine
+	 *
+	 * @param unit
+	 *            unit
+	 * @param conversion
+	 *            conversion engine
+	 * @return bounds array in units, same array if equal units
+	 */
+	public BoundsArray toUnit(Unit unit, Conversion conversion) {
+		BoundsArray array = null;
+		if (isUnit(unit)) {
+			array = this;
+		} else {
+			array = toUnit(unit, conversion, new BoundsArray(unit, size));
+		}
+		return array;
+	}
+
+	/**
+	 * Convert to the unit with the conversion engine, written into the
+	 * destination array in place of its bounds
+	 *
+	 * @param unit
+	 *            unit
+	 * @param conversion
+	 *            conversion engine
+	 * @param array
+	 *            destination bounds array in the unit, grown as needed
+	 * @return destination bounds array
+	 */
+	public BoundsArray toUnit(Unit unit, Conversion conversion,
+			BoundsArray array) {
+		if (!array.isUnit(unit)) {
+			throw new IllegalArgumentException("Destination unit '"
+					+ array.unit + "' does not match unit '" + unit + "'");
+		}
+		if (array != this) {
+			array.reserve(size);
+			if (isUnit(unit)) {
+				System.arraycopy(minLongitudes, 0, array.minLongitudes, 0,
+						size);
+				System.arraycopy(minLatitudes, 0, array.minLatitudes, 0, size);
+				System.arraycopy(maxLongitudes, 0, array.maxLongitudes, 0,
+						size);
+				System.arraycopy(maxLatitudes, 0, array.maxLatitudes, 0, size);
+			} else {
+				convert(unit, conversion, array);
+			}
+			array.size = size;
+		}
+		return array;
+	}
+
+	/**
+	 * Convert to degrees, written into the destination array in place of its
+	 * bounds
+	 *
+	 * @param array
+	 *            destination bounds array in degrees, grown as needed
+	 * @return destination bounds array
+	 */
+	public BoundsArray toDegrees(BoundsArray array) {
+		return toUnit(Unit.DEGREE, Conversion.STRICT, array);
+	}
+
+	/**
+	 * Convert to meters, written into the destination array in place of its
+	 * bounds
+	 *
+	 * @param array
+	 *            destination bounds array in meters, grown as needed
+	 * @return destination bounds array
+	 */
+	public BoundsArray toMeters(BoundsArray array) {
+		return toUnit(Unit.METER, Conversion.STRICT, array);
+	}
+
+	/**
+	 * Convert this array in place to the unit
+	 *
+	 * @param unit
+	 *            unit
+	 * @return this bounds array
+	 */
+	public BoundsArray convert(Unit unit) {
+		return convert(unit, Conversion.STRICT);
+	}
+
+	/**
+	 * Convert this array in place to the unit with the conversion engine
+	 *
+	 * @param unit
+	 *            unit
+	 * @param conversion
+	 *            conversion engine
+	 * @return this bounds array
+	 */
+	public BoundsArray convert(Unit unit, Conversion conversion) {
+		if (!isUnit(unit)) {
+			convert(unit, conversion, this);
+			this.unit = unit;
+		}
+		return this;
+	}
+
+	/**
+	 * Write the bounds converted to the unit into the destination columns,
+	 * which may be the columns of this array
+	 *
+	 * @param unit
+	 *            unit
+	 * @param conversion
+	 *            conversion engine
+	 * @param array
+	 *            destination bounds array with room for the bounds
+	 */
+	private void convert(Unit unit, Conversion conversion, BoundsArray array) {
+		switch (unit) {
+		case DEGREE:
+			for (int i = 0; i < size; i++) {
+				array.minLongitudes[i] = conversion
+						.longitudeToDegrees(minLongitudes[i]);
+				array.minLatitudes[i] = conversion
+						.latitudeToDegrees(minLatitudes[i]);
+				array.maxLongitudes[i] = conversion
+						.longitudeToDegrees(maxLongitudes[i]);
+				array.maxLatitudes[i] = conversion
+						.latitudeToDegrees(maxLatitudes[i]);
+			}
+			break;
+		case METER:
+			for (int i = 0; i < size; i++) {
+				array.minLongitudes[i] = conversion
+						.longitudeToMeters(minLongitudes[i]);
+				array.minLatitudes[i] = conversion
+						.latitudeToMeters(minLatitudes[i]);
+				array.maxLongitudes[i] = conversion
+						.longitudeToMeters(maxLongitudes[i]);
+				array.maxLatitudes[i] = conversion
+						.latitudeToMeters(maxLatitudes[i]);
+			}
+			break;
+		default:
+			throw new IllegalArgumentException("Unsupported unit: " + unit);
+		}
+	}
+
+	/**
+	 * Grow the columns to at least the capacity
+	 *
+	 * @param capacity
+	 *            capacity
+	 */
+	private void reserve(int capacity) {
+		if (capacity > minLongitudes.length) {
+			minLongitudes = Arrays.copyOf(minLongitudes, capacity);
+			minLatitudes = Arrays.copyOf(minLatitudes, capacity);
+			maxLongitudes = Arrays.copyOf(maxLongitudes, capacity);
+			maxLatitudes = Arrays.copyOf(maxLatitudes, capacity);
+		}
+	}
+
+	/**
+	 * Convert to degrees
+	 *
+	 * @return bounds array in degrees, same array if already in degrees
+	 */
+	public BoundsArray toDegrees() {
+		return toUnit(Unit.DEGREE);
+	}
+
+	/**
+	 * Convert to meters
+	 *
+	 * @return bounds array in meters, same array if already in meters
+	 */
+	public BoundsArray toMeters() {
+		return toUnit(Unit.METER);
+	}
+
+	/**
+	 * Determine if the bounds at the index overlap the provided bounds,
+	 * including touching edges
+	 *
+	 * @param index
+	 *            index
+	 * @param bounds
+	 *            bounds in the array unit
+	 * @return true if overlapping
+	 */
+	private boolean overlaps(int index, Bounds bounds) {
+		return minLongitudes[index] <= bounds.getMaxLongitude()
+				&& maxLongitudes[index] >= bounds.getMinLongitude()
+				&& minLatitudes[index] <= bounds.getMaxLatitude()
+				&& maxLatitudes[index] >= bounds.getMinLatitude();
+	}
+
+	/**
+	 * Create a new bounds array of the overlaps between each bounds and the
+	 * provided bounds, omitting bounds without overlap
+	 *
+	 * @param bounds
+	 *            bounds
+	 * @return overlap bounds array
+	 */
+	public BoundsArray overlap(Bounds bounds) {
+		bounds = bounds.toUnit(unit);
+		BoundsArray overlap = new BoundsArray(unit, DEFAULT_CAPACITY);
+		for (int i = 0; i < size; i++) {
+			if (overlaps(i, bounds)) {
+				overlap.add(
+						Math.max(minLongitudes[i], bounds.getMinLongitude()),
+						Math.max(minLatitudes[i], bounds.getMinLatitude()),
+						Math.min(maxLongitudes[i], bounds.getMaxLongitude()),
+						Math.min(maxLatitudes[i], bounds.getMaxLatitude()));
+			}
+		}
+		return overlap;
+	}
+
+	/**
+	 * Create a new bounds array of the overlaps with the tile bounds
+	 *
+	 * @param tile
+	 *            tile
+	 * @return overlap bounds array
+	 */
+	public BoundsArray overlap(GridTile tile) {
+		return overlap(tile.getBounds(unit));
+	}
+
+	/**
+	 * Find the indices of the bounds overlapping the provided bounds
+	 *
+	 * @param bounds
+	 *            bounds
+	 * @param indices
+	 *            indices array of at least the array size
+	 * @return number of indices written
+	 */
+	public int filter(Bounds bounds, int[] indices) {
+		bounds = bounds.toUnit(unit);
+		int count = 0;
+		for (int i = 0; i < size; i++) {
+			if (overlaps(i, bounds)) {
+				indices[count++] = i;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Get the pixel ranges where each bounds fit into the tile, written as
+	 * [left, top, right, bottom] per bounds
+	 *
+	 * @param tile
+	 *            tile
+	 * @param ranges
+	 *            pixel ranges array of at least four times the array size
+	 */
+	public void getPixelRanges(GridTile tile, float[] ranges) {
+		if (ranges.length < 4 * size) {
+			throw new IllegalArgumentException(
+					"Pixel ranges array too small. required: " + (4 * size)
+							+ ", ranges: " + ranges.length);
+		}
+		BoundsArray meters = toMeters();
+		TileTransform transform = tile.getTransform();
+		for (int i = 0; i < size; i++) {
+			int r = 4 * i;
+			ranges[r] = transform.getXPixel(meters.minLongitudes[i]);
+			ranges[r + 1] = transform.getYPixel(meters.maxLatitudes[i]);
+			ranges[r + 2] = transform.getXPixel(meters.maxLongitudes[i]);
+			ranges[r + 3] = transform.getYPixel(meters.minLatitudes[i]);
+		}
+	}
+
+	/**
+	 * Check the index is within the array size
+	 *
+	 * @param index
+	 *            index
+	 * @return index
+	 */
+	private int checkIndex(int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException(
+					"Index: " + index + ", Size: " + size);
+		}
+		return index;
+	}
+
+}
@@ -0,0 +1,554 @@
+package mil.nga.grid.features;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * Immutable bulk loaded spatial index over bounds, Sort-Tile-Recursive packed
+ * into flat arrays. Leaf entries are sorted into vertical slices by center
+ * longitude, then by center latitude within each slice, and parent nodes are
+ * packed from consecutive children. Each parent level is sorted the same way
+ * before packing the level above it, so nodes at every level group nearby
+ * children, with each node recording its first child. Queries return the
+ * bounds ids, the position of the bounds in the indexed {@link BoundsArray}
+ * or collection.
+ * Queries by coordinates in the index unit do not allocate.
+ *
+ * @author osbornb
+ */
+public final class BoundsIndex {
+
+	/**
+	 * Maximum children per node
+	 */
+	public static final int NODE_CAPACITY = 16;
+
+	/**
+	 * Unit
+	 */
+	private final Unit unit;
+
+	/**
+	 * Node boxes of all levels as [west, south, east, north, ...], leaf
+	 * entries first
+	 */
+	private final double[] boxes;
+
+	/**
+	 * Bounds ids of the leaf entries
+	 */
+	private final int[] ids;
+
+	/**
+	 * First child within the child level of each parent node, indexed by the
+	 * parent box less the leaf entry count
+	 */
+	private final int[] children;
+
+	/**
+	 * Box offset of each level
+	 */
+	private final int[] levelStarts;
+
+	/**
+	 * Entry count of each level
+	 */
+	private final int[] levelCounts;
+
+	/**
+	 * Create an index
+	 *
+	 * @param bounds
+	 *            bounds array
+	 * @param parallel
+	 *            true to sort and pack in parallel
+	 * @return bounds index in the bounds array unit
+	 */
+	public static BoundsIndex index(BoundsArray bounds, boolean parallel) {
+		return new BoundsIndex(bounds, parallel);
+	}
+
+	/**
+	 * Create an index
+	 *
+	 * @param bounds
+	 *            bounds
+	 * @param unit
+	 *            index unit
+	 * @param parallel
+	 *            true to sort and pack in parallel
+	 * @return bounds index
+	 */
+	public static BoundsIndex index(Collection<Bounds> bounds, Unit unit,
+			boolean parallel) {
+		return new BoundsIndex(BoundsArray.create(bounds, unit), parallel);
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param bounds
+	 *            bounds array
+	 * @param parallel
+	 *            true to sort and pack in parallel
+	 */
+	public BoundsIndex(BoundsArray bounds, boolean parallel) {
+
+		unit = bounds.getUnit();
+		int size = bounds.size();
+
+		int levels = 1;
+		int count = size;
+		int total = size;
+		if (size > 0) {
+			do {
+				count = (count + NODE_CAPACITY - 1) / NODE_CAPACITY;
+				total += count;
+				levels++;
+			} while (count > 1);
+		}
+
+		levelStarts = new int[levels];
+		levelCounts = new int[levels];
+		boxes = new double[4 * total];
+		children = new int[total - size];
+
+		levelCounts[0] = size;
+		for (int i = 0; i < size; i++) {
+			int b = 4 * i;
+			boxes[b] = bounds.getMinLongitude(i);
+			boxes[b + 1] = bounds.getMinLatitude(i);
+			boxes[b + 2] = bounds.getMaxLongitude(i);
+			boxes[b + 3] = bounds.getMaxLatitude(i);
+		}
+		ids = sort(0, size, parallel);
+
+		for (int level = 1; level < levels; level++) {
+			int childLevel = level - 1;
+			int childStart = levelStarts[childLevel];
+			int childCount = levelCounts[childLevel];
+			int start = childStart + childCount;
+			int nodes = (childCount + NODE_CAPACITY - 1) / NODE_CAPACITY;
+			levelStarts[level] = start;
+			levelCounts[level] = nodes;
+			range(nodes, parallel).forEach(node -> {
+				int first = node * NODE_CAPACITY;
+				int last = Math.min(first + NODE_CAPACITY, childCount);
+				double west = Double.POSITIVE_INFINITY;
+				double south = Double.POSITIVE_INFINITY;
+				double east = Double.NEGATIVE_INFINITY;
+				double north = Double.NEGATIVE_INFINITY;
+				for (int child = first; child < last; child++) {
+					int c = 4 * (childStart + child);
+					west = Math.min(west, boxes[c]);
+					south = Math.min(south, boxes[c + 1]);
+					east = Math.max(east, boxes[c + 2]);
+					north = Math.max(north, boxes[c + 3]);
+				}
+				int b = 4 * (start + node);
+				boxes[b] = west;
+				boxes[b + 1] = south;
+				boxes[b + 2] = east;
+				boxes[b + 3] = north;
+				children[start + node - size] = first;
+			});
+			if (nodes > 1) {
+				sort(start, nodes, parallel);
+			}
+		}
+	}
+
+	/**
+	 * Sort the level entries into Sort-Tile-Recursive order, reordering their
+	 * boxes and parent node children in place
+	 *
+	 * @param start
+	 *            box offset of the level
+	 * @param count
+	 *            level entry count
+	 * @param parallel
+	 *            true to sort in parallel
+	 * @return previous level positions of the sorted entries
+	 */
+	private int[] sort(int start, int count, boolean parallel) {
+
+		long[] keys = new long[count];
+		range(count, parallel).forEach(i -> {
+			int b = 4 * (start + i);
+			keys[i] = key(boxes[b] + boxes[b + 2], i);
+		});
+		if (parallel) {
+			Arrays.parallelSort(keys);
+		} else {
+			Arrays.sort(keys);
+		}
+
+		int nodes = (count + NODE_CAPACITY - 1) / NODE_CAPACITY;
+		int sliceSize = (int) Math.ceil(Math.sqrt(nodes)) * NODE_CAPACITY;
+		int slices = sliceSize > 0 ? (count + sliceSize - 1) / sliceSize : 0;
+
+		range(slices, parallel).forEach(slice -> {
+			int from = slice * sliceSize;
+			int to = Math.min(from + sliceSize, count);
+			for (int i = from; i < to; i++) {
+				int entry = (int) keys[i];
+				int b = 4 * (start + entry);
+				keys[i] = key(boxes[b + 1] + boxes[b + 3], entry);
+			}
+			Arrays.sort(keys, from, to);
+		});
+
+		int[] order = new int[count];
+		double[] sorted = new double[4 * count];
+		for (int i = 0; i < count; i++) {
+			int entry = (int) keys[i];
+			order[i] = entry;
+			System.arraycopy(boxes, 4 * (start + entry), sorted, 4 * i, 4);
+		}
+		System.arraycopy(sorted, 0, boxes, 4 * start, sorted.length);
+
+		int size = levelCounts[0];
+		if (start >= size) {
+			int[] first = new int[count];
+			for (int i = 0; i < count; i++) {
+				first[i] = children[start + order[i] - size];
+			}
+			System.arraycopy(first, 0, children, start - size, count);
+		}
+
+		return order;
+	}
+
+	/**
+	 * Create a sort key ordered by the value, then the id
+	 *
+	 * @param value
+	 *            sort value
+	 * @param id
+	 *            bounds id
+	 * @return sort key
+	 */
+	private static long key(double value, int id) {
+		int bits = Float.floatToIntBits((float) value);
+		bits ^= (bits >> 31) & 0x7fffffff;
+		return ((long) bits << 32) | (id & 0xFFFFFFFFL);
+	}
+
+	/**
+	 * Get an index range stream
+	 *
+	 * @param count
+	 *            number of indices
+	 * @param parallel
+	 *            true for a parallel stream
+	 * @return index stream
+	 */
+	private static IntStream range(int count, boolean parallel) {
+		IntStream range = IntStream.range(0, count);
+		if (parallel) {
+			range = range.parallel();
+		}
+		return range;
+	}
+
+	/**
+	 * Get the unit
+	 *
+	 * @return unit
+	 */
+	public Unit getUnit() {
+		return unit;
+	}
+
+	/**
+	 * Get the number of indexed bounds
+	 *
+	 * @return size
+	 */
+	public int size() {
+		return levelCounts[0];
+	}
+
+	/**
+	 * Is the index empty
+	 *
+	 * @return true if empty
+	 */
+	public boolean isEmpty() {
+		return size() == 0;
+	}
+
+	/**
+	 * Search for the bounds overlapping the window, including touching edges
+	 *
+	 * @param west
+	 *            west edge in the index unit
+	 * @param south
+	 *            south edge in the index unit
+	 * @param east
+	 *            east edge in the index unit
+	 * @param north
+	 *            north edge in the index unit
+	 * @param consumer
+	 *            bounds id consumer
+	 * @return number of bounds found
+	 */
+	public int search(double west, double south, double east, double north,
+			IntConsumer consumer) {
+		int found = 0;
+		if (!isEmpty()) {
+			found = search(levelCounts.length - 1, 0, west, south, east, north,
+					consumer);
+		}
+		return found;
+	}
+
+	/**
+	 * Search for the bounds overlapping the window, including touching edges
+	 *
+	 * @param bounds
+	 *            window bounds
+	 * @param consumer
+	 *            bounds id consumer
+	 * @return number of bounds found
+	 */
+	public int search(Bounds bounds, IntConsumer consumer) {
+		bounds = bounds.toUnit(unit);
+		return search(bounds.getMinLongitude(), bounds.getMinLatitude(),
+				bounds.getMaxLongitude(), bounds.getMaxLatitude(), consumer);
+	}
+
+	/**
+	 * Search for the bounds containing the coordinate, including edges
+	 *
+	 * @param longitude
+	 *            longitude in the index unit
+	 * @param latitude
+	 *            latitude in the index unit
+	 * @param consumer
+	 *            bounds id consumer
+	 * @return number of bounds found
+	 */
+	public int search(double longitude, double latitude,
+			IntConsumer consumer) {
+		return search(longitude, latitude, longitude, latitude, consumer);
+	}
+
+	/**
+	 * Search for the bounds containing the point, including edges
+	 *
+	 * @param point
+	 *            point
+	 * @param consumer
+	 *            bounds id consumer
+	 * @return number of bounds found
+	 */
+	public int search(Point point, IntConsumer consumer) {
+		point = point.toUnit(unit);
+		return search(point.getLongitude(), point.getLatitude(), consumer);
+	}
+
+	/**
+	 * Search the node children
+	 *
+	 * @param level
+	 *            node level
+	 * @param node
+	 *            node within the level
+	 * @param west
+	 *            west edge
+	 * @param south
+	 *            south edge
+	 * @param east
+	 *            east edge
+	 * @param north
+	 *            north edge
+	 * @param consumer
+	 *            bounds id consumer
+	 * @return number of bounds found
+	 */
+	private int search(int level, int node, double west, double south,
+			double east, double north, IntConsumer consumer) {
+		int found = 0;
+		int childLevel = level - 1;
+		int childStart = levelStarts[childLevel];
+		int first = children[levelStarts[level] + node - levelCounts[0]];
+		int last = Math.min(first + NODE_CAPACITY, levelCounts[childLevel]);
+		for (int child = first; child < last; child++) {
+			int b = 4 * (childStart + child);
+			if (boxes[b] <= east && boxes[b + 2] >= west
+					&& boxes[b + 1] <= north && boxes[b + 3] >= south) {
+				if (childLevel == 0) {
+					consumer.accept(ids[child]);
+					found++;
+				} else {
+					found += search(childLevel, child, west, south, east,
+							north, consumer);
+				}
+			}
+		}
+		return found;
+	}
+
+	/**
+	 * Find a bounds containing the coordinate, including edges
+	 *
+	 * @param longitude
+	 *            longitude in the index unit
+	 * @param latitude
+	 *            latitude in the index unit
+	 * @return bounds id, or -1 if not found
+	 */
+	public int find(double longitude, double latitude) {
+		int id = -1;
+		if (!isEmpty()) {
+			id = find(levelCounts.length - 1, 0, longitude, latitude);
+		}
+		return id;
+	}
+
+	/**
+	 * Find a bounds containing the point, including edges
+	 *
+	 * @param point
+	 *            point
+	 * @return bounds id, or -1 if not found
+	 */
+	public int find(Point point) {
+		point = point.toUnit(unit);
+		return find(point.getLongitude(), point.getLatitude());
+	}
+
+	/**
+	 * Find a bounds containing the coordinate in the node children
+	 *
+	 * @param level
+	 *            node level
+	 * @param node
+	 *            node within the level
+	 * @param longitude
+	 *            longitude
+	 * @param latitude
+	 *            latitude
+	 * @return bounds id, or -1 if not found
+	 */
+	private int find(int level, int node, double longitude, double latitude) {
+		int id = -1;
+		int childLevel = level - 1;
+		int childStart = levelStarts[childLevel];
+		int first = children[levelStarts[level] + node - levelCounts[0]];
+		int last = Math.min(first + NODE_CAPACITY, levelCounts[childLevel]);
+		for (int child = first; id == -1 && child < last; child++) {
+			int b = 4 * (childStart + child);
+			if (boxes[b] <= longitude && boxes[b + 2] >= longitude
+					&& boxes[b + 1] <= latitude && boxes[b + 3] >= latitude) {
+				if (childLevel == 0) {
+					id = ids[child];
+				} else {
+					id = find(childLevel, child, longitude, latitude);
+				}
+			}
+		}
+		return id;
+	}
+
+	/**
+	 * Find the nearest bounds to the coordinate, by planar distance in the
+	 * index unit with a distance of 0 within bounds
+	 *
+	 * @param longitude
+	 *            longitude in the index unit
+	 * @param latitude
+	 *            latitude in the index unit
+	 * @return nearest bounds id, or -1 if empty
+	 */
+	public int nearest(double longitude, double latitude) {
+		int id = -1;
+		if (!isEmpty()) {
+			int entry = nearest(levelCounts.length - 1, 0, longitude,
+					latitude, -1, Double.POSITIVE_INFINITY);
+			id = ids[entry];
+		}
+		return id;
+	}
+
+	/**
+	 * Find the nearest bounds to the point, by planar distance in the index
+	 * unit with a distance of 0 within bounds
+	 *
+	 * @param point
+	 *            point
+	 * @return nearest bounds id, or -1 if empty
+	 */
+	public int nearest(Point point) {
+		point = point.toUnit(unit);
+		return nearest(point.getLongitude(), point.getLatitude());
+	}
+
+	/**
+	 * Find the nearest leaf entry in the node children, pruning children
+	 * farther than the current best
+	 *
+	 * @param level
+	 *            node level
+	 * @param node
+	 *            node within the level
+	 * @param longitude
+	 *            longitude
+	 * @param latitude
+	 *            latitude
+	 * @param best
+	 *            current best leaf entry, or -1
+	 * @param bestDistance
+	 *            current best squared distance
+	 * @return best leaf entry
+	 */
+	private int nearest(int level, int node, double longitude,
+			double latitude, int best, double bestDistance) {
+		int childLevel = level - 1;
+		int childStart = levelStarts[childLevel];
+		int first = children[levelStarts[level] + node - levelCounts[0]];
+		int last = Math.min(first + NODE_CAPACITY, levelCounts[childLevel]);
+		for (int child = first; bestDistance > 0.0 && child < last; child++) {
+			double distance = distance(childStart + child, longitude,
+					latitude);
+			if (distance < bestDistance) {
+				if (childLevel == 0) {
+					best = child;
+					bestDistance = distance;
+				} else {
+					int entry = nearest(childLevel, child, longitude, latitude,
+							best, bestDistance);
+					if (entry != best) {
+						best = entry;
+						bestDistance = distance(entry, longitude, latitude);
+					}
+				}
+			}
+		}
+		return best;
+	}
+
+	/**
+	 * Get the squared planar distance from the coordinate to the box
+	 *
+	 * @param box
+	 *            box index
+	 * @param longitude
+	 *            longitude
+	 * @param latitude
+	 *            latitude
+	 * @return squared distance, 0 within the box
+	 */
+	private double distance(int box, double longitude, double latitude) {
+		int b = 4 * box;
+		double dx = Math.max(0.0,
+				Math.max(boxes[b] - longitude, longitude - boxes[b + 2]));
+		double dy = Math.max(0.0,
+				Math.max(boxes[b + 1] - latitude, latitude - boxes[b + 3]));
+		return dx * dx + dy * dy;
+	}
+
+}
@@ -0,0 +1,225 @@
+package mil.nga.grid.features;
+
+/**
+ * Liang-Barsky line segment clipping against a rectangle, operating on
+ * primitive coordinates and writing into caller provided arrays. Segments
+ * and rectangles must be in the same unit, typically meters.
+ *
+ * @author osbornb
+ */
+public final class Clipper {
+
+	/**
+	 * Constructor
+	 */
+	private Clipper() {
+
+	}
+
+	/**
+	 * Clip a segment to the bounds
+	 *
+	 * @param bounds
+	 *            bounds in meters
+	 * @param x1
+	 *            first longitude in meters
+	 * @param y1
+	 *            first latitude in meters
+	 * @param x2
+	 *            second longitude in meters
+	 * @param y2
+	 *            second latitude in meters
+	 * @param clipped
+	 *            clipped segment array, written as [x1, y1, x2, y2] at the
+	 *            offset
+	 * @param offset
+	 *            clipped array offset
+	 * @return true if the segment is at least partially within the bounds
+	 */
+	public static boolean clip(Bounds bounds, double x1, double y1, double x2,
+			double y2, double[] clipped, int offset) {
+		bounds = bounds.toMeters();
+		return clip(bounds.getMinLongitude(), bounds.getMinLatitude(),
+				bounds.getMaxLongitude(), bounds.getMaxLatitude(), x1, y1, x2,
+				y2, clipped, offset);
+	}
+
+	/**
+	 * Clip a batch of segments to the bounds, compacting the visible clipped
+	 * segments into the clipped array
+	 *
+	 * @param bounds
+	 *            bounds in meters
+	 * @param segments
+	 *            segments in meters as [x1, y1, x2, y2, ...]
+	 * @param count
+	 *            number of segments
+	 * @param clipped
+	 *            clipped segments array of at least four times the count
+	 * @return number of visible segments written to the clipped array
+	 */
+	public static int clip(Bounds bounds, double[] segments, int count,
+			double[] clipped) {
+
+		if (segments.length < 4 * count || clipped.length < 4 * count) {
+			throw new IllegalArgumentException(
+					"Segment arrays too small. required: " + (4 * count)
+							+ ", segments: " + segments.length + ", clipped: "
+							+ clipped.length);
+		}
+
+		bounds = bounds.toMeters();
+		double west = bounds.getMinLongitude();
+		double south = bounds.getMinLatitude();
+		double east = bounds.getMaxLongitude();
+		double north = bounds.getMaxLatitude();
+
+		int visible = 0;
+		for (int i = 0; i < count; i++) {
+			int s = 4 * i;
+			if (clip(west, south, east, north, segments[s], segments[s + 1],
+					segments[s + 2], segments[s + 3], clipped, 4 * visible)) {
+				visible++;
+			}
+		}
+
+		return visible;
+	}
+
+	/**
+	 * Clip a segment to the rectangle
+	 *
+	 * @param west
+	 *            west edge
+	 * @param south
+	 *            south edge
+	 * @param east
+	 *            east edge
+	 * @param north
+	 *            north edge
+	 * @param x1
+	 *            first x
+	 * @param y1
+	 *            first y
+	 * @param x2
+	 *            second x
+	 * @param y2
+	 *            second y
+	 * @param clipped
+	 *            clipped segment array, written as [x1, y1, x2, y2] at the
+	 *            offset when visible
+	 * @param offset
+	 *            clipped array offset
+	 * @return true if the segment is at least partially within the rectangle
+	 */
+	public static boolean clip(double west, double south, double east,
+			double north, double x1, double y1, double x2, double y2,
+			double[] clipped, int offset) {
+
+		double dx = x2 - x1;
+		double dy = y2 - y1;
+
+		double t0 = 0.0;
+		double t1 = 1.0;
+
+		// West edge
+		double q = x1 - west;
+		if (dx == 0.0) {
+			if (q < 0.0) {
+				return false;
+			}
+		} else {
+			double t = q / -dx;
+			if (dx > 0.0) {
+				t0 = Math.max(t0, t);
+			} else {
+				t1 = Math.min(t1, t);
+			}
+		}
+
+		// East edge
+		q = east - x1;
+		if (dx == 0.0) {
+			if (q < 0.0) {
+				return false;
+			}
+		} else {
+			double t = q / dx;
+			if (dx < 0.0) {
+				t0 = Math.max(t0, t);
+			} else {
+				t1 = Math.min(t1, t);
+			}
+		}
+
+		// South edge
+		q = y1 - south;
+		if (dy == 0.0) {
+			if (q < 0.0) {
+				return false;
+			}
+		} else {
+			double t = q / -dy;
+			if (dy > 0.0) {
+				t0 = Math.max(t0, t);
+			} else {
+				t1 = Math.min(t1, t);
+			}
+		}
+
+		// North edge
+		q = north - y1;
+		if (dy == 0.0) {
+			if (q < 0.0) {
+				return false;
+			}
+		} else {
+			double t = q / dy;
+			if (dy < 0.0) {
+				t0 = Math.max(t0, t);
+			} else {
+				t1 = Math.min(t1, t);
+			}
+		}
+
+		if (t0 > t1) {
+			return false;
+		}
+
+		if (clipped != null) {
+			clipped[offset] = t0 == 0.0 ? x1 : x1 + t0 * dx;
+			clipped[offset + 1] = t0 == 0.0 ? y1 : y1 + t0 * dy;
+			clipped[offset + 2] = t1 == 1.0 ? x2 : x1 + t1 * dx;
+			clipped[offset + 3] = t1 == 1.0 ? y2 : y1 + t1 * dy;
+		}
+
+		return true;
+	}
+
+	/**
+	 * Determine if a segment intersects the rectangle
+	 *
+	 * @param west
+	 *            west edge
+	 * @param south
+	 *            south edge
+	 * @param east
+	 *            east edge
+	 * @param north
+	 *            north edge
+	 * @param x1
+	 *            first x
+	 * @param y1
+	 *            first y
+	 * @param x2
+	 *            second x
+	 * @param y2
+	 *            second y
+	 * @return true if the segment is at least partially within the rectangle
+	 */
+	public static boolean intersects(double west, double south, double east,
+			double north, double x1, double y1, double x2, double y2) {
+		return clip(west, south, east, north, x1, y1, x2, y2, null, 0);
+	}
+
+}
@@ -0,0 +1,49 @@
+package mil.nga.grid.features;
+
+import mil.nga.grid.Conversion;
+
+/**
+ * Immutable cached unit conversion result, valid only for the conversion
+ * engine that produced it
+ *
+ * @author osbornb
+ * @param <T>
+ *            converted value type, never shared outside of the owner
+ */
+final class Converted<T> {
+
+	/**
+	 * Conversion engine that produced the value
+	 */
+	private final Conversion conversion;
+
+	/**
+	 * Converted value
+	 */
+	private final T value;
+
+	/**
+	 * Constructor
+	 *
+	 * @param conversion
+	 *            conversion engine that produced the value
+	 * @param value
+	 *            converted value
+	 */
+	Converted(Conversion conversion, T value) {
+		this.conversion = conversion;
+		this.value = value;
+	}
+
+	/**
+	 * Get the converted value if produced by the conversion engine
+	 *
+	 * @param conversion
+	 *            conversion engine
+	 * @return value, or null if produced by a different engine
+	 */
+	T get(Conversion conversion) {
+		return this.conversion == conversion ? value : null;
+	}
+
+}
@@ -0,0 +1,306 @@
+package mil.nga.grid.features;
+
+import mil.nga.grid.Conversion;
+import mil.nga.grid.tile.GridTile;
+import mil.nga.grid.tile.Pixel;
+
+/**
+ * Lightweight immutable coordinate of a longitude, latitude, and unit. Unlike
+ * {@link Point}, does not extend the simple features point, with explicit
+ * adapters to and from {@link Point} and {@link mil.nga.sf.Point}.
+ *
+ * @author osbornb
+ */
+public final class Coordinate {
+
+	/**
+	 * Longitude
+	 */
+	private final double longitude;
+
+	/**
+	 * Latitude
+	 */
+	private final double latitude;
+
+	/**
+	 * Unit
+	 */
+	private final Unit unit;
+
+	/**
+	 * Create a coordinate
+	 *
+	 * @param longitude
+	 *            longitude
+	 * @param latitude
+	 *            latitude
+	 * @param unit
+	 *            unit
+	 * @return coordinate
+	 */
+	public static Coordinate coordinate(double longitude, double latitude,
+			Unit unit) {
+		return new Coordinate(longitude, latitude, unit);
+	}
+
+	/**
+	 * Create a coordinate in degrees
+	 *
+	 * @param longitude
+	 *            longitude in degrees
+	 * @param latitude
+	 *            latitude in degrees
+	 * @return coordinate in degrees
+	 */
+	public static Coordinate degrees(double longitude, double latitude) {
+		return new Coordinate(longitude, latitude, Unit.DEGREE);
+	}
+
+	/**
+	 * Create a coordinate in meters
+	 *
+	 * @param longitude
+	 *            longitude in meters
+	 * @param latitude
+	 *            latitude in meters
+	 * @return coordinate in meters
+	 */
+	public static Coordinate meters(double longitude, double latitude) {
+		return new Coordinate(longitude, latitude, Unit.METER);
+	}
+
+	/**
+	 * Create a coordinate from a point
+	 *
+	 * @param point
+	 *            point
+	 * @return coordinate
+	 */
+	public static Coordinate coordinate(Point point) {
+		return new Coordinate(point.getLongitude(), point.getLatitude(),
+				point.getUnit());
+	}
+
+	/**
+	 * Create a coordinate from a simple features point
+	 *
+	 * @param point
+	 *            simple features point
+	 * @param unit
+	 *            unit
+	 * @return coordinate
+	 */
+	public static Coordinate coordinate(mil.nga.sf.Point point, Unit unit) {
+		return new Coordinate(point.getX(), point.getY(), unit);
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param longitude
+	 *            longitude
+	 * @param latitude
+	 *            latitude
+	 * @param unit
+	 *            unit
+	 */
+	public Coordinate(double longitude, double latitude, Unit unit) {
+		this.longitude = longitude;
+		this.latitude = latitude;
+		this.unit = unit;
+	}
+
+	/**
+	 * Get the longitude
+	 *
+	 * @return longitude
+	 */
+	public double getLongitude() {
+		return longitude;
+	}
+
+	/**
+	 * Get the latitude
+	 *
+	 * @return latitude
+	 */
+	public double getLatitude() {
+		return latitude;
+	}
+
+	/**
+	 * Get the unit
+	 *
+	 * @return unit
+	 */
+	public Unit getUnit() {
+		return unit;
+	}
+
+	/**
+	 * Is in the provided unit type
+	 *
+	 * @param unit
+	 *            unit
+	 * @return true if in the unit
+	 */
+	public boolean isUnit(Unit unit) {
+		return this.unit == unit;
+	}
+
+	/**
+	 * Is this coordinate in degrees
+	 *
+	 * @return true if degrees
+	 */
+	public boolean isDegrees() {
+		return isUnit(Unit.DEGREE);
+	}
+
+	/**
+	 * Is this coordinate in meters
+	 *
+	 * @return true if meters
+	 */
+	public boolean isMeters() {
+		return isUnit(Unit.METER);
+	}
+
+	/**
+	 * Convert to the unit
+	 *
+	 * @param unit
+	 *            unit
+	 * @return coordinate in units, same coordinate if equal units
+	 */
+	public Coordinate toUnit(Unit unit) {
+		return toUnit(unit, Conversion.STRICT);
+	}
+
+	/**
+	 * Convert to the unit with the conversion engine
+	 *
+	 * @param unit
+	 *            unit
+	 * @param conversion
+	 *            conversion engine
+	 * @return coordinate in units, same coordinate if equal units
+	 */
+	public Coordinate toUnit(Unit unit, Conversion conversion) {
+		Coordinate coordinate = null;
+		if (isUnit(unit)) {
+			coordinate = this;
+		} else {
+			switch (unit) {
+			case DEGREE:
+				coordinate = new Coordinate(
+						conversion.longitudeToDegrees(longitude),
+						conversion.latitudeToDegrees(latitude), unit);
+				break;
+			case METER:
+				coordinate = new Coordinate(
+						conversion.longitudeToMeters(longitude),
+						conversion.latitudeToMeters(latitude), unit);
+				break;
+			default:
+				throw new IllegalArgumentException(
+						"Unsupported unit: " + unit);
+			}
+		}
+		return coordinate;
+	}
+
+	/**
+	 * Convert to degrees
+	 *
+	 * @return coordinate in degrees, same coordinate if already in degrees
+	 */
+	public Coordinate toDegrees() {
+		return toUnit(Unit.DEGREE);
+	}
+
+	/**
+	 * Convert to meters
+	 *
+	 * @return coordinate in meters, same coordinate if already in meters
+	 */
+	public Coordinate toMeters() {
+		return toUnit(Unit.METER);
+	}
+
+	/**
+	 * Get the pixel where the coordinate fits into the tile
+	 *
+	 * @param tile
+	 *            tile
+	 * @return pixel
+	 */
+	public Pixel getPixel(GridTile tile) {
+		return tile.getPixel(this);
+	}
+
+	/**
+	 * Convert to a grid point
+	 *
+	 * @return point
+	 */
+	public Point toPoint() {
+		return Point.point(longitude, latitude, unit);
+	}
+
+	/**
+	 * Convert to a simple features point
+	 *
+	 * @return simple features point
+	 */
+	public mil.nga.sf.Point toSimplePoint() {
+		return new mil.nga.sf.Point(longitude, latitude);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int hashCode() {
+		final int prime = 31;
+		int result = 1;
+		result = prime * result + Double.hashCode(longitude);
+		result = prime * result + Double.hashCode(latitude);
+		result = prime * result + ((unit == null) ? 0 : unit.hashCode());
+		return result;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		Coordinate other = (Coordinate) obj;
+		if (Double.doubleToLongBits(longitude) != Double
+				.doubleToLongBits(other.longitude))
+			return false;
+		if (Double.doubleToLongBits(latitude) != Double
+				.doubleToLongBits(other.latitude))
+			return false;
+		if (unit != other.unit)
+			return false;
+		return true;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		return "Coordinate [longitude=" + longitude + ", latitude=" + latitude
+				+ ", unit=" + unit + "]";
+	}
+
+}
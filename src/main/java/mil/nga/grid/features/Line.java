@@ -202,6 +202,15 @@ public class Line extends mil.nga.sf.Line {
 		return GridUtils.intersection(this, line);
 	}
 
+	/**
+	 * Convert to a compact segment
+	 * 
+	 * @return segment
+	 */
+	public Segment toSegment() {
+		return Segment.segment(this);
+	}
+
 	/**
 	 * Copy the line
 	 * 
@@ -0,0 +1,556 @@
+package mil.nga.grid.features;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import mil.nga.grid.Conversion;
+import mil.nga.grid.tile.GridTile;
+import mil.nga.grid.tile.TileTransform;
+
+/**
+ * Growable columnar container of line segments in a single unit, backed by
+ * primitive first and second point coordinate columns. {@link Line} and
+ * {@link Segment} views are created on demand.
+ *
+ * @author osbornb
+ */
+public final class LineArray {
+
+	/**
+	 * Default initial capacity
+	 */
+	private static final int DEFAULT_CAPACITY = 16;
+
+	/**
+	 * Unit
+	 */
+	private Unit unit;
+
+	/**
+	 * First longitudes
+	 */
+	private double[] longitudes1;
+
+	/**
+	 * First latitudes
+	 */
+	private double[] latitudes1;
+
+	/**
+	 * Second longitudes
+	 */
+	private double[] longitudes2;
+
+	/**
+	 * Second latitudes
+	 */
+	private double[] latitudes2;
+
+	/**
+	 * Number of lines
+	 */
+	private int size;
+
+	/**
+	 * Create an empty line array
+	 *
+	 * @param unit
+	 *            unit
+	 * @return line array
+	 */
+	public static LineArray create(Unit unit) {
+		return new LineArray(unit, DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Create an empty line array
+	 *
+	 * @param unit
+	 *            unit
+	 * @param capacity
+	 *            initial capacity
+	 * @return line array
+	 */
+	public static LineArray create(Unit unit, int capacity) {
+		return new LineArray(unit, capacity);
+	}
+
+	/**
+	 * Create a line array from lines, converting each to the unit
+	 *
+	 * @param lines
+	 *            lines
+	 * @param unit
+	 *            unit
+	 * @return line array
+	 */
+	public static LineArray create(Collection<Line> lines, Unit unit) {
+		LineArray array = new LineArray(unit, lines.size());
+		for (Line line : lines) {
+			array.add(line);
+		}
+		return array;
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param unit
+	 *            unit
+	 * @param capacity
+	 *            initial capacity
+	 */
+	public LineArray(Unit unit, int capacity) {
+		this.unit = unit;
+		longitudes1 = new double[capacity];
+		latitudes1 = new double[capacity];
+		longitudes2 = new double[capacity];
+		latitudes2 = new double[capacity];
+	}
+
+	/**
+	 * Get the unit
+	 *
+	 * @return unit
+	 */
+	public Unit getUnit() {
+		return unit;
+	}
+
+	/**
+	 * Is in the provided unit type
+	 *
+	 * @param unit
+	 *            unit
+	 * @return true if in the unit
+	 */
+	public boolean isUnit(Unit unit) {
+		return this.unit == unit;
+	}
+
+	/**
+	 * Get the number of lines
+	 *
+	 * @return size
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Is the array empty
+	 *
+	 * @return true if empty
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Add a line
+	 *
+	 * @param longitude1
+	 *            first longitude
+	 * @param latitude1
+	 *            first latitude
+	 * @param longitude2
+	 *            second longitude
+	 * @param latitude2
+	 *            second latitude
+	 * @return index of the added line
+	 */
+	public int add(double longitude1, double latitude1, double longitude2,
+			double latitude2) {
+		if (size == longitudes1.length) {
+			int capacity = Math.max(DEFAULT_CAPACITY, size + (size >> 1));
+			longitudes1 = Arrays.copyOf(longitudes1, capacity);
+			latitudes1 = Arrays.copyOf(latitudes1, capacity);
+			longitudes2 = Arrays.copyOf(longitudes2, capacity);
+			latitudes2 = Arrays.copyOf(latitudes2, capacity);
+		}
+		longitudes1[size] = longitude1;
+		latitudes1[size] = latitude1;
+		longitudes2[size] = longitude2;
+		latitudes2[size] = latitude2;
+		return size++;
+	}
+
+	/**
+	 * Add a line, converting to the array unit
+	 *
+	 * @param line
+	 *            line
+	 * @return index of the added line
+	 */
+	public int add(Line line) {
+		line = line.toUnit(unit);
+		Point point1 = line.getPoint1();
+		Point point2 = line.getPoint2();
+		return add(point1.getLongitude(), point1.getLatitude(),
+				point2.getLongitude(), point2.getLatitude());
+	}
+
+	/**
+	 * Add a segment, converting to the array unit
+	 *
+	 * @param segment
+	 *            segment
+	 * @return index of the added line
+	 */
+	public int add(Segment segment) {
+		segment = segment.toUnit(unit);
+		return add(segment.getLongitude1(), segment.getLatitude1(),
+				segment.getLongitude2(), segment.getLatitude2());
+	}
+
+	/**
+	 * Get the first longitude
+	 *
+	 * @param index
+	 *            index
+	 * @return first longitude
+	 */
+	public double getLongitude1(int index) {
+		return longitudes1[checkIndex(index)];
+	}
+
+	/**
+	 * Get the first latitude
+	 *
+	 * @param index
+	 *            index
+	 * @return first latitude
+	 */
+	public double getLatitude1(int index) {
+		return latitudes1[checkIndex(index)];
+	}
+
+	/**
+	 * Get the second longitude
+	 *
+	 * @param index
+	 *            index
+	 * @return second longitude
+	 */
+	public double getLongitude2(int index) {
+		return longitudes2[checkIndex(index)];
+	}
+
+	/**
+	 * Get the second latitude
+	 *
+	 * @param index
+	 *            index
+	 * @return second latitude
+	 */
+	public double getLatitude2(int index) {
+		return latitudes2[checkIndex(index)];
+	}
+
+	/**
+	 * Get a new segment view of the line at the index
+	 *
+	 * @param index
+	 *            index
+	 * @return segment
+	 */
+	public Segment getSegment(int index) {
+		checkIndex(index);
+		return Segment.segment(longitudes1[index], latitudes1[index],
+				longitudes2[index], latitudes2[index], unit);
+	}
+
+	/**
+	 * Get a new line view of the line at the index
+	 *
+	 * @param index
+	 *            index
+	 * @return line
+	 */
+	public Line getLine(int index) {
+		return getSegment(index).toLine();
+	}
+
+	/**
+	 * Get new line views of all lines
+	 *
+	 * @return lines
+	 */
+	public List<Line> toList() {
+		List<Line> lines = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			lines.add(getLine(i));
+		}
+		return lines;
+	}
+
+	/**
+	 * Convert to the unit
+	 *
+	 * @param unit
+	 *            unit
+	 * @return line array in units, same array if equal units
+	 */
+	public LineArray toUnit(Unit unit) {
+		return toUnit(unit, Conversion.STRICT);
+	}
+
+	/**
+	 * Convert to the unit with the conversion engine
+	 *
+	 * @param unit
+	 *            unit
+	 * @param conversion
+	 *            conversion engine
+	 * @return line array in units, same array if equal units
+	 */
+	public LineArray toUnit(Unit unit, Conversion conversion) {
+		LineArray array = null;
+		if (isUnit(unit)) {
+			array = this;
+		} else {
+			array = toUnit(unit, conversion, new LineArray(unit, size));
+		}
+		return array;
+	}
+
+	/**
+	 * Convert to the unit with the conversion engine, written into the
+	 * destination array in place of its lines
+	 *
+	 * @param unit
+	 *            unit
+	 * @param conversion
+	 *            conversion engine
+	 * @param array
+	 *            destination line array in the unit, grown as needed
+	 * @return destination line array
+	 */
+	public LineArray toUnit(Unit unit, Conversion conversion, LineArray array) {
+		if (!array.isUnit(unit)) {
+			throw new IllegalArgumentException("Destination unit '"
+					+ array.unit + "' does not match unit '" + unit + "'");
+		}
+		if (array != this) {
+			array.reserve(size);
+			if (isUnit(unit)) {
+				System.arraycopy(longitudes1, 0, array.longitudes1, 0, size);
+				System.arraycopy(latitudes1, 0, array.latitudes1, 0, size);
+				System.arraycopy(longitudes2, 0, array.longitudes2, 0, size);
+				System.arraycopy(latitudes2, 0, array.latitudes2, 0, size);
+			} else {
+				convert(unit, conversion, array);
+			}
+			array.size = size;
+		}
+		return array;
+	}
+
+	/**
+	 * Convert to degrees, written into the destination array in place of its
+	 * lines
+	 *
+	 * @param array
+	 *            destination line array in degrees, grown as needed
+	 * @return destination line array
+	 */
+	public LineArray toDegrees(LineArray array) {
+		return toUnit(Unit.DEGREE, Conversion.STRICT, array);
+	}
+
+	/**
+	 * Convert to meters, written into the destination array in place of its
+	 * lines
+	 *
+	 * @param array
+	 *            destination line array in meters, grown as needed
+	 * @return destination line array
+	 */
+	public LineArray toMeters(LineArray array) {
+		return toUnit(Unit.METER, Conversion.STRICT, array);
+	}
+
+	/**
+	 * Convert this array in place to the unit
+	 *
+	 * @param unit
+	 *            unit
+	 * @return this line array
+	 */
+	public LineArray convert(Unit unit) {
+		return convert(unit, Conversion.STRICT);
+	}
+
+	/**
+	 * Convert this array in place to the unit with the conversion engine
+	 *
+	 * @param unit
+	 *            unit
+	 * @param conversion
+	 *            conversion engine
+	 * @return this line array
+	 */
+	public LineArray convert(Unit unit, Conversion conversion) {
+		if (!isUnit(unit)) {
+			convert(unit, conversion, this);
+			this.unit = unit;
+		}
+		return this;
+	}
+
+	/**
+	 * Write the lines converted to the unit into the destination columns,
+	 * which may be the columns of this array
+	 *
+	 * @param unit
+	 *            unit
+	 * @param conversion
+	 *            conversion engine
+	 * @param array
+	 *            destination line array with room for the lines
+	 */
+	private void convert(Unit unit, Conversion conversion, LineArray array) {
+		switch (unit) {
+		case DEGREE:
+			for (int i = 0; i < size; i++) {
+				array.longitudes1[i] = conversion
+						.longitudeToDegrees(longitudes1[i]);
+				array.latitudes1[i] = conversion
+						.latitudeToDegrees(latitudes1[i]);
+				array.longitudes2[i] = conversion
+						.longitudeToDegrees(longitudes2[i]);
+				array.latitudes2[i] = conversion
+						.latitudeToDegrees(latitudes2[i]);
+			}
+			break;
+		case METER:
+			for (int i = 0; i < size; i++) {
+				array.longitudes1[i] = conversion
+						.longitudeToMeters(longitudes1[i]);
+				array.latitudes1[i] = conversion
+						.latitudeToMeters(latitudes1[i]);
+				array.longitudes2[i] = conversion
+						.longitudeToMeters(longitudes2[i]);
+				array.latitudes2[i] = conversion
+						.latitudeToMeters(latitudes2[i]);
+			}
+			break;
+		default:
+			throw new IllegalArgumentException("Unsupported unit: " + unit);
+		}
+	}
+
+	/**
+	 * Grow the columns to at least the capacity
+	 *
+	 * @param capacity
+	 *            capacity
+	 */
+	private void reserve(int capacity) {
+		if (capacity > longitudes1.length) {
+			longitudes1 = Arrays.copyOf(longitudes1, capacity);
+			latitudes1 = Arrays.copyOf(latitudes1, capacity);
+			longitudes2 = Arrays.copyOf(longitudes2, capacity);
+			latitudes2 = Arrays.copyOf(latitudes2, capacity);
+		}
+	}
+
+	/**
+	 * Convert to degrees
+	 *
+	 * @return line array in degrees, same array if already in degrees
+	 */
+	public LineArray toDegrees() {
+		return toUnit(Unit.DEGREE);
+	}
+
+	/**
+	 * Convert to meters
+	 *
+	 * @return line array in meters, same array if already in meters
+	 */
+	public LineArray toMeters() {
+		return toUnit(Unit.METER);
+	}
+
+	/**
+	 * Create a new line array in meters of the lines clipped to the bounds,
+	 * omitting lines outside the bounds
+	 *
+	 * @param bounds
+	 *            bounds
+	 * @return clipped line array in meters
+	 */
+	public LineArray clip(Bounds bounds) {
+		bounds = bounds.toMeters();
+		double west = bounds.getMinLongitude();
+		double south = bounds.getMinLatitude();
+		double east = bounds.getMaxLongitude();
+		double north = bounds.getMaxLatitude();
+		LineArray meters = toMeters();
+		LineArray clipped = new LineArray(Unit.METER, DEFAULT_CAPACITY);
+		double[] segment = new double[4];
+		for (int i = 0; i < size; i++) {
+			if (Clipper.clip(west, south, east, north, meters.longitudes1[i],
+					meters.latitudes1[i], meters.longitudes2[i],
+					meters.latitudes2[i], segment, 0)) {
+				clipped.add(segment[0], segment[1], segment[2], segment[3]);
+			}
+		}
+		return clipped;
+	}
+
+	/**
+	 * Create a new line array in meters of the lines clipped to the tile
+	 *
+	 * @param tile
+	 *            tile
+	 * @return clipped line array in meters
+	 */
+	public LineArray clip(GridTile tile) {
+		return clip(tile.getBoundsMeters());
+	}
+
+	/**
+	 * Get the line pixels in the tile, written as [x1, y1, x2, y2] per line
+	 *
+	 * @param tile
+	 *            tile
+	 * @param pixels
+	 *            pixels array of at least four times the array size
+	 */
+	public void getPixels(GridTile tile, float[] pixels) {
+		if (pixels.length < 4 * size) {
+			throw new IllegalArgumentException(
+					"Pixels array too small. required: " + (4 * size)
+							+ ", pixels: " + pixels.length);
+		}
+		LineArray meters = toMeters();
+		TileTransform transform = tile.getTransform();
+		for (int i = 0; i < size; i++) {
+			int p = 4 * i;
+			pixels[p] = transform.getXPixel(meters.longitudes1[i]);
+			pixels[p + 1] = transform.getYPixel(meters.latitudes1[i]);
+			pixels[p + 2] = transform.getXPixel(meters.longitudes2[i]);
+			pixels[p + 3] = transform.getYPixel(meters.latitudes2[i]);
+		}
+	}
+
+	/**
+	 * Check the index is within the array size
+	 *
+	 * @param index
+	 *            index
+	 * @return index
+	 */
+	private int checkIndex(int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException(
+					"Index: " + index + ", Size: " + size);
+		}
+		return index;
+	}
+
+}
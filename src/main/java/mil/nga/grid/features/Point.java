@@ -1,5 +1,6 @@
 package mil.nga.grid.features;
 
+import mil.nga.grid.Conversion;
 import mil.nga.grid.GridUtils;
 import mil.nga.grid.tile.GridTile;
 import mil.nga.grid.tile.Pixel;
@@ -21,6 +22,11 @@ public class Point extends mil.nga.sf.Point {
 	 */
 	private Unit unit;
 
+	/**
+	 * Lazily converted coordinate in the other unit, cleared on mutation
+	 */
+	private transient volatile Converted<Coordinate> converted;
+
 	/**
 	 * Create a point with default degree unit
 	 * 
@@ -263,6 +269,25 @@ public class Point extends mil.nga.sf.Point {
 	 */
 	public void setUnit(Unit unit) {
 		this.unit = unit;
+		clearConverted();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void setX(double x) {
+		super.setX(x);
+		clearConverted();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void setY(double y) {
+		super.setY(y);
+		clearConverted();
 	}
 
 	/**
@@ -299,19 +324,87 @@ public class Point extends mil.nga.sf.Point {
 	 * 
 	 * @param unit
 	 *            unit
-	 * @return point in units, same point if equal units
+	 * @return point in units, same point if equal units. Otherwise a new
+	 *         point from the cached {@link Conversion#STRICT} conversion,
+	 *         which is kept until this point is mutated.
 	 */
 	public Point toUnit(Unit unit) {
+		return toUnit(unit, Conversion.STRICT);
+	}
+
+	/**
+	 * Convert to the unit with the conversion engine
+	 * 
+	 * @param unit
+	 *            unit
+	 * @param conversion
+	 *            conversion engine
+	 * @return point in units, same point if equal units. Otherwise a new
+	 *         point from the cached conversion of the engine.
+	 */
+	public Point toUnit(Unit unit, Conversion conversion) {
 		Point point = null;
 		if (isUnit(unit)) {
 			point = this;
 		} else {
-			point = GridUtils.toUnit(this.unit, getLongitude(), getLatitude(),
-					unit);
+			point = converted(unit, conversion).toPoint();
 		}
 		return point;
 	}
 
+	/**
+	 * Get the longitude in the unit, from the cached
+	 * {@link Conversion#STRICT} conversion when in the other unit
+	 * 
+	 * @param unit
+	 *            unit
+	 * @return longitude in unit
+	 */
+	public double getLongitude(Unit unit) {
+		return isUnit(unit) ? getLongitude()
+				: converted(unit, Conversion.STRICT).getLongitude();
+	}
+
+	/**
+	 * Get the latitude in the unit, from the cached
+	 * {@link Conversion#STRICT} conversion when in the other unit
+	 * 
+	 * @param unit
+	 *            unit
+	 * @return latitude in unit
+	 */
+	public double getLatitude(Unit unit) {
+		return isUnit(unit) ? getLatitude()
+				: converted(unit, Conversion.STRICT).getLatitude();
+	}
+
+	/**
+	 * Get the cached conversion to the other unit, converting on a miss
+	 * 
+	 * @param unit
+	 *            other unit
+	 * @param conversion
+	 *            conversion engine
+	 * @return converted coordinate
+	 */
+	private Coordinate converted(Unit unit, Conversion conversion) {
+		Converted<Coordinate> cached = converted;
+		Coordinate coordinate = cached != null ? cached.get(conversion)
+				: null;
+		if (coordinate == null || !coordinate.isUnit(unit)) {
+			coordinate = toCoordinate().toUnit(unit, conversion);
+			converted = new Converted<>(conversion, coordinate);
+		}
+		return coordinate;
+	}
+
+	/**
+	 * Clear the cached converted coordinate
+	 */
+	private void clearConverted() {
+		converted = null;
+	}
+
 	/**
 	 * Convert to degrees
 	 * 
@@ -338,7 +431,7 @@ public class Point extends mil.nga.sf.Point {
 	 * @return pixel
 	 */
 	public Pixel getPixel(GridTile tile) {
-		return getPixel(tile.getWidth(), tile.getHeight(), tile.getBounds());
+		return tile.getPixel(this);
 	}
 
 	/**
@@ -356,6 +449,15 @@ public class Point extends mil.nga.sf.Point {
 		return GridUtils.getPixel(width, height, bounds, this);
 	}
 
+	/**
+	 * Convert to a lightweight coordinate
+	 * 
+	 * @return coordinate
+	 */
+	public Coordinate toCoordinate() {
+		return Coordinate.coordinate(this);
+	}
+
 	/**
 	 * Copy the point
 	 * 
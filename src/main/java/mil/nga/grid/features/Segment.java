@@ -0,0 +1,387 @@
+package mil.nga.grid.features;
+
+import mil.nga.grid.Conversion;
+import mil.nga.grid.GridUtils;
+import mil.nga.grid.tile.GridTile;
+import mil.nga.grid.tile.TileTransform;
+
+/**
+ * Compact immutable line segment between two coordinates, holding four
+ * doubles and a unit. Convertible to and from {@link Line}.
+ *
+ * @author osbornb
+ */
+public final class Segment {
+
+	/**
+	 * First longitude
+	 */
+	private final double longitude1;
+
+	/**
+	 * First latitude
+	 */
+	private final double latitude1;
+
+	/**
+	 * Second longitude
+	 */
+	private final double longitude2;
+
+	/**
+	 * Second latitude
+	 */
+	private final double latitude2;
+
+	/**
+	 * Unit
+	 */
+	private final Unit unit;
+
+	/**
+	 * Create a segment
+	 *
+	 * @param longitude1
+	 *            first longitude
+	 * @param latitude1
+	 *            first latitude
+	 * @param longitude2
+	 *            second longitude
+	 * @param latitude2
+	 *            second latitude
+	 * @param unit
+	 *            unit
+	 * @return segment
+	 */
+	public static Segment segment(double longitude1, double latitude1,
+			double longitude2, double latitude2, Unit unit) {
+		return new Segment(longitude1, latitude1, longitude2, latitude2, unit);
+	}
+
+	/**
+	 * Create a segment
+	 *
+	 * @param point1
+	 *            first point
+	 * @param point2
+	 *            second point
+	 * @return segment
+	 */
+	public static Segment segment(Point point1, Point point2) {
+		if (!point1.isUnit(point2.getUnit())) {
+			throw new IllegalArgumentException(
+					"Points are in different units. point1: "
+							+ point1.getUnit() + ", point2: "
+							+ point2.getUnit());
+		}
+		return new Segment(point1.getLongitude(), point1.getLatitude(),
+				point2.getLongitude(), point2.getLatitude(),
+				point1.getUnit());
+	}
+
+	/**
+	 * Create a segment from a line
+	 *
+	 * @param line
+	 *            line
+	 * @return segment
+	 */
+	public static Segment segment(Line line) {
+		return segment(line.getPoint1(), line.getPoint2());
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param longitude1
+	 *            first longitude
+	 * @param latitude1
+	 *            first latitude
+	 * @param longitude2
+	 *            second longitude
+	 * @param latitude2
+	 *            second latitude
+	 * @param unit
+	 *            unit
+	 */
+	public Segment(double longitude1, double latitude1, double longitude2,
+			double latitude2, Unit unit) {
+		this.longitude1 = longitude1;
+		this.latitude1 = latitude1;
+		this.longitude2 = longitude2;
+		this.latitude2 = latitude2;
+		this.unit = unit;
+	}
+
+	/**
+	 * Get the first longitude
+	 *
+	 * @return first longitude
+	 */
+	public double getLongitude1() {
+		return longitude1;
+	}
+
+	/**
+	 * Get the first latitude
+	 *
+	 * @return first latitude
+	 */
+	public double getLatitude1() {
+		return latitude1;
+	}
+
+	/**
+	 * Get the second longitude
+	 *
+	 * @return second longitude
+	 */
+	public double getLongitude2() {
+		return longitude2;
+	}
+
+	/**
+	 * Get the second latitude
+	 *
+	 * @return second latitude
+	 */
+	public double getLatitude2() {
+		return latitude2;
+	}
+
+	/**
+	 * Get the unit
+	 *
+	 * @return unit
+	 */
+	public Unit getUnit() {
+		return unit;
+	}
+
+	/**
+	 * Is in the provided unit type
+	 *
+	 * @param unit
+	 *            unit
+	 * @return true if in the unit
+	 */
+	public boolean isUnit(Unit unit) {
+		return this.unit == unit;
+	}
+
+	/**
+	 * Is this segment in degrees
+	 *
+	 * @return true if degrees
+	 */
+	public boolean isDegrees() {
+		return isUnit(Unit.DEGREE);
+	}
+
+	/**
+	 * Is this segment in meters
+	 *
+	 * @return true if meters
+	 */
+	public boolean isMeters() {
+		return isUnit(Unit.METER);
+	}
+
+	/**
+	 * Get the first point
+	 *
+	 * @return first point
+	 */
+	public Point getPoint1() {
+		return Point.point(longitude1, latitude1, unit);
+	}
+
+	/**
+	 * Get the second point
+	 *
+	 * @return second point
+	 */
+	public Point getPoint2() {
+		return Point.point(longitude2, latitude2, unit);
+	}
+
+	/**
+	 * Convert to the unit
+	 *
+	 * @param unit
+	 *            unit
+	 * @return segment in units, same segment if equal units
+	 */
+	public Segment toUnit(Unit unit) {
+		return toUnit(unit, Conversion.STRICT);
+	}
+
+	/**
+	 * Convert to the unit with the conversion engine
+	 *
+	 * @param unit
+	 *            unit
+	 * @param conversion
+	 *            conversion engine
+	 * @return segment in units, same segment if equal units
+	 */
+	public Segment toUnit(Unit unit, Conversion conversion) {
+		Segment segment = null;
+		if (isUnit(unit)) {
+			segment = this;
+		} else {
+			switch (unit) {
+			case DEGREE:
+				segment = new Segment(
+						conversion.longitudeToDegrees(longitude1),
+						conversion.latitudeToDegrees(latitude1),
+						conversion.longitudeToDegrees(longitude2),
+						conversion.latitudeToDegrees(latitude2), unit);
+				break;
+			case METER:
+				segment = new Segment(conversion.longitudeToMeters(longitude1),
+						conversion.latitudeToMeters(latitude1),
+						conversion.longitudeToMeters(longitude2),
+						conversion.latitudeToMeters(latitude2), unit);
+				break;
+			default:
+				throw new IllegalArgumentException(
+						"Unsupported unit: " + unit);
+			}
+		}
+		return segment;
+	}
+
+	/**
+	 * Convert to degrees
+	 *
+	 * @return segment in degrees, same segment if already in degrees
+	 */
+	public Segment toDegrees() {
+		return toUnit(Unit.DEGREE);
+	}
+
+	/**
+	 * Convert to meters
+	 *
+	 * @return segment in meters, same segment if already in meters
+	 */
+	public Segment toMeters() {
+		return toUnit(Unit.METER);
+	}
+
+	/**
+	 * Clip the segment to the bounds
+	 *
+	 * @param bounds
+	 *            bounds
+	 * @return clipped segment in meters, or null if outside the bounds
+	 */
+	public Segment clip(Bounds bounds) {
+		Segment meters = toMeters();
+		double[] clipped = new double[4];
+		Segment segment = null;
+		if (Clipper.clip(bounds, meters.longitude1, meters.latitude1,
+				meters.longitude2, meters.latitude2, clipped, 0)) {
+			segment = new Segment(clipped[0], clipped[1], clipped[2],
+					clipped[3], Unit.METER);
+		}
+		return segment;
+	}
+
+	/**
+	 * Get the intersection between the lines through this segment and the
+	 * provided segment
+	 *
+	 * @param segment
+	 *            segment
+	 * @return intersection point in this unit, or null if parallel
+	 */
+	public Point intersection(Segment segment) {
+		Segment meters1 = toMeters();
+		Segment meters2 = segment.toMeters();
+		double[] point = new double[2];
+		Point intersection = null;
+		if (GridUtils.intersection(meters1.longitude1, meters1.latitude1,
+				meters1.longitude2, meters1.latitude2, meters2.longitude1,
+				meters2.latitude1, meters2.longitude2, meters2.latitude2,
+				point, 0)) {
+			intersection = Point.meters(point[0], point[1]).toUnit(unit);
+		}
+		return intersection;
+	}
+
+	/**
+	 * Get the segment pixels in the tile, written as [x1, y1, x2, y2] at the
+	 * offset
+	 *
+	 * @param tile
+	 *            tile
+	 * @param pixels
+	 *            pixels array
+	 * @param offset
+	 *            pixels array offset
+	 */
+	public void getPixels(GridTile tile, float[] pixels, int offset) {
+		Segment meters = toMeters();
+		TileTransform transform = tile.getTransform();
+		pixels[offset] = transform.getXPixel(meters.longitude1);
+		pixels[offset + 1] = transform.getYPixel(meters.latitude1);
+		pixels[offset + 2] = transform.getXPixel(meters.longitude2);
+		pixels[offset + 3] = transform.getYPixel(meters.latitude2);
+	}
+
+	/**
+	 * Convert to a line
+	 *
+	 * @return line
+	 */
+	public Line toLine() {
+		return Line.line(getPoint1(), getPoint2());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int hashCode() {
+		final int prime = 31;
+		int result = 1;
+		result = prime * result + Double.hashCode(longitude1);
+		result = prime * result + Double.hashCode(latitude1);
+		result = prime * result + Double.hashCode(longitude2);
+		result = prime * result + Double.hashCode(latitude2);
+		result = prime * result + ((unit == null) ? 0 : unit.hashCode());
+		return result;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		Segment other = (Segment) obj;
+		if (Double.doubleToLongBits(longitude1) != Double
+				.doubleToLongBits(other.longitude1))
+			return false;
+		if (Double.doubleToLongBits(latitude1) != Double
+				.doubleToLongBits(other.latitude1))
+			return false;
+		if (Double.doubleToLongBits(longitude2) != Double
+				.doubleToLongBits(other.longitude2))
+			return false;
+		if (Double.doubleToLongBits(latitude2) != Double
+				.doubleToLongBits(other.latitude2))
+			return false;
+		if (unit != other.unit)
+			return false;
+		return true;
+	}
+
+}
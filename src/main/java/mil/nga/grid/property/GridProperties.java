@@ -22,7 +22,12 @@ public abstract class GridProperties {
 	/**
 	 * Properties
 	 */
-	protected Properties mProperties;
+	protected volatile Properties mProperties;
+
+	/**
+	 * Typed properties snapshot, created on first read
+	 */
+	private volatile PropertiesSnapshot snapshot;
 
 	/**
 	 * Get the properties file name
@@ -31,6 +36,45 @@ public abstract class GridProperties {
 	 */
 	public abstract String getFile();
 
+	/**
+	 * Get the immutable typed properties snapshot, loading the properties on
+	 * first access. The same snapshot is returned until
+	 * {@link #invalidate()} is called. Reads do not lock.
+	 *
+	 * @return properties snapshot
+	 */
+	public PropertiesSnapshot getSnapshot() {
+		PropertiesSnapshot snapshot = this.snapshot;
+		if (snapshot == null) {
+			snapshot = createSnapshot();
+		}
+		return snapshot;
+	}
+
+	/**
+	 * Load the properties and create the snapshot if not yet created
+	 *
+	 * @return properties snapshot
+	 */
+	private synchronized PropertiesSnapshot createSnapshot() {
+		if (snapshot == null) {
+			if (mProperties == null) {
+				mProperties = initializeConfigurationProperties();
+			}
+			snapshot = PropertiesSnapshot.snapshot(mProperties);
+		}
+		return snapshot;
+	}
+
+	/**
+	 * Invalidate the properties snapshot, so the next read creates a new
+	 * snapshot of the current properties. Snapshots already returned are
+	 * unchanged.
+	 */
+	public synchronized void invalidate() {
+		snapshot = null;
+	}
+
 	/**
 	 * Get a required property by key
 	 *
@@ -51,18 +95,27 @@ public abstract class GridProperties {
 	 *            true if required
 	 * @return value
 	 */
-	public synchronized String getProperty(String key, boolean required) {
-		if (mProperties == null) {
-			mProperties = initializeConfigurationProperties();
-		}
-		String value = mProperties.getProperty(key);
-		if (value != null && value.trim().isEmpty()) {
-			value = null;
-		}
+	public String getProperty(String key, boolean required) {
+		String value = getSnapshot().getProperty(key);
+		checkRequired(value, key, required);
+		return value;
+	}
+
+	/**
+	 * Check that a required property value was found
+	 *
+	 * @param value
+	 *            value
+	 * @param key
+	 *            key
+	 * @param required
+	 *            true if required
+	 */
+	private static void checkRequired(Object value, String key,
+			boolean required) {
 		if (value == null && required) {
 			throw new IllegalArgumentException("Property not found: " + key);
 		}
-		return value;
 	}
 
 	/**
@@ -110,11 +163,8 @@ public abstract class GridProperties {
 	 * @return integer value
 	 */
 	public Integer getIntegerProperty(String key, boolean required) {
-		Integer value = null;
-		String stringValue = getProperty(key, required);
-		if (stringValue != null) {
-			value = Integer.valueOf(stringValue);
-		}
+		Integer value = getSnapshot().getInteger(key);
+		checkRequired(value, key, required);
 		return value;
 	}
 
@@ -163,11 +213,8 @@ public abstract class GridProperties {
 	 * @return float value
 	 */
 	public Float getFloatProperty(String key, boolean required) {
-		Float value = null;
-		String stringValue = getProperty(key, required);
-		if (stringValue != null) {
-			value = Float.valueOf(stringValue);
-		}
+		Float value = getSnapshot().getFloat(key);
+		checkRequired(value, key, required);
 		return value;
 	}
 
@@ -216,11 +263,8 @@ public abstract class GridProperties {
 	 * @return double value
 	 */
 	public Double getDoubleProperty(String key, boolean required) {
-		Double value = null;
-		String stringValue = getProperty(key, required);
-		if (stringValue != null) {
-			value = Double.valueOf(stringValue);
-		}
+		Double value = getSnapshot().getDouble(key);
+		checkRequired(value, key, required);
 		return value;
 	}
 
@@ -269,11 +313,8 @@ public abstract class GridProperties {
 	 * @return boolean value
 	 */
 	public Boolean getBooleanProperty(String key, boolean required) {
-		Boolean value = null;
-		String stringValue = getProperty(key, required);
-		if (stringValue != null) {
-			value = Boolean.valueOf(stringValue);
-		}
+		Boolean value = getSnapshot().getBoolean(key);
+		checkRequired(value, key, required);
 		return value;
 	}
 
@@ -0,0 +1,322 @@
+package mil.nga.grid.property;
+
+import mil.nga.color.Color;
+
+/**
+ * Typed grid and labeler settings of a grid key, read from an immutable
+ * {@link PropertiesSnapshot} on request. Values are not parsed up front, so a
+ * malformed value only fails the getter reading it. Unset settings are null.
+ *
+ * @author osbornb
+ */
+public final class GridSettings {
+
+	/**
+	 * Properties snapshot
+	 */
+	private final PropertiesSnapshot snapshot;
+
+	/**
+	 * Grid name key
+	 */
+	private final String gridKey;
+
+	/**
+	 * Grid property key prefix
+	 */
+	private final String prefix;
+
+	/**
+	 * Grid enabled property key
+	 */
+	private final String enabledKey;
+
+	/**
+	 * Grid minimum zoom property key
+	 */
+	private final String minZoomKey;
+
+	/**
+	 * Grid maximum zoom property key
+	 */
+	private final String maxZoomKey;
+
+	/**
+	 * Grid lines minimum zoom property key
+	 */
+	private final String linesMinZoomKey;
+
+	/**
+	 * Grid lines maximum zoom property key
+	 */
+	private final String linesMaxZoomKey;
+
+	/**
+	 * Grid line color property key
+	 */
+	private final String colorKey;
+
+	/**
+	 * Grid line width property key
+	 */
+	private final String widthKey;
+
+	/**
+	 * Labeler enabled property key
+	 */
+	private final String labelerEnabledKey;
+
+	/**
+	 * Labeler minimum zoom property key
+	 */
+	private final String labelerMinZoomKey;
+
+	/**
+	 * Labeler maximum zoom property key
+	 */
+	private final String labelerMaxZoomKey;
+
+	/**
+	 * Label color property key
+	 */
+	private final String labelerColorKey;
+
+	/**
+	 * Label text size property key
+	 */
+	private final String labelerTextSizeKey;
+
+	/**
+	 * Label grid edge buffer property key
+	 */
+	private final String labelerBufferKey;
+
+	/**
+	 * Constructor
+	 *
+	 * @param snapshot
+	 *            properties snapshot
+	 * @param gridKey
+	 *            grid name key
+	 */
+	GridSettings(PropertiesSnapshot snapshot, String gridKey) {
+		this.snapshot = snapshot;
+		this.gridKey = gridKey;
+		prefix = PropertyConstants.GRIDS + PropertyConstants.PROPERTY_DIVIDER
+				+ gridKey + PropertyConstants.PROPERTY_DIVIDER;
+		String linesPrefix = prefix + PropertyConstants.LINES
+				+ PropertyConstants.PROPERTY_DIVIDER;
+		String labelerPrefix = prefix + PropertyConstants.LABELER
+				+ PropertyConstants.PROPERTY_DIVIDER;
+		enabledKey = prefix + PropertyConstants.ENABLED;
+		minZoomKey = prefix + PropertyConstants.MIN_ZOOM;
+		maxZoomKey = prefix + PropertyConstants.MAX_ZOOM;
+		linesMinZoomKey = linesPrefix + PropertyConstants.MIN_ZOOM;
+		linesMaxZoomKey = linesPrefix + PropertyConstants.MAX_ZOOM;
+		colorKey = prefix + PropertyConstants.COLOR;
+		widthKey = prefix + PropertyConstants.WIDTH;
+		labelerEnabledKey = labelerPrefix + PropertyConstants.ENABLED;
+		labelerMinZoomKey = labelerPrefix + PropertyConstants.MIN_ZOOM;
+		labelerMaxZoomKey = labelerPrefix + PropertyConstants.MAX_ZOOM;
+		labelerColorKey = labelerPrefix + PropertyConstants.COLOR;
+		labelerTextSizeKey = labelerPrefix + PropertyConstants.TEXT_SIZE;
+		labelerBufferKey = labelerPrefix + PropertyConstants.BUFFER;
+	}
+
+	/**
+	 * Get the grid style property key of the second grid key
+	 *
+	 * @param gridKey2
+	 *            second grid name key
+	 * @param property
+	 *            style property
+	 * @return property key, or null if not a grid style property
+	 */
+	private String styleKey(String gridKey2, String property) {
+		String key = null;
+		if (gridKey2 != null && !gridKey2.isEmpty()
+				&& !gridKey2.equals(PropertyConstants.LINES)
+				&& !gridKey2.equals(PropertyConstants.LABELER)) {
+			key = prefix + gridKey2 + PropertyConstants.PROPERTY_DIVIDER
+					+ property;
+		}
+		return key;
+	}
+
+	/**
+	 * Get the grid name key
+	 *
+	 * @return grid key
+	 */
+	public String getGridKey() {
+		return gridKey;
+	}
+
+	/**
+	 * Get the grid enabled setting
+	 *
+	 * @return enabled or null
+	 */
+	public Boolean getEnabled() {
+		return snapshot.getBoolean(enabledKey);
+	}
+
+	/**
+	 * Get the grid minimum zoom
+	 *
+	 * @return minimum zoom or null
+	 * @throws NumberFormatException
+	 *             if not an integer
+	 */
+	public Integer getMinZoom() {
+		return snapshot.getInteger(minZoomKey);
+	}
+
+	/**
+	 * Get the grid maximum zoom
+	 *
+	 * @return maximum zoom or null
+	 * @throws NumberFormatException
+	 *             if not an integer
+	 */
+	public Integer getMaxZoom() {
+		return snapshot.getInteger(maxZoomKey);
+	}
+
+	/**
+	 * Get the grid lines minimum zoom
+	 *
+	 * @return lines minimum zoom or null
+	 * @throws NumberFormatException
+	 *             if not an integer
+	 */
+	public Integer getLinesMinZoom() {
+		return snapshot.getInteger(linesMinZoomKey);
+	}
+
+	/**
+	 * Get the grid lines maximum zoom
+	 *
+	 * @return lines maximum zoom or null
+	 * @throws NumberFormatException
+	 *             if not an integer
+	 */
+	public Integer getLinesMaxZoom() {
+		return snapshot.getInteger(linesMaxZoomKey);
+	}
+
+	/**
+	 * Get the grid line color
+	 *
+	 * @return new color or null
+	 * @throws IllegalArgumentException
+	 *             if not a color
+	 */
+	public Color getColor() {
+		return snapshot.getColor(colorKey);
+	}
+
+	/**
+	 * Get the grid line width
+	 *
+	 * @return width or null
+	 * @throws NumberFormatException
+	 *             if not a number
+	 */
+	public Double getWidth() {
+		return snapshot.getDouble(widthKey);
+	}
+
+	/**
+	 * Get the labeler enabled setting
+	 *
+	 * @return enabled or null
+	 */
+	public Boolean getLabelerEnabled() {
+		return snapshot.getBoolean(labelerEnabledKey);
+	}
+
+	/**
+	 * Get the labeler minimum zoom
+	 *
+	 * @return minimum zoom or null
+	 * @throws NumberFormatException
+	 *             if not an integer
+	 */
+	public Integer getLabelerMinZoom() {
+		return snapshot.getInteger(labelerMinZoomKey);
+	}
+
+	/**
+	 * Get the labeler maximum zoom
+	 *
+	 * @return maximum zoom or null
+	 * @throws NumberFormatException
+	 *             if not an integer
+	 */
+	public Integer getLabelerMaxZoom() {
+		return snapshot.getInteger(labelerMaxZoomKey);
+	}
+
+	/**
+	 * Get the label color
+	 *
+	 * @return new color or null
+	 * @throws IllegalArgumentException
+	 *             if not a color
+	 */
+	public Color getLabelerColor() {
+		return snapshot.getColor(labelerColorKey);
+	}
+
+	/**
+	 * Get the label text size
+	 *
+	 * @return text size or null
+	 * @throws NumberFormatException
+	 *             if not a number
+	 */
+	public Double getLabelerTextSize() {
+		return snapshot.getDouble(labelerTextSizeKey);
+	}
+
+	/**
+	 * Get the label grid edge buffer
+	 *
+	 * @return buffer or null
+	 * @throws NumberFormatException
+	 *             if not a number
+	 */
+	public Double getLabelerBuffer() {
+		return snapshot.getDouble(labelerBufferKey);
+	}
+
+	/**
+	 * Get the grid style color of the second grid key
+	 *
+	 * @param gridKey2
+	 *            second grid name key
+	 * @return new color or null
+	 * @throws IllegalArgumentException
+	 *             if not a color
+	 */
+	public Color getStyleColor(String gridKey2) {
+		String key = styleKey(gridKey2, PropertyConstants.COLOR);
+		return key != null ? snapshot.getColor(key) : null;
+	}
+
+	/**
+	 * Get the grid style width of the second grid key
+	 *
+	 * @param gridKey2
+	 *            second grid name key
+	 * @return width or null
+	 * @throws NumberFormatException
+	 *             if not a number
+	 */
+	public Double getStyleWidth(String gridKey2) {
+		String key = styleKey(gridKey2, PropertyConstants.WIDTH);
+		return key != null ? snapshot.getDouble(key) : null;
+	}
+
+}
@@ -0,0 +1,297 @@
+package mil.nga.grid.property;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import mil.nga.color.Color;
+
+/**
+ * Immutable typed snapshot of grid properties, with values parsed on the
+ * first read of each type and per grid settings resolved once per grid key.
+ * Reads do not lock.
+ *
+ * @author osbornb
+ */
+public final class PropertiesSnapshot {
+
+	/**
+	 * Values by property key, excluding blank values
+	 */
+	private final Map<String, Value> values;
+
+	/**
+	 * Grid settings by grid key, resolved on first request
+	 */
+	private final ConcurrentHashMap<String, GridSettings> grids = new ConcurrentHashMap<>();
+
+	/**
+	 * Create a snapshot of the properties
+	 *
+	 * @param properties
+	 *            properties
+	 * @return snapshot
+	 */
+	public static PropertiesSnapshot snapshot(Properties properties) {
+		return new PropertiesSnapshot(properties);
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param properties
+	 *            properties
+	 */
+	private PropertiesSnapshot(Properties properties) {
+		Map<String, Value> values = new HashMap<>();
+		for (String key : properties.stringPropertyNames()) {
+			String value = properties.getProperty(key);
+			if (value != null && !value.trim().isEmpty()) {
+				values.put(key, new Value(value));
+			}
+		}
+		this.values = Collections.unmodifiableMap(values);
+	}
+
+	/**
+	 * Get the property keys with values
+	 *
+	 * @return unmodifiable property keys
+	 */
+	public Set<String> getKeys() {
+		return values.keySet();
+	}
+
+	/**
+	 * Determine if the property has a value
+	 *
+	 * @param key
+	 *            property key
+	 * @return true if has a value
+	 */
+	public boolean hasProperty(String key) {
+		return values.containsKey(key);
+	}
+
+	/**
+	 * Get a property
+	 *
+	 * @param key
+	 *            property key
+	 * @return value or null
+	 */
+	public String getProperty(String key) {
+		Value value = values.get(key);
+		return value != null ? value.string : null;
+	}
+
+	/**
+	 * Get an integer property
+	 *
+	 * @param key
+	 *            property key
+	 * @return integer value or null
+	 * @throws NumberFormatException
+	 *             if not an integer
+	 */
+	public Integer getInteger(String key) {
+		Value value = values.get(key);
+		return value != null ? value.getInteger() : null;
+	}
+
+	/**
+	 * Get a float property
+	 *
+	 * @param key
+	 *            property key
+	 * @return float value or null
+	 * @throws NumberFormatException
+	 *             if not a float
+	 */
+	public Float getFloat(String key) {
+		Value value = values.get(key);
+		return value != null ? value.getFloat() : null;
+	}
+
+	/**
+	 * Get a double property
+	 *
+	 * @param key
+	 *            property key
+	 * @return double value or null
+	 * @throws NumberFormatException
+	 *             if not a double
+	 */
+	public Double getDouble(String key) {
+		Value value = values.get(key);
+		return value != null ? value.getDouble() : null;
+	}
+
+	/**
+	 * Get a boolean property
+	 *
+	 * @param key
+	 *            property key
+	 * @return boolean value or null
+	 */
+	public Boolean getBoolean(String key) {
+		Value value = values.get(key);
+		return value != null ? value.getBoolean() : null;
+	}
+
+	/**
+	 * Get a color property
+	 *
+	 * @param key
+	 *            property key
+	 * @return new color or null
+	 * @throws IllegalArgumentException
+	 *             if not a color
+	 */
+	public Color getColor(String key) {
+		Value value = values.get(key);
+		return value != null ? value.getColor() : null;
+	}
+
+	/**
+	 * Get the typed settings of a grid, resolved once per grid key
+	 *
+	 * @param gridKey
+	 *            grid name key
+	 * @return grid settings
+	 */
+	public GridSettings getGrid(String gridKey) {
+		GridSettings settings = grids.get(gridKey);
+		if (settings == null) {
+			settings = grids.computeIfAbsent(gridKey,
+					key -> new GridSettings(this, key));
+		}
+		return settings;
+	}
+
+	/**
+	 * Property value, parsed as each type on the first read of the type. A
+	 * value not of the type is parsed again and throws on each read.
+	 */
+	private static final class Value {
+
+		/**
+		 * String value
+		 */
+		private final String string;
+
+		/**
+		 * Boolean value
+		 */
+		private final Boolean booleanValue;
+
+		/**
+		 * Integer value, null until read
+		 */
+		private volatile Integer integer;
+
+		/**
+		 * Float value, null until read
+		 */
+		private volatile Float floatValue;
+
+		/**
+		 * Double value, null until read
+		 */
+		private volatile Double doubleValue;
+
+		/**
+		 * Color value, null until read
+		 */
+		private volatile Color color;
+
+		/**
+		 * Constructor
+		 *
+		 * @param string
+		 *            string value
+		 */
+		private Value(String string) {
+			this.string = string;
+			booleanValue = Boolean.valueOf(string);
+		}
+
+		/**
+		 * Get the boolean value
+		 *
+		 * @return boolean value
+		 */
+		private Boolean getBoolean() {
+			return booleanValue;
+		}
+
+		/**
+		 * Get the integer value
+		 *
+		 * @return integer value
+		 * @throws NumberFormatException
+		 *             if not an integer
+		 */
+		private Integer getInteger() {
+			Integer value = integer;
+			if (value == null) {
+				value = Integer.valueOf(string);
+				integer = value;
+			}
+			return value;
+		}
+
+		/**
+		 * Get the float value
+		 *
+		 * @return float value
+		 * @throws NumberFormatException
+		 *             if not a float
+		 */
+		private Float getFloat() {
+			Float value = floatValue;
+			if (value == null) {
+				value = Float.valueOf(string);
+				floatValue = value;
+			}
+			return value;
+		}
+
+		/**
+		 * Get the double value
+		 *
+		 * @return double value
+		 * @throws NumberFormatException
+		 *             if not a double
+		 */
+		private Double getDouble() {
+			Double value = doubleValue;
+			if (value == null) {
+				value = Double.valueOf(string);
+				doubleValue = value;
+			}
+			return value;
+		}
+
+		/**
+		 * Get a copy of the color value
+		 *
+		 * @return new color
+		 * @throws IllegalArgumentException
+		 *             if not a color
+		 */
+		private Color getColor() {
+			Color value = color;
+			if (value == null) {
+				value = Color.color(string);
+				color = value;
+			}
+			return value.copy();
+		}
+
+	}
+
+}
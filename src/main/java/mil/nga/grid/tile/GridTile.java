@@ -1,7 +1,9 @@
 package mil.nga.grid.tile;
 
+import mil.nga.grid.Conversion;
 import mil.nga.grid.GridUtils;
 import mil.nga.grid.features.Bounds;
+import mil.nga.grid.features.Coordinate;
 import mil.nga.grid.features.Point;
 import mil.nga.grid.features.Unit;
 
@@ -27,11 +29,21 @@ public class GridTile {
 	 */
 	private int zoom;
 
+	/**
+	 * Tile key
+	 */
+	private final TileKey key;
+
 	/**
 	 * Bounds
 	 */
 	private Bounds bounds;
 
+	/**
+	 * Pixel transform
+	 */
+	private final TileTransform transform;
+
 	/**
 	 * Create a tile
 	 * 
@@ -51,6 +63,21 @@ public class GridTile {
 		return new GridTile(width, height, x, y, zoom);
 	}
 
+	/**
+	 * Create a tile
+	 * 
+	 * @param width
+	 *            tile width
+	 * @param height
+	 *            tile height
+	 * @param key
+	 *            tile key
+	 * @return tile
+	 */
+	public static GridTile tile(int width, int height, TileKey key) {
+		return new GridTile(width, height, key);
+	}
+
 	/**
 	 * Create a tile
 	 * 
@@ -83,8 +110,32 @@ public class GridTile {
 	public GridTile(int width, int height, int x, int y, int zoom) {
 		this.width = width;
 		this.height = height;
+		this.key = TileKey.isValid(x, y, zoom) ? TileKey.key(x, y, zoom)
+				: null;
 		this.zoom = zoom;
 		this.bounds = GridUtils.getBounds(x, y, zoom);
+		this.transform = new TileTransform(width, height, bounds,
+				GridUtils.getBoundsDegrees(x, y, zoom));
+	}
+
+	/**
+	 * Constructor
+	 * 
+	 * @param width
+	 *            tile width
+	 * @param height
+	 *            tile height
+	 * @param key
+	 *            tile key
+	 */
+	public GridTile(int width, int height, TileKey key) {
+		this.width = width;
+		this.height = height;
+		this.key = key;
+		this.zoom = key.getZoom();
+		this.bounds = key.getBounds();
+		this.transform = new TileTransform(width, height, bounds,
+				key.getBoundsDegrees());
 	}
 
 	/**
@@ -100,8 +151,10 @@ public class GridTile {
 	public GridTile(int width, int height, Bounds bounds) {
 		this.width = width;
 		this.height = height;
+		this.key = null;
 		this.bounds = bounds;
 		this.zoom = (int) Math.round(GridUtils.getZoomLevel(bounds));
+		this.transform = TileTransform.transform(width, height, bounds);
 	}
 
 	/**
@@ -131,6 +184,25 @@ public class GridTile {
 		return zoom;
 	}
 
+	/**
+	 * Get the tile key
+	 * 
+	 * @return tile key, null when created from bounds or coordinates beyond
+	 *         {@link TileKey#MAX_ZOOM}
+	 */
+	public TileKey getKey() {
+		return key;
+	}
+
+	/**
+	 * Has a tile key
+	 * 
+	 * @return true if has a tile key
+	 */
+	public boolean hasKey() {
+		return key != null;
+	}
+
 	/**
 	 * Get the tile bounds
 	 * 
@@ -145,16 +217,16 @@ public class GridTile {
 	 * 
 	 * @param unit
 	 *            units
-	 * @return bounds in units
+	 * @return new bounds in units
 	 */
 	public Bounds getBounds(Unit unit) {
-		return bounds.toUnit(unit);
+		return transform.getBounds(unit);
 	}
 
 	/**
 	 * Get the bounds in degrees
 	 * 
-	 * @return bounds in degrees
+	 * @return new bounds in degrees
 	 */
 	public Bounds getBoundsDegrees() {
 		return getBounds(Unit.DEGREE);
@@ -163,12 +235,32 @@ public class GridTile {
 	/**
 	 * Get the bounds in meters
 	 * 
-	 * @return bounds in meters
+	 * @return new bounds in meters
 	 */
 	public Bounds getBoundsMeters() {
 		return getBounds(Unit.METER);
 	}
 
+	/**
+	 * Get the pixel transform, converting with {@link Conversion#STRICT}
+	 * 
+	 * @return transform
+	 */
+	public TileTransform getTransform() {
+		return transform;
+	}
+
+	/**
+	 * Get the pixel transform with the unit conversion engine
+	 * 
+	 * @param conversion
+	 *            conversion engine
+	 * @return transform, the tile transform when the engine matches
+	 */
+	public TileTransform getTransform(Conversion conversion) {
+		return transform.toConversion(conversion);
+	}
+
 	/**
 	 * Get the point pixel location in the tile
 	 * 
@@ -177,7 +269,33 @@ public class GridTile {
 	 * @return pixel
 	 */
 	public Pixel getPixel(Point point) {
-		return GridUtils.getPixel(width, height, bounds, point);
+		return transform.getPixel(point);
+	}
+
+	/**
+	 * Get the coordinate pixel location in the tile
+	 * 
+	 * @param coordinate
+	 *            coordinate
+	 * @return pixel
+	 */
+	public Pixel getPixel(Coordinate coordinate) {
+		return transform.getPixel(coordinate);
+	}
+
+	/**
+	 * Get the coordinate pixel location in the tile
+	 * 
+	 * @param longitude
+	 *            longitude
+	 * @param latitude
+	 *            latitude
+	 * @param unit
+	 *            unit
+	 * @return pixel
+	 */
+	public Pixel getPixel(double longitude, double latitude, Unit unit) {
+		return transform.getPixel(longitude, latitude, unit);
 	}
 
 	/**
@@ -188,7 +306,7 @@ public class GridTile {
 	 * @return x pixel
 	 */
 	public float getXPixel(double longitude) {
-		return GridUtils.getXPixel(width, bounds, longitude);
+		return transform.getXPixel(longitude);
 	}
 
 	/**
@@ -199,7 +317,112 @@ public class GridTile {
 	 * @return y pixel
 	 */
 	public float getYPixel(double latitude) {
-		return GridUtils.getYPixel(height, bounds, latitude);
+		return transform.getYPixel(latitude);
+	}
+
+	/**
+	 * Get the pixels of the coordinates in the tile, written to the pixels
+	 * array as interleaved x and y values
+	 * 
+	 * @param longitudes
+	 *            longitudes
+	 * @param latitudes
+	 *            latitudes
+	 * @param unit
+	 *            unit of the longitudes and latitudes
+	 * @param pixels
+	 *            pixels array of at least twice the coordinate count, filled
+	 *            as [x0, y0, x1, y1, ...]
+	 */
+	public void getPixels(double[] longitudes, double[] latitudes, Unit unit,
+			float[] pixels) {
+		transform.getPixels(longitudes, latitudes, unit, pixels);
+	}
+
+	/**
+	 * Get the longitude in the unit at the x pixel location in the tile
+	 * 
+	 * @param x
+	 *            x pixel
+	 * @param unit
+	 *            unit
+	 * @return longitude in unit
+	 */
+	public double getLongitude(double x, Unit unit) {
+		return transform.getLongitude(x, unit);
+	}
+
+	/**
+	 * Get the latitude in the unit at the y pixel location in the tile
+	 * 
+	 * @param y
+	 *            y pixel
+	 * @param unit
+	 *            unit
+	 * @return latitude in unit
+	 */
+	public double getLatitude(double y, Unit unit) {
+		return transform.getLatitude(y, unit);
+	}
+
+	/**
+	 * Get the point at the pixel location in the tile
+	 * 
+	 * @param x
+	 *            x pixel
+	 * @param y
+	 *            y pixel
+	 * @param unit
+	 *            unit
+	 * @return point in unit
+	 */
+	public Point getPoint(double x, double y, Unit unit) {
+		return transform.getPoint(x, y, unit);
+	}
+
+	/**
+	 * Get the point at the pixel location in the tile
+	 * 
+	 * @param pixel
+	 *            pixel
+	 * @param unit
+	 *            unit
+	 * @return point in unit
+	 */
+	public Point getPoint(Pixel pixel, Unit unit) {
+		return transform.getPoint(pixel, unit);
+	}
+
+	/**
+	 * Get the coordinate at the pixel location in the tile
+	 * 
+	 * @param x
+	 *            x pixel
+	 * @param y
+	 *            y pixel
+	 * @param unit
+	 *            unit
+	 * @return coordinate in unit
+	 */
+	public Coordinate getCoordinate(double x, double y, Unit unit) {
+		return transform.getCoordinate(x, y, unit);
+	}
+
+	/**
+	 * Get the coordinates of interleaved x and y pixel locations in the tile
+	 * 
+	 * @param pixels
+	 *            pixels as [x0, y0, x1, y1, ...], of even length
+	 * @param unit
+	 *            unit of the coordinates
+	 * @param longitudes
+	 *            longitudes array of at least half the pixels length
+	 * @param latitudes
+	 *            latitudes array of at least half the pixels length
+	 */
+	public void getCoordinates(float[] pixels, Unit unit, double[] longitudes,
+			double[] latitudes) {
+		transform.getCoordinates(pixels, unit, longitudes, latitudes);
 	}
 
 }
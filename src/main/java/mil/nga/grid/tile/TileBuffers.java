@@ -0,0 +1,419 @@
+package mil.nga.grid.tile;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.util.Collection;
+
+import mil.nga.grid.Conversion;
+import mil.nga.grid.Label;
+import mil.nga.grid.features.Bounds;
+import mil.nga.grid.features.Line;
+import mil.nga.grid.features.LineArray;
+import mil.nga.grid.features.Point;
+import mil.nga.grid.features.Unit;
+
+/**
+ * Writes tile grid lines and labels as pixels directly into caller provided
+ * buffers, such as direct buffers handed off to a renderer, without
+ * intermediate pixel objects. Writes are relative, starting at and advancing
+ * the buffer position. Byte buffers are written in the buffer byte order.
+ * <p>
+ * Line layout, {@link #LINE_FLOATS} floats per line:
+ *
+ * <pre>
+ * [x1, y1, x2, y2]
+ * </pre>
+ *
+ * Label layout, {@link #LABEL_FLOATS} floats per label, in the same order as
+ * the labels so names can be matched by index:
+ *
+ * <pre>
+ * [centerX, centerY, left, top, right, bottom]
+ * </pre>
+ *
+ * Degree coordinates are converted with the {@link TileTransform} conversion
+ * engine, {@link Conversion#STRICT} for the transform of a {@link GridTile}.
+ *
+ * @author osbornb
+ */
+public final class TileBuffers {
+
+	/**
+	 * Floats per line
+	 */
+	public static final int LINE_FLOATS = 4;
+
+	/**
+	 * Bytes per line
+	 */
+	public static final int LINE_BYTES = LINE_FLOATS * Float.BYTES;
+
+	/**
+	 * Floats per label
+	 */
+	public static final int LABEL_FLOATS = 6;
+
+	/**
+	 * Bytes per label
+	 */
+	public static final int LABEL_BYTES = LABEL_FLOATS * Float.BYTES;
+
+	/**
+	 * Constructor
+	 */
+	private TileBuffers() {
+
+	}
+
+	/**
+	 * Allocate a direct native order buffer for lines
+	 *
+	 * @param count
+	 *            number of lines
+	 * @return byte buffer
+	 */
+	public static ByteBuffer allocateLines(int count) {
+		return ByteBuffer.allocateDirect(count * LINE_BYTES)
+				.order(ByteOrder.nativeOrder());
+	}
+
+	/**
+	 * Allocate a direct native order buffer for labels
+	 *
+	 * @param count
+	 *            number of labels
+	 * @return byte buffer
+	 */
+	public static ByteBuffer allocateLabels(int count) {
+		return ByteBuffer.allocateDirect(count * LABEL_BYTES)
+				.order(ByteOrder.nativeOrder());
+	}
+
+	/**
+	 * Write the line pixels in the tile
+	 *
+	 * @param tile
+	 *            tile
+	 * @param lines
+	 *            lines
+	 * @param buffer
+	 *            float buffer
+	 * @return number of lines written
+	 * @throws BufferOverflowException
+	 *             if the buffer does not have room for all lines, in which
+	 *             case nothing is written
+	 */
+	public static int putLines(GridTile tile, Collection<Line> lines,
+			FloatBuffer buffer) {
+		return putLines(tile.getTransform(), lines, buffer);
+	}
+
+	/**
+	 * Write the line pixels in the tile transform
+	 *
+	 * @param transform
+	 *            tile transform
+	 * @param lines
+	 *            lines
+	 * @param buffer
+	 *            float buffer
+	 * @return number of lines written
+	 * @throws BufferOverflowException
+	 *             if the buffer does not have room for all lines, in which
+	 *             case nothing is written
+	 */
+	public static int putLines(TileTransform transform,
+			Collection<Line> lines, FloatBuffer buffer) {
+		checkRemaining(buffer, lines.size() * LINE_FLOATS);
+		Conversion conversion = transform.getConversion();
+		for (Line line : lines) {
+			Point point1 = line.getPoint1();
+			Point point2 = line.getPoint2();
+			putPixel(buffer, transform, conversion, point1.getLongitude(),
+					point1.getLatitude(), point1.getUnit());
+			putPixel(buffer, transform, conversion, point2.getLongitude(),
+					point2.getLatitude(), point2.getUnit());
+		}
+		return lines.size();
+	}
+
+	/**
+	 * Write the line pixels in the tile
+	 *
+	 * @param tile
+	 *            tile
+	 * @param lines
+	 *            lines
+	 * @param buffer
+	 *            byte buffer
+	 * @return number of lines written
+	 * @throws BufferOverflowException
+	 *             if the buffer does not have room for all lines, in which
+	 *             case nothing is written
+	 */
+	public static int putLines(GridTile tile, Collection<Line> lines,
+			ByteBuffer buffer) {
+		return putLines(tile.getTransform(), lines, buffer);
+	}
+
+	/**
+	 * Write the line pixels in the tile transform
+	 *
+	 * @param transform
+	 *            tile transform
+	 * @param lines
+	 *            lines
+	 * @param buffer
+	 *            byte buffer
+	 * @return number of lines written
+	 * @throws BufferOverflowException
+	 *             if the buffer does not have room for all lines, in which
+	 *             case nothing is written
+	 */
+	public static int putLines(TileTransform transform,
+			Collection<Line> lines, ByteBuffer buffer) {
+		FloatBuffer floats = buffer.asFloatBuffer();
+		int count = putLines(transform, lines, floats);
+		advance(buffer, floats);
+		return count;
+	}
+
+	/**
+	 * Write the line pixels in the tile
+	 *
+	 * @param tile
+	 *            tile
+	 * @param lines
+	 *            line array
+	 * @param buffer
+	 *            float buffer
+	 * @return number of lines written
+	 * @throws BufferOverflowException
+	 *             if the buffer does not have room for all lines, in which
+	 *             case nothing is written
+	 */
+	public static int putLines(GridTile tile, LineArray lines,
+			FloatBuffer buffer) {
+		return putLines(tile.getTransform(), lines, buffer);
+	}
+
+	/**
+	 * Write the line pixels in the tile transform
+	 *
+	 * @param transform
+	 *            tile transform
+	 * @param lines
+	 *            line array
+	 * @param buffer
+	 *            float buffer
+	 * @return number of lines written
+	 * @throws BufferOverflowException
+	 *             if the buffer does not have room for all lines, in which
+	 *             case nothing is written
+	 */
+	public static int putLines(TileTransform transform, LineArray lines,
+			FloatBuffer buffer) {
+		int count = lines.size();
+		checkRemaining(buffer, count * LINE_FLOATS);
+		Conversion conversion = transform.getConversion();
+		Unit unit = lines.getUnit();
+		for (int i = 0; i < count; i++) {
+			putPixel(buffer, transform, conversion, lines.getLongitude1(i),
+					lines.getLatitude1(i), unit);
+			putPixel(buffer, transform, conversion, lines.getLongitude2(i),
+					lines.getLatitude2(i), unit);
+		}
+		return count;
+	}
+
+	/**
+	 * Write the line pixels in the tile
+	 *
+	 * @param tile
+	 *            tile
+	 * @param lines
+	 *            line array
+	 * @param buffer
+	 *            byte buffer
+	 * @return number of lines written
+	 * @throws BufferOverflowException
+	 *             if the buffer does not have room for all lines, in which
+	 *             case nothing is written
+	 */
+	public static int putLines(GridTile tile, LineArray lines,
+			ByteBuffer buffer) {
+		return putLines(tile.getTransform(), lines, buffer);
+	}
+
+	/**
+	 * Write the line pixels in the tile transform
+	 *
+	 * @param transform
+	 *            tile transform
+	 * @param lines
+	 *            line array
+	 * @param buffer
+	 *            byte buffer
+	 * @return number of lines written
+	 * @throws BufferOverflowException
+	 *             if the buffer does not have room for all lines, in which
+	 *             case nothing is written
+	 */
+	public static int putLines(TileTransform transform, LineArray lines,
+			ByteBuffer buffer) {
+		FloatBuffer floats = buffer.asFloatBuffer();
+		int count = putLines(transform, lines, floats);
+		advance(buffer, floats);
+		return count;
+	}
+
+	/**
+	 * Write the label center pixels and bounds pixel ranges in the tile
+	 *
+	 * @param tile
+	 *            tile
+	 * @param labels
+	 *            labels
+	 * @param buffer
+	 *            float buffer
+	 * @return number of labels written
+	 * @throws BufferOverflowException
+	 *             if the buffer does not have room for all labels, in which
+	 *             case nothing is written
+	 */
+	public static int putLabels(GridTile tile, Collection<Label> labels,
+			FloatBuffer buffer) {
+		return putLabels(tile.getTransform(), labels, buffer);
+	}
+
+	/**
+	 * Write the label center pixels and bounds pixel ranges in the tile
+	 * transform
+	 *
+	 * @param transform
+	 *            tile transform
+	 * @param labels
+	 *            labels
+	 * @param buffer
+	 *            float buffer
+	 * @return number of labels written
+	 * @throws BufferOverflowException
+	 *             if the buffer does not have room for all labels, in which
+	 *             case nothing is written
+	 */
+	public static int putLabels(TileTransform transform,
+			Collection<Label> labels, FloatBuffer buffer) {
+		checkRemaining(buffer, labels.size() * LABEL_FLOATS);
+		Conversion conversion = transform.getConversion();
+		for (Label label : labels) {
+			Point center = label.getCenter();
+			putPixel(buffer, transform, conversion, center.getLongitude(),
+					center.getLatitude(), center.getUnit());
+			Bounds bounds = label.getBounds();
+			putPixel(buffer, transform, conversion, bounds.getMinLongitude(),
+					bounds.getMaxLatitude(), bounds.getUnit());
+			putPixel(buffer, transform, conversion, bounds.getMaxLongitude(),
+					bounds.getMinLatitude(), bounds.getUnit());
+		}
+		return labels.size();
+	}
+
+	/**
+	 * Write the label center pixels and bounds pixel ranges in the tile
+	 *
+	 * @param tile
+	 *            tile
+	 * @param labels
+	 *            labels
+	 * @param buffer
+	 *            byte buffer
+	 * @return number of labels written
+	 * @throws BufferOverflowException
+	 *             if the buffer does not have room for all labels, in which
+	 *             case nothing is written
+	 */
+	public static int putLabels(GridTile tile, Collection<Label> labels,
+			ByteBuffer buffer) {
+		return putLabels(tile.getTransform(), labels, buffer);
+	}
+
+	/**
+	 * Write the label center pixels and bounds pixel ranges in the tile
+	 * transform
+	 *
+	 * @param transform
+	 *            tile transform
+	 * @param labels
+	 *            labels
+	 * @param buffer
+	 *            byte buffer
+	 * @return number of labels written
+	 * @throws BufferOverflowException
+	 *             if the buffer does not have room for all labels, in which
+	 *             case nothing is written
+	 */
+	public static int putLabels(TileTransform transform,
+			Collection<Label> labels, ByteBuffer buffer) {
+		FloatBuffer floats = buffer.asFloatBuffer();
+		int count = putLabels(transform, labels, floats);
+		advance(buffer, floats);
+		return count;
+	}
+
+	/**
+	 * Write a coordinate pixel
+	 *
+	 * @param buffer
+	 *            float buffer
+	 * @param transform
+	 *            tile transform
+	 * @param conversion
+	 *            unit conversion
+	 * @param longitude
+	 *            longitude
+	 * @param latitude
+	 *            latitude
+	 * @param unit
+	 *            unit
+	 */
+	private static void putPixel(FloatBuffer buffer, TileTransform transform,
+			Conversion conversion, double longitude, double latitude,
+			Unit unit) {
+		if (unit == Unit.DEGREE) {
+			longitude = conversion.longitudeToMeters(longitude);
+			latitude = conversion.latitudeToMeters(latitude);
+		}
+		buffer.put(transform.getXPixel(longitude));
+		buffer.put(transform.getYPixel(latitude));
+	}
+
+	/**
+	 * Check the buffer has room for the floats
+	 *
+	 * @param buffer
+	 *            float buffer
+	 * @param floats
+	 *            number of floats
+	 */
+	private static void checkRemaining(FloatBuffer buffer, int floats) {
+		if (buffer.remaining() < floats) {
+			throw new BufferOverflowException();
+		}
+	}
+
+	/**
+	 * Advance the byte buffer position past the floats written to its float
+	 * view
+	 *
+	 * @param buffer
+	 *            byte buffer
+	 * @param floats
+	 *            float view of the buffer
+	 */
+	private static void advance(ByteBuffer buffer, FloatBuffer floats) {
+		buffer.position(buffer.position() + floats.position() * Float.BYTES);
+	}
+
+}
@@ -0,0 +1,611 @@
+package mil.nga.grid.tile;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+import mil.nga.grid.GridUtils;
+import mil.nga.grid.features.Bounds;
+import mil.nga.grid.features.Unit;
+import mil.nga.sf.LineString;
+import mil.nga.sf.Polygon;
+import mil.nga.sf.util.GeometryConstants;
+
+/**
+ * Lazy enumeration of the XYZ tiles covering a bounds or polygon across a
+ * zoom range, as packed {@link TileKey} values. Tiles are produced by zoom
+ * level, then row, then column, without materializing the cover. Splits
+ * divide the remaining tile index range for parallel streams. Polygon covers
+ * use only the exterior ring: tiles within interior rings (holes) are still
+ * included. Polygon tile rows are scanned once for the column spans
+ * intersecting the ring, with only the tiles in those spans produced.
+ *
+ * @author osbornb
+ */
+public final class TileCover implements Spliterator.OfLong {
+
+	/**
+	 * Tile ranges shared between splits
+	 */
+	private final Ranges ranges;
+
+	/**
+	 * Current tile index
+	 */
+	private long index;
+
+	/**
+	 * Exclusive tile index end
+	 */
+	private final long fence;
+
+	/**
+	 * Current zoom level offset into the ranges
+	 */
+	private int level;
+
+	/**
+	 * Start tile index of the row with the current polygon column spans
+	 */
+	private long rowStart = -1;
+
+	/**
+	 * Polygon column spans of the current row, as inclusive column offset
+	 * pairs
+	 */
+	private long[] spans;
+
+	/**
+	 * Stream the tiles covering the bounds
+	 *
+	 * @param bounds
+	 *            bounds
+	 * @param minZoom
+	 *            minimum zoom level
+	 * @param maxZoom
+	 *            maximum zoom level
+	 * @return packed tile key stream
+	 */
+	public static LongStream stream(Bounds bounds, int minZoom, int maxZoom) {
+		return stream(bounds, minZoom, maxZoom, false);
+	}
+
+	/**
+	 * Stream the tiles covering the bounds
+	 *
+	 * @param bounds
+	 *            bounds
+	 * @param minZoom
+	 *            minimum zoom level
+	 * @param maxZoom
+	 *            maximum zoom level
+	 * @param parallel
+	 *            true for a parallel stream
+	 * @return packed tile key stream
+	 */
+	public static LongStream stream(Bounds bounds, int minZoom, int maxZoom,
+			boolean parallel) {
+		return StreamSupport.longStream(cover(bounds, minZoom, maxZoom),
+				parallel);
+	}
+
+	/**
+	 * Stream the tiles intersecting the polygon exterior ring. Interior rings
+	 * are ignored, so tiles within holes are included.
+	 *
+	 * @param polygon
+	 *            polygon
+	 * @param unit
+	 *            polygon unit
+	 * @param minZoom
+	 *            minimum zoom level
+	 * @param maxZoom
+	 *            maximum zoom level
+	 * @param parallel
+	 *            true for a parallel stream
+	 * @return packed tile key stream
+	 */
+	public static LongStream stream(Polygon polygon, Unit unit, int minZoom,
+			int maxZoom, boolean parallel) {
+		return StreamSupport.longStream(cover(polygon, unit, minZoom, maxZoom),
+				parallel);
+	}
+
+	/**
+	 * Create a cover of the tiles covering the bounds
+	 *
+	 * @param bounds
+	 *            bounds
+	 * @param minZoom
+	 *            minimum zoom level
+	 * @param maxZoom
+	 *            maximum zoom level
+	 * @return tile cover
+	 */
+	public static TileCover cover(Bounds bounds, int minZoom, int maxZoom) {
+		return new TileCover(new Ranges(bounds, null, minZoom, maxZoom));
+	}
+
+	/**
+	 * Create a cover of the tiles intersecting the polygon exterior ring.
+	 * Interior rings are ignored, so tiles within holes are included.
+	 *
+	 * @param polygon
+	 *            polygon
+	 * @param unit
+	 *            polygon unit
+	 * @param minZoom
+	 *            minimum zoom level
+	 * @param maxZoom
+	 *            maximum zoom level
+	 * @return tile cover
+	 */
+	public static TileCover cover(Polygon polygon, Unit unit, int minZoom,
+			int maxZoom) {
+		Ring ring = new Ring(polygon.getExteriorRing(), unit);
+		Bounds bounds = Bounds.meters(ring.minX, ring.minY, ring.maxX,
+				ring.maxY);
+		return new TileCover(new Ranges(bounds, ring, minZoom, maxZoom));
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param ranges
+	 *            tile ranges
+	 */
+	private TileCover(Ranges ranges) {
+		this(ranges, 0, ranges.count(), 0);
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param ranges
+	 *            tile ranges
+	 * @param index
+	 *            start tile index
+	 * @param fence
+	 *            exclusive end tile index
+	 * @param level
+	 *            zoom level offset containing the start index
+	 */
+	private TileCover(Ranges ranges, long index, long fence, int level) {
+		this.ranges = ranges;
+		this.index = index;
+		this.fence = fence;
+		this.level = level;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean tryAdvance(LongConsumer action) {
+		boolean advanced = false;
+		long key = next();
+		if (key != -1) {
+			action.accept(key);
+			advanced = true;
+		}
+		return advanced;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void forEachRemaining(LongConsumer action) {
+		for (long key = next(); key != -1; key = next()) {
+			action.accept(key);
+		}
+	}
+
+	/**
+	 * Get the next covered tile key and advance
+	 *
+	 * @return packed tile key, -1 when done
+	 */
+	private long next() {
+		long key = -1;
+		if (ranges.ring == null) {
+			if (index < fence) {
+				advanceLevel();
+				long local = index++ - ranges.offsets[level];
+				long columns = ranges.columns[level];
+				key = ranges.key(level, local % columns, local / columns);
+			}
+		} else {
+			while (key == -1 && index < fence) {
+				advanceLevel();
+				long local = index - ranges.offsets[level];
+				long columns = ranges.columns[level];
+				long row = local / columns;
+				long column = local % columns;
+				long start = index - column;
+				if (start != rowStart) {
+					spans = ranges.spans(level, row);
+					rowStart = start;
+				}
+				long next = columns;
+				for (int i = 0; i < spans.length; i += 2) {
+					if (spans[i + 1] >= column) {
+						next = Math.max(column, spans[i]);
+						break;
+					}
+				}
+				index = Math.min(start + next, fence);
+				if (next < columns && index < fence) {
+					key = ranges.key(level, next, row);
+					index++;
+				}
+			}
+		}
+		return key;
+	}
+
+	/**
+	 * Advance the zoom level offset to the level containing the current index
+	 */
+	private void advanceLevel() {
+		while (index >= ranges.offsets[level + 1]) {
+			level++;
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Spliterator.OfLong trySplit() {
+		TileCover split = null;
+		long mid = (index + fence) >>> 1;
+		if (mid > index) {
+			split = new TileCover(ranges, index, mid, level);
+			index = mid;
+		}
+		return split;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long estimateSize() {
+		return fence - index;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int characteristics() {
+		int characteristics = ORDERED | DISTINCT | NONNULL | IMMUTABLE;
+		if (ranges.ring == null) {
+			characteristics |= SIZED | SUBSIZED;
+		}
+		return characteristics;
+	}
+
+	/**
+	 * Tile ranges per zoom level
+	 */
+	private static class Ranges {
+
+		/**
+		 * Minimum zoom level
+		 */
+		private final int minZoom;
+
+		/**
+		 * Minimum x per zoom level
+		 */
+		private final long[] minX;
+
+		/**
+		 * Minimum y per zoom level
+		 */
+		private final long[] minY;
+
+		/**
+		 * Columns per zoom level
+		 */
+		private final long[] columns;
+
+		/**
+		 * Cumulative tile index offsets per zoom level, with a final total
+		 */
+		private final long[] offsets;
+
+		/**
+		 * Polygon ring filter
+		 */
+		private final Ring ring;
+
+		/**
+		 * Constructor
+		 *
+		 * @param bounds
+		 *            bounds
+		 * @param ring
+		 *            polygon ring filter or null
+		 * @param minZoom
+		 *            minimum zoom level
+		 * @param maxZoom
+		 *            maximum zoom level
+		 */
+		private Ranges(Bounds bounds, Ring ring, int minZoom, int maxZoom) {
+			if (minZoom < 0 || maxZoom > TileKey.MAX_ZOOM
+					|| minZoom > maxZoom) {
+				throw new IllegalArgumentException(
+						"Invalid zoom range. min: " + minZoom + ", max: "
+								+ maxZoom);
+			}
+
+			this.minZoom = minZoom;
+			this.ring = ring;
+
+			bounds = bounds.toMeters();
+			double half = GeometryConstants.WEB_MERCATOR_HALF_WORLD_WIDTH;
+			double west = bounds.getMinLongitude() + half;
+			double east = bounds.getMaxLongitude() + half;
+			double north = half - bounds.getMaxLatitude();
+			double south = half - bounds.getMinLatitude();
+
+			int levels = maxZoom - minZoom + 1;
+			minX = new long[levels];
+			minY = new long[levels];
+			columns = new long[levels];
+			offsets = new long[levels + 1];
+			for (int level = 0; level < levels; level++) {
+				int zoom = minZoom + level;
+				long last = TileKey.tilesPerSide(zoom) - 1;
+				double tileSize = TileKey.tileSize(zoom);
+				long x1 = clamp((long) Math.floor(west / tileSize), last);
+				long x2 = clamp((long) Math.ceil(east / tileSize) - 1, last);
+				long y1 = clamp((long) Math.floor(north / tileSize), last);
+				long y2 = clamp((long) Math.ceil(south / tileSize) - 1, last);
+				x2 = Math.max(x1, x2);
+				y2 = Math.max(y1, y2);
+				minX[level] = x1;
+				minY[level] = y1;
+				columns[level] = x2 - x1 + 1;
+				offsets[level + 1] = offsets[level]
+						+ columns[level] * (y2 - y1 + 1);
+			}
+		}
+
+		/**
+		 * Clamp a tile coordinate
+		 *
+		 * @param value
+		 *            tile coordinate
+		 * @param last
+		 *            last tile coordinate
+		 * @return clamped tile coordinate
+		 */
+		private static long clamp(long value, long last) {
+			return Math.max(0, Math.min(value, last));
+		}
+
+		/**
+		 * Get the total tile count
+		 *
+		 * @return tile count
+		 */
+		private long count() {
+			return offsets[offsets.length - 1];
+		}
+
+		/**
+		 * Get the tile key at the column and row offsets of the zoom level
+		 *
+		 * @param level
+		 *            zoom level offset
+		 * @param column
+		 *            column offset
+		 * @param row
+		 *            row offset
+		 * @return packed tile key
+		 */
+		private long key(int level, long column, long row) {
+			return TileKey.pack((int) (minX[level] + column),
+					(int) (minY[level] + row), minZoom + level);
+		}
+
+		/**
+		 * Get the column spans of the row tiles intersecting the polygon ring
+		 *
+		 * @param level
+		 *            zoom level offset
+		 * @param row
+		 *            row offset
+		 * @return inclusive column offset pairs, ordered and disjoint
+		 */
+		private long[] spans(int level, long row) {
+			int zoom = minZoom + level;
+			int y = (int) (minY[level] + row);
+			long first = minX[level];
+			long[] spans = ring.spans(
+					TileEdges.getLatitudeMeters(y + 1, zoom),
+					TileEdges.getLatitudeMeters(y, zoom),
+					TileKey.tileSize(zoom), first, first + columns[level] - 1);
+			for (int i = 0; i < spans.length; i++) {
+				spans[i] -= first;
+			}
+			return spans;
+		}
+
+	}
+
+	/**
+	 * Polygon ring in meters
+	 */
+	private static class Ring {
+
+		/**
+		 * X coordinates
+		 */
+		private final double[] x;
+
+		/**
+		 * Y coordinates
+		 */
+		private final double[] y;
+
+		/**
+		 * Envelope
+		 */
+		private double minX = Double.POSITIVE_INFINITY,
+				minY = Double.POSITIVE_INFINITY,
+				maxX = Double.NEGATIVE_INFINITY,
+				maxY = Double.NEGATIVE_INFINITY;
+
+		/**
+		 * Constructor
+		 *
+		 * @param ring
+		 *            ring
+		 * @param unit
+		 *            ring unit
+		 */
+		private Ring(LineString ring, Unit unit) {
+			List<mil.nga.sf.Point> points = ring.getPoints();
+			int count = points.size();
+			x = new double[count];
+			y = new double[count];
+			for (int i = 0; i < count; i++) {
+				mil.nga.sf.Point point = points.get(i);
+				double px = point.getX();
+				double py = point.getY();
+				if (unit == Unit.DEGREE) {
+					px = GridUtils.longitudeToMeters(px);
+					py = GridUtils.latitudeToMeters(py);
+				}
+				x[i] = px;
+				y[i] = py;
+				minX = Math.min(minX, px);
+				minY = Math.min(minY, py);
+				maxX = Math.max(maxX, px);
+				maxY = Math.max(maxY, py);
+			}
+		}
+
+		/**
+		 * Get the column spans of the tiles in a row intersecting the ring.
+		 * Ring edges within the row add the columns they cross, and the
+		 * interior crossings of the row center line add the columns between
+		 * them.
+		 *
+		 * @param south
+		 *            row south edge
+		 * @param north
+		 *            row north edge
+		 * @param tileSize
+		 *            tile size
+		 * @param first
+		 *            first column
+		 * @param last
+		 *            last column
+		 * @return inclusive column pairs, ordered and disjoint
+		 */
+		private long[] spans(double south, double north, double tileSize,
+				long first, long last) {
+
+			int count = x.length;
+			long[] packed = new long[count + count / 2 + 1];
+			double[] crossings = new double[count];
+			int spans = 0;
+			int crossingCount = 0;
+			double center = (south + north) / 2;
+
+			for (int i = 0, j = count - 1; i < count; j = i++) {
+				double x1 = x[j];
+				double y1 = y[j];
+				double x2 = x[i];
+				double y2 = y[i];
+				double low = Math.min(y1, y2);
+				double high = Math.max(y1, y2);
+				if (high >= south && low <= north) {
+					double west;
+					double east;
+					if (y1 == y2) {
+						west = Math.min(x1, x2);
+						east = Math.max(x1, x2);
+					} else {
+						double slope = (x2 - x1) / (y2 - y1);
+						double xa = x1 + (Math.max(low, south) - y1) * slope;
+						double xb = x1 + (Math.min(high, north) - y1) * slope;
+						west = Math.min(xa, xb);
+						east = Math.max(xa, xb);
+					}
+					spans = span(packed, spans, west, east, tileSize, first,
+							last);
+				}
+				if ((y2 > center) != (y1 > center)) {
+					crossings[crossingCount++] = (x1 - x2) * (center - y2)
+							/ (y1 - y2) + x2;
+				}
+			}
+
+			Arrays.sort(crossings, 0, crossingCount);
+			for (int i = 0; i + 1 < crossingCount; i += 2) {
+				spans = span(packed, spans, crossings[i], crossings[i + 1],
+						tileSize, first, last);
+			}
+
+			Arrays.sort(packed, 0, spans);
+			long[] merged = new long[2 * spans];
+			int size = 0;
+			for (int i = 0; i < spans; i++) {
+				long start = packed[i] >>> 32;
+				long end = packed[i] & 0xFFFFFFFFL;
+				if (size > 0 && start <= merged[size - 1] + 1) {
+					merged[size - 1] = Math.max(merged[size - 1], end);
+				} else {
+					merged[size++] = start;
+					merged[size++] = end;
+				}
+			}
+
+			return Arrays.copyOf(merged, size);
+		}
+
+		/**
+		 * Add the columns of tiles touching the x range as a packed span
+		 *
+		 * @param packed
+		 *            packed spans as start and end columns
+		 * @param spans
+		 *            packed span count
+		 * @param west
+		 *            west x
+		 * @param east
+		 *            east x
+		 * @param tileSize
+		 *            tile size
+		 * @param first
+		 *            first column
+		 * @param last
+		 *            last column
+		 * @return packed span count
+		 */
+		private static int span(long[] packed, int spans, double west,
+				double east, double tileSize, long first, long last) {
+			double half = GeometryConstants.WEB_MERCATOR_HALF_WORLD_WIDTH;
+			long start = Math.max(first,
+					(long) Math.ceil((west + half) / tileSize) - 1);
+			long end = Math.min(last,
+					(long) Math.floor((east + half) / tileSize));
+			if (start <= end) {
+				packed[spans++] = (start << 32) | end;
+			}
+			return spans;
+		}
+
+	}
+
+}
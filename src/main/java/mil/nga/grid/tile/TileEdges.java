@@ -0,0 +1,170 @@
+package mil.nga.grid.tile;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import mil.nga.grid.GridUtils;
+import mil.nga.sf.util.GeometryConstants;
+
+/**
+ * Web Mercator XYZ tile edge coordinates. Degree edges are read from lazily
+ * built per zoom lookup tables up to {@link #MAX_TABLE_ZOOM}, with deeper
+ * zoom levels computed directly to keep memory bounded. Edge indices range
+ * from 0 to tiles per side, inclusive.
+ *
+ * @author osbornb
+ */
+public final class TileEdges {
+
+	/**
+	 * Max zoom level with edge lookup tables, about 1 MB of tables at this
+	 * zoom level and 2 MB across all table zoom levels
+	 */
+	public static final int MAX_TABLE_ZOOM = 16;
+
+	/**
+	 * Longitude edges in degrees by zoom level, west to east
+	 */
+	private static final AtomicReferenceArray<double[]> longitudes = new AtomicReferenceArray<>(
+			MAX_TABLE_ZOOM + 1);
+
+	/**
+	 * Latitude edges in degrees by zoom level, north to south
+	 */
+	private static final AtomicReferenceArray<double[]> latitudes = new AtomicReferenceArray<>(
+			MAX_TABLE_ZOOM + 1);
+
+	/**
+	 * Constructor
+	 */
+	private TileEdges() {
+
+	}
+
+	/**
+	 * Get the longitude edge in meters
+	 *
+	 * @param x
+	 *            x edge index, west edge of tile x
+	 * @param zoom
+	 *            zoom level
+	 * @return longitude in meters
+	 */
+	public static double getLongitudeMeters(int x, int zoom) {
+		return (-1 * GeometryConstants.WEB_MERCATOR_HALF_WORLD_WIDTH)
+				+ (x * TileKey.tileSize(zoom));
+	}
+
+	/**
+	 * Get the latitude edge in meters
+	 *
+	 * @param y
+	 *            y edge index, north edge of tile y
+	 * @param zoom
+	 *            zoom level
+	 * @return latitude in meters
+	 */
+	public static double getLatitudeMeters(int y, int zoom) {
+		return GeometryConstants.WEB_MERCATOR_HALF_WORLD_WIDTH
+				- (y * TileKey.tileSize(zoom));
+	}
+
+	/**
+	 * Get the longitude edge in degrees
+	 *
+	 * @param x
+	 *            x edge index, west edge of tile x
+	 * @param zoom
+	 *            zoom level
+	 * @return longitude in degrees
+	 */
+	public static double getLongitudeDegrees(int x, int zoom) {
+		double longitude;
+		if (isTabled(x, zoom)) {
+			longitude = getLongitudes(zoom)[x];
+		} else {
+			longitude = GridUtils
+					.longitudeToDegrees(getLongitudeMeters(x, zoom));
+		}
+		return longitude;
+	}
+
+	/**
+	 * Get the latitude edge in degrees
+	 *
+	 * @param y
+	 *            y edge index, north edge of tile y
+	 * @param zoom
+	 *            zoom level
+	 * @return latitude in degrees
+	 */
+	public static double getLatitudeDegrees(int y, int zoom) {
+		double latitude;
+		if (isTabled(y, zoom)) {
+			latitude = getLatitudes(zoom)[y];
+		} else {
+			latitude = GridUtils.latitudeToDegrees(getLatitudeMeters(y, zoom));
+		}
+		return latitude;
+	}
+
+	/**
+	 * Determine if the edge index and zoom level are within the lookup tables
+	 *
+	 * @param index
+	 *            edge index
+	 * @param zoom
+	 *            zoom level
+	 * @return true if tabled
+	 */
+	private static boolean isTabled(int index, int zoom) {
+		return zoom >= 0 && zoom <= MAX_TABLE_ZOOM && index >= 0
+				&& index <= TileKey.tilesPerSide(zoom);
+	}
+
+	/**
+	 * Get the longitude edges in degrees for the zoom level, building them
+	 * when needed
+	 *
+	 * @param zoom
+	 *            zoom level
+	 * @return longitude edges
+	 */
+	private static double[] getLongitudes(int zoom) {
+		double[] edges = longitudes.get(zoom);
+		if (edges == null) {
+			edges = new double[TileKey.tilesPerSide(zoom) + 1];
+			for (int x = 0; x < edges.length; x++) {
+				edges[x] = GridUtils
+						.longitudeToDegrees(getLongitudeMeters(x, zoom));
+			}
+			if (!longitudes.compareAndSet(zoom, null, edges)) {
+				edges = longitudes.get(zoom);
+			}
+		}
+		return edges;
+	}
+
+	/**
+	 * Get the latitude edges in degrees for the zoom level, building them when
+	 * needed
+	 *
+	 * @param zoom
+	 *            zoom level
+	 * @return latitude edges
+	 */
+	private static double[] getLatitudes(int zoom) {
+		double[] edges = latitudes.get(zoom);
+		if (edges == null) {
+			edges = new double[TileKey.tilesPerSide(zoom) + 1];
+			for (int y = 0; y < edges.length; y++) {
+				edges[y] = GridUtils
+						.latitudeToDegrees(getLatitudeMeters(y, zoom));
+			}
+			if (!latitudes.compareAndSet(zoom, null, edges)) {
+				edges = latitudes.get(zoom);
+			}
+		}
+		return edges;
+	}
+
+}
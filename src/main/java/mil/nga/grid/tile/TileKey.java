@@ -0,0 +1,525 @@
+package mil.nga.grid.tile;
+
+import mil.nga.grid.GridUtils;
+import mil.nga.grid.features.Bounds;
+import mil.nga.sf.util.GeometryConstants;
+
+/**
+ * XYZ Tile Key with the zoom, x, and y coordinates packed into a single long
+ * value. The static methods operate directly on the packed long for use as a
+ * primitive key.
+ *
+ * Packed layout, high to low bits: 6 zoom bits, 29 x bits, 29 y bits
+ *
+ * @author osbornb
+ */
+public final class TileKey implements Comparable<TileKey> {
+
+	/**
+	 * Max supported zoom level
+	 */
+	public static final int MAX_ZOOM = 29;
+
+	/**
+	 * Bits per tile coordinate
+	 */
+	private static final int COORDINATE_BITS = 29;
+
+	/**
+	 * Tile coordinate mask
+	 */
+	private static final long COORDINATE_MASK = (1L << COORDINATE_BITS) - 1;
+
+	/**
+	 * Zoom bit shift
+	 */
+	private static final int ZOOM_SHIFT = 2 * COORDINATE_BITS;
+
+	/**
+	 * Tile size in meters by zoom level
+	 */
+	private static final double[] TILE_SIZES = new double[MAX_ZOOM + 1];
+
+	static {
+		for (int zoom = 0; zoom <= MAX_ZOOM; zoom++) {
+			TILE_SIZES[zoom] = GridUtils.tileSize(1 << zoom);
+		}
+	}
+
+	/**
+	 * Packed key
+	 */
+	private final long key;
+
+	/**
+	 * Create a tile key
+	 *
+	 * @param x
+	 *            x coordinate
+	 * @param y
+	 *            y coordinate
+	 * @param zoom
+	 *            zoom level
+	 * @return tile key
+	 */
+	public static TileKey key(int x, int y, int zoom) {
+		return new TileKey(pack(x, y, zoom));
+	}
+
+	/**
+	 * Create a tile key
+	 *
+	 * @param key
+	 *            packed key
+	 * @return tile key
+	 */
+	public static TileKey key(long key) {
+		if (!isValid(key)) {
+			throw new IllegalArgumentException(
+					"Packed key out of range. key: " + key + ", x: "
+							+ getX(key) + ", y: " + getY(key) + ", zoom: "
+							+ getZoom(key));
+		}
+		return new TileKey(key);
+	}
+
+	/**
+	 * Create a tile key from a quadkey
+	 *
+	 * @param quadkey
+	 *            quadkey
+	 * @return tile key
+	 */
+	public static TileKey quadkey(String quadkey) {
+		return new TileKey(fromQuadkey(quadkey));
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param key
+	 *            packed key
+	 */
+	private TileKey(long key) {
+		this.key = key;
+	}
+
+	/**
+	 * Pack the tile coordinates into a key
+	 *
+	 * @param x
+	 *            x coordinate
+	 * @param y
+	 *            y coordinate
+	 * @param zoom
+	 *            zoom level
+	 * @return packed key
+	 */
+	public static long pack(int x, int y, int zoom) {
+		if (!isValid(x, y, zoom)) {
+			throw new IllegalArgumentException(
+					"Tile coordinate out of range. x: " + x + ", y: " + y
+							+ ", zoom: " + zoom);
+		}
+		return packUnchecked(x, y, zoom);
+	}
+
+	/**
+	 * Determine if the tile coordinates can be packed into a key
+	 *
+	 * @param x
+	 *            x coordinate
+	 * @param y
+	 *            y coordinate
+	 * @param zoom
+	 *            zoom level
+	 * @return true if valid
+	 */
+	public static boolean isValid(int x, int y, int zoom) {
+		boolean valid = zoom >= 0 && zoom <= MAX_ZOOM;
+		if (valid) {
+			int tilesPerSide = tilesPerSide(zoom);
+			valid = x >= 0 && x < tilesPerSide && y >= 0 && y < tilesPerSide;
+		}
+		return valid;
+	}
+
+	/**
+	 * Determine if the packed key holds a valid zoom level with tile
+	 * coordinates within the zoom level
+	 *
+	 * @param key
+	 *            packed key
+	 * @return true if valid
+	 */
+	public static boolean isValid(long key) {
+		return isValid(getX(key), getY(key), getZoom(key));
+	}
+
+	/**
+	 * Pack already validated tile coordinates into a key
+	 *
+	 * @param x
+	 *            x coordinate
+	 * @param y
+	 *            y coordinate
+	 * @param zoom
+	 *            zoom level
+	 * @return packed key
+	 */
+	private static long packUnchecked(long x, long y, int zoom) {
+		return ((long) zoom << ZOOM_SHIFT) | (x << COORDINATE_BITS) | y;
+	}
+
+	/**
+	 * Get the x coordinate of a packed key
+	 *
+	 * @param key
+	 *            packed key
+	 * @return x coordinate
+	 */
+	public static int getX(long key) {
+		return (int) ((key >>> COORDINATE_BITS) & COORDINATE_MASK);
+	}
+
+	/**
+	 * Get the y coordinate of a packed key
+	 *
+	 * @param key
+	 *            packed key
+	 * @return y coordinate
+	 */
+	public static int getY(long key) {
+		return (int) (key & COORDINATE_MASK);
+	}
+
+	/**
+	 * Get the zoom level of a packed key
+	 *
+	 * @param key
+	 *            packed key
+	 * @return zoom level
+	 */
+	public static int getZoom(long key) {
+		return (int) (key >>> ZOOM_SHIFT);
+	}
+
+	/**
+	 * Get the tiles per side, width and height, at the zoom level. Matches
+	 * the integer truncated power of two, saturating at
+	 * {@link Integer#MAX_VALUE} for zoom levels of 31 and above and 0 for
+	 * negative zoom levels.
+	 *
+	 * @param zoom
+	 *            zoom level
+	 * @return tiles per side
+	 */
+	public static int tilesPerSide(int zoom) {
+		int tilesPerSide;
+		if (zoom < 0) {
+			tilesPerSide = 0;
+		} else if (zoom >= Integer.SIZE - 1) {
+			tilesPerSide = Integer.MAX_VALUE;
+		} else {
+			tilesPerSide = 1 << zoom;
+		}
+		return tilesPerSide;
+	}
+
+	/**
+	 * Get the tile size in meters at the zoom level
+	 *
+	 * @param zoom
+	 *            zoom level
+	 * @return tile size
+	 */
+	public static double tileSize(int zoom) {
+		double tileSize;
+		if (zoom >= 0 && zoom <= MAX_ZOOM) {
+			tileSize = TILE_SIZES[zoom];
+		} else {
+			tileSize = (2 * GeometryConstants.WEB_MERCATOR_HALF_WORLD_WIDTH)
+					/ Math.pow(2, zoom);
+		}
+		return tileSize;
+	}
+
+	/**
+	 * Get the parent packed key
+	 *
+	 * @param key
+	 *            packed key
+	 * @return parent packed key, or -1 at zoom level 0
+	 */
+	public static long parent(long key) {
+		int zoom = getZoom(key);
+		long parent = -1;
+		if (zoom > 0) {
+			parent = packUnchecked(getX(key) >> 1, getY(key) >> 1, zoom - 1);
+		}
+		return parent;
+	}
+
+	/**
+	 * Get a child packed key
+	 *
+	 * @param key
+	 *            packed key
+	 * @param quadrant
+	 *            child quadrant as a quadkey digit: 0 top left, 1 top right,
+	 *            2 bottom left, 3 bottom right
+	 * @return child packed key
+	 */
+	public static long child(long key, int quadrant) {
+		int zoom = getZoom(key);
+		if (zoom >= MAX_ZOOM) {
+			throw new IllegalArgumentException(
+					"Tile at max zoom has no children. zoom: " + zoom);
+		}
+		if (quadrant < 0 || quadrant > 3) {
+			throw new IllegalArgumentException(
+					"Quadrant must be >= 0 and <= 3. quadrant: " + quadrant);
+		}
+		long x = ((long) getX(key) << 1) | (quadrant & 1);
+		long y = ((long) getY(key) << 1) | (quadrant >> 1);
+		return packUnchecked(x, y, zoom + 1);
+	}
+
+	/**
+	 * Get a neighbor packed key, wrapping x across the antimeridian
+	 *
+	 * @param key
+	 *            packed key
+	 * @param dx
+	 *            x tile offset
+	 * @param dy
+	 *            y tile offset
+	 * @return neighbor packed key, or -1 when beyond the north or south edge
+	 */
+	public static long neighbor(long key, int dx, int dy) {
+		int zoom = getZoom(key);
+		long tilesPerSide = tilesPerSide(zoom);
+		long y = getY(key) + (long) dy;
+		long neighbor = -1;
+		if (y >= 0 && y < tilesPerSide) {
+			long x = Math.floorMod(getX(key) + (long) dx, tilesPerSide);
+			neighbor = packUnchecked(x, y, zoom);
+		}
+		return neighbor;
+	}
+
+	/**
+	 * Get the quadkey of a packed key
+	 *
+	 * @param key
+	 *            packed key
+	 * @return quadkey
+	 */
+	public static String toQuadkey(long key) {
+		int zoom = getZoom(key);
+		int x = getX(key);
+		int y = getY(key);
+		char[] quadkey = new char[zoom];
+		for (int i = zoom; i > 0; i--) {
+			int mask = 1 << (i - 1);
+			int digit = 0;
+			if ((x & mask) != 0) {
+				digit += 1;
+			}
+			if ((y & mask) != 0) {
+				digit += 2;
+			}
+			quadkey[zoom - i] = (char) ('0' + digit);
+		}
+		return new String(quadkey);
+	}
+
+	/**
+	 * Get the packed key of a quadkey
+	 *
+	 * @param quadkey
+	 *            quadkey
+	 * @return packed key
+	 */
+	public static long fromQuadkey(String quadkey) {
+		int zoom = quadkey.length();
+		if (zoom > MAX_ZOOM) {
+			throw new IllegalArgumentException("Quadkey zoom level must be <= "
+					+ MAX_ZOOM + ". quadkey: " + quadkey);
+		}
+		long x = 0;
+		long y = 0;
+		for (int i = 0; i < zoom; i++) {
+			int digit = quadkey.charAt(i) - '0';
+			if (digit < 0 || digit > 3) {
+				throw new IllegalArgumentException(
+						"Invalid quadkey digit: " + quadkey.charAt(i)
+								+ ", quadkey: " + quadkey);
+			}
+			x = (x << 1) | (digit & 1);
+			y = (y << 1) | (digit >> 1);
+		}
+		return packUnchecked(x, y, zoom);
+	}
+
+	/**
+	 * Get the packed key
+	 *
+	 * @return packed key
+	 */
+	public long getKey() {
+		return key;
+	}
+
+	/**
+	 * Get the x coordinate
+	 *
+	 * @return x coordinate
+	 */
+	public int getX() {
+		return getX(key);
+	}
+
+	/**
+	 * Get the y coordinate
+	 *
+	 * @return y coordinate
+	 */
+	public int getY() {
+		return getY(key);
+	}
+
+	/**
+	 * Get the zoom level
+	 *
+	 * @return zoom level
+	 */
+	public int getZoom() {
+		return getZoom(key);
+	}
+
+	/**
+	 * Get the tile size in meters
+	 *
+	 * @return tile size
+	 */
+	public double getTileSize() {
+		return tileSize(getZoom());
+	}
+
+	/**
+	 * Get the tile bounds in meters
+	 *
+	 * @return bounds
+	 */
+	public Bounds getBounds() {
+		return GridUtils.getBounds(getX(), getY(), getZoom());
+	}
+
+	/**
+	 * Get the tile bounds in degrees
+	 *
+	 * @return bounds in degrees
+	 */
+	public Bounds getBoundsDegrees() {
+		return GridUtils.getBoundsDegrees(getX(), getY(), getZoom());
+	}
+
+	/**
+	 * Get the parent tile key
+	 *
+	 * @return parent tile key, or null at zoom level 0
+	 */
+	public TileKey getParent() {
+		long parent = parent(key);
+		return parent != -1 ? new TileKey(parent) : null;
+	}
+
+	/**
+	 * Get a child tile key
+	 *
+	 * @param quadrant
+	 *            child quadrant as a quadkey digit: 0 top left, 1 top right,
+	 *            2 bottom left, 3 bottom right
+	 * @return child tile key
+	 */
+	public TileKey getChild(int quadrant) {
+		return new TileKey(child(key, quadrant));
+	}
+
+	/**
+	 * Get the four child tile keys in quadkey digit order
+	 *
+	 * @return child tile keys
+	 */
+	public TileKey[] getChildren() {
+		TileKey[] children = new TileKey[4];
+		for (int quadrant = 0; quadrant < children.length; quadrant++) {
+			children[quadrant] = getChild(quadrant);
+		}
+		return children;
+	}
+
+	/**
+	 * Get a neighbor tile key, wrapping x across the antimeridian
+	 *
+	 * @param dx
+	 *            x tile offset
+	 * @param dy
+	 *            y tile offset
+	 * @return neighbor tile key, or null when beyond the north or south edge
+	 */
+	public TileKey getNeighbor(int dx, int dy) {
+		long neighbor = neighbor(key, dx, dy);
+		return neighbor != -1 ? new TileKey(neighbor) : null;
+	}
+
+	/**
+	 * Get the quadkey
+	 *
+	 * @return quadkey
+	 */
+	public String toQuadkey() {
+		return toQuadkey(key);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int compareTo(TileKey other) {
+		return Long.compare(key, other.key);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int hashCode() {
+		return Long.hashCode(key);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		TileKey other = (TileKey) obj;
+		return key == other.key;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		return getZoom() + "/" + getX() + "/" + getY();
+	}
+
+}
@@ -0,0 +1,642 @@
+package mil.nga.grid.tile;
+
+import mil.nga.grid.Conversion;
+import mil.nga.grid.features.Bounds;
+import mil.nga.grid.features.Coordinate;
+import mil.nga.grid.features.Point;
+import mil.nga.grid.features.Unit;
+
+/**
+ * Immutable affine transform between meter coordinates and tile pixels, in
+ * both directions, computed once from the tile dimensions and bounds. Bounds
+ * are held as primitives, with new bounds created on request. Degree
+ * coordinates are converted with the transform {@link Conversion} engine,
+ * {@link Conversion#STRICT} by default.
+ *
+ * @author osbornb
+ */
+public final class TileTransform {
+
+	/**
+	 * Tile width
+	 */
+	private final int width;
+
+	/**
+	 * Tile height
+	 */
+	private final int height;
+
+	/**
+	 * Minimum longitude in meters
+	 */
+	private final double minLongitude;
+
+	/**
+	 * Minimum latitude in meters
+	 */
+	private final double minLatitude;
+
+	/**
+	 * Maximum longitude in meters
+	 */
+	private final double maxLongitude;
+
+	/**
+	 * Maximum latitude in meters
+	 */
+	private final double maxLatitude;
+
+	/**
+	 * Minimum longitude in degrees
+	 */
+	private final double minLongitudeDegrees;
+
+	/**
+	 * Minimum latitude in degrees
+	 */
+	private final double minLatitudeDegrees;
+
+	/**
+	 * Maximum longitude in degrees
+	 */
+	private final double maxLongitudeDegrees;
+
+	/**
+	 * Maximum latitude in degrees
+	 */
+	private final double maxLatitudeDegrees;
+
+	/**
+	 * X pixels per meter
+	 */
+	private final double xScale;
+
+	/**
+	 * X pixel offset
+	 */
+	private final double xOffset;
+
+	/**
+	 * Y pixels per meter
+	 */
+	private final double yScale;
+
+	/**
+	 * Y pixel offset
+	 */
+	private final double yOffset;
+
+	/**
+	 * Meters per x pixel
+	 */
+	private final double xInverseScale;
+
+	/**
+	 * Meters per y pixel, negative as pixels increase southward
+	 */
+	private final double yInverseScale;
+
+	/**
+	 * Unit conversion engine
+	 */
+	private final Conversion conversion;
+
+	/**
+	 * Create a transform
+	 *
+	 * @param width
+	 *            tile width
+	 * @param height
+	 *            tile height
+	 * @param bounds
+	 *            tile bounds
+	 * @return transform
+	 */
+	public static TileTransform transform(int width, int height,
+			Bounds bounds) {
+		return new TileTransform(width, height, bounds);
+	}
+
+	/**
+	 * Create a transform
+	 *
+	 * @param width
+	 *            tile width
+	 * @param height
+	 *            tile height
+	 * @param bounds
+	 *            tile bounds
+	 * @param conversion
+	 *            unit conversion engine
+	 * @return transform
+	 */
+	public static TileTransform transform(int width, int height,
+			Bounds bounds, Conversion conversion) {
+		return new TileTransform(width, height, bounds, conversion);
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param width
+	 *            tile width
+	 * @param height
+	 *            tile height
+	 * @param bounds
+	 *            tile bounds
+	 */
+	public TileTransform(int width, int height, Bounds bounds) {
+		this(width, height, bounds, Conversion.STRICT);
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param width
+	 *            tile width
+	 * @param height
+	 *            tile height
+	 * @param bounds
+	 *            tile bounds
+	 * @param conversion
+	 *            unit conversion engine
+	 */
+	public TileTransform(int width, int height, Bounds bounds,
+			Conversion conversion) {
+		this(width, height, bounds.toMeters(), bounds.toDegrees(),
+				conversion);
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param width
+	 *            tile width
+	 * @param height
+	 *            tile height
+	 * @param boundsMeters
+	 *            tile bounds in meters
+	 * @param boundsDegrees
+	 *            tile bounds in degrees
+	 */
+	public TileTransform(int width, int height, Bounds boundsMeters,
+			Bounds boundsDegrees) {
+		this(width, height, boundsMeters, boundsDegrees, Conversion.STRICT);
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param width
+	 *            tile width
+	 * @param height
+	 *            tile height
+	 * @param boundsMeters
+	 *            tile bounds in meters
+	 * @param boundsDegrees
+	 *            tile bounds in degrees
+	 * @param conversion
+	 *            unit conversion engine
+	 */
+	public TileTransform(int width, int height, Bounds boundsMeters,
+			Bounds boundsDegrees, Conversion conversion) {
+		if (conversion == null) {
+			throw new IllegalArgumentException(
+					"Conversion engine is required");
+		}
+		this.width = width;
+		this.height = height;
+		minLongitude = boundsMeters.getMinLongitude();
+		minLatitude = boundsMeters.getMinLatitude();
+		maxLongitude = boundsMeters.getMaxLongitude();
+		maxLatitude = boundsMeters.getMaxLatitude();
+		minLongitudeDegrees = boundsDegrees.getMinLongitude();
+		minLatitudeDegrees = boundsDegrees.getMinLatitude();
+		maxLongitudeDegrees = boundsDegrees.getMaxLongitude();
+		maxLatitudeDegrees = boundsDegrees.getMaxLatitude();
+
+		double boxWidth = maxLongitude - minLongitude;
+		double boxHeight = maxLatitude - minLatitude;
+
+		xScale = width / boxWidth;
+		xOffset = -minLongitude * xScale;
+		yScale = -height / boxHeight;
+		yOffset = maxLatitude * height / boxHeight;
+		xInverseScale = boxWidth / width;
+		yInverseScale = -boxHeight / height;
+		this.conversion = conversion;
+	}
+
+	/**
+	 * Get the tile width
+	 *
+	 * @return tile width
+	 */
+	public int getWidth() {
+		return width;
+	}
+
+	/**
+	 * Get the tile height
+	 *
+	 * @return tile height
+	 */
+	public int getHeight() {
+		return height;
+	}
+
+	/**
+	 * Get the unit conversion engine
+	 *
+	 * @return conversion engine
+	 */
+	public Conversion getConversion() {
+		return conversion;
+	}
+
+	/**
+	 * Get the transform with the unit conversion engine
+	 *
+	 * @param conversion
+	 *            conversion engine
+	 * @return transform with the engine, same transform if equal engines
+	 */
+	public TileTransform toConversion(Conversion conversion) {
+		TileTransform transform = this;
+		if (this.conversion != conversion) {
+			transform = new TileTransform(width, height, getBoundsMeters(),
+					getBoundsDegrees(), conversion);
+		}
+		return transform;
+	}
+
+	/**
+	 * Get the bounds in the unit
+	 *
+	 * @param unit
+	 *            unit
+	 * @return new bounds in unit
+	 */
+	public Bounds getBounds(Unit unit) {
+		return unit == Unit.DEGREE ? getBoundsDegrees() : getBoundsMeters();
+	}
+
+	/**
+	 * Get the bounds in meters
+	 *
+	 * @return new bounds in meters
+	 */
+	public Bounds getBoundsMeters() {
+		return Bounds.meters(minLongitude, minLatitude, maxLongitude,
+				maxLatitude);
+	}
+
+	/**
+	 * Get the bounds in degrees
+	 *
+	 * @return new bounds in degrees
+	 */
+	public Bounds getBoundsDegrees() {
+		return Bounds.degrees(minLongitudeDegrees, minLatitudeDegrees,
+				maxLongitudeDegrees, maxLatitudeDegrees);
+	}
+
+	/**
+	 * Get the minimum longitude in the unit
+	 *
+	 * @param unit
+	 *            unit
+	 * @return minimum longitude in unit
+	 */
+	public double getMinLongitude(Unit unit) {
+		return unit == Unit.DEGREE ? minLongitudeDegrees : minLongitude;
+	}
+
+	/**
+	 * Get the minimum latitude in the unit
+	 *
+	 * @param unit
+	 *            unit
+	 * @return minimum latitude in unit
+	 */
+	public double getMinLatitude(Unit unit) {
+		return unit == Unit.DEGREE ? minLatitudeDegrees : minLatitude;
+	}
+
+	/**
+	 * Get the maximum longitude in the unit
+	 *
+	 * @param unit
+	 *            unit
+	 * @return maximum longitude in unit
+	 */
+	public double getMaxLongitude(Unit unit) {
+		return unit == Unit.DEGREE ? maxLongitudeDegrees : maxLongitude;
+	}
+
+	/**
+	 * Get the maximum latitude in the unit
+	 *
+	 * @param unit
+	 *            unit
+	 * @return maximum latitude in unit
+	 */
+	public double getMaxLatitude(Unit unit) {
+		return unit == Unit.DEGREE ? maxLatitudeDegrees : maxLatitude;
+	}
+
+	/**
+	 * Get the x pixels per meter
+	 *
+	 * @return x scale
+	 */
+	public double getXScale() {
+		return xScale;
+	}
+
+	/**
+	 * Get the x pixel offset
+	 *
+	 * @return x offset
+	 */
+	public double getXOffset() {
+		return xOffset;
+	}
+
+	/**
+	 * Get the y pixels per meter, negative as pixels increase southward
+	 *
+	 * @return y scale
+	 */
+	public double getYScale() {
+		return yScale;
+	}
+
+	/**
+	 * Get the y pixel offset
+	 *
+	 * @return y offset
+	 */
+	public double getYOffset() {
+		return yOffset;
+	}
+
+	/**
+	 * Get the longitude in meters x pixel
+	 *
+	 * @param longitude
+	 *            longitude in meters
+	 * @return x pixel
+	 */
+	public float getXPixel(double longitude) {
+		return (float) (longitude * xScale + xOffset);
+	}
+
+	/**
+	 * Get the latitude in meters y pixel
+	 *
+	 * @param latitude
+	 *            latitude in meters
+	 * @return y pixel
+	 */
+	public float getYPixel(double latitude) {
+		return (float) (latitude * yScale + yOffset);
+	}
+
+	/**
+	 * Get the point pixel
+	 *
+	 * @param point
+	 *            point
+	 * @return pixel
+	 */
+	public Pixel getPixel(Point point) {
+		return getPixel(point.getLongitude(), point.getLatitude(),
+				point.getUnit());
+	}
+
+	/**
+	 * Get the coordinate pixel
+	 *
+	 * @param coordinate
+	 *            coordinate
+	 * @return pixel
+	 */
+	public Pixel getPixel(Coordinate coordinate) {
+		return getPixel(coordinate.getLongitude(), coordinate.getLatitude(),
+				coordinate.getUnit());
+	}
+
+	/**
+	 * Get the coordinate pixel
+	 *
+	 * @param longitude
+	 *            longitude
+	 * @param latitude
+	 *            latitude
+	 * @param unit
+	 *            unit
+	 * @return pixel
+	 */
+	public Pixel getPixel(double longitude, double latitude, Unit unit) {
+		if (unit == Unit.DEGREE) {
+			longitude = conversion.longitudeToMeters(longitude);
+			latitude = conversion.latitudeToMeters(latitude);
+		}
+		return new Pixel(getXPixel(longitude), getYPixel(latitude));
+	}
+
+	/**
+	 * Get the longitude in meters at the x pixel
+	 *
+	 * @param x
+	 *            x pixel
+	 * @return longitude in meters
+	 */
+	public double getLongitude(double x) {
+		return minLongitude + x * xInverseScale;
+	}
+
+	/**
+	 * Get the latitude in meters at the y pixel
+	 *
+	 * @param y
+	 *            y pixel
+	 * @return latitude in meters
+	 */
+	public double getLatitude(double y) {
+		return maxLatitude + y * yInverseScale;
+	}
+
+	/**
+	 * Get the longitude in the unit at the x pixel
+	 *
+	 * @param x
+	 *            x pixel
+	 * @param unit
+	 *            unit
+	 * @return longitude in unit
+	 */
+	public double getLongitude(double x, Unit unit) {
+		double longitude = getLongitude(x);
+		if (unit == Unit.DEGREE) {
+			longitude = conversion.longitudeToDegrees(longitude);
+		}
+		return longitude;
+	}
+
+	/**
+	 * Get the latitude in the unit at the y pixel
+	 *
+	 * @param y
+	 *            y pixel
+	 * @param unit
+	 *            unit
+	 * @return latitude in unit
+	 */
+	public double getLatitude(double y, Unit unit) {
+		double latitude = getLatitude(y);
+		if (unit == Unit.DEGREE) {
+			latitude = conversion.latitudeToDegrees(latitude);
+		}
+		return latitude;
+	}
+
+	/**
+	 * Get the point at the pixel
+	 *
+	 * @param x
+	 *            x pixel
+	 * @param y
+	 *            y pixel
+	 * @param unit
+	 *            unit
+	 * @return point in unit
+	 */
+	public Point getPoint(double x, double y, Unit unit) {
+		return Point.point(getLongitude(x, unit), getLatitude(y, unit), unit);
+	}
+
+	/**
+	 * Get the point at the pixel
+	 *
+	 * @param pixel
+	 *            pixel
+	 * @param unit
+	 *            unit
+	 * @return point in unit
+	 */
+	public Point getPoint(Pixel pixel, Unit unit) {
+		return getPoint(pixel.getX(), pixel.getY(), unit);
+	}
+
+	/**
+	 * Get the coordinate at the pixel
+	 *
+	 * @param x
+	 *            x pixel
+	 * @param y
+	 *            y pixel
+	 * @param unit
+	 *            unit
+	 * @return coordinate in unit
+	 */
+	public Coordinate getCoordinate(double x, double y, Unit unit) {
+		return Coordinate.coordinate(getLongitude(x, unit),
+				getLatitude(y, unit), unit);
+	}
+
+	/**
+	 * Get the coordinates of interleaved x and y pixels
+	 *
+	 * @param pixels
+	 *            pixels as [x0, y0, x1, y1, ...], of even length
+	 * @param unit
+	 *            unit of the coordinates
+	 * @param longitudes
+	 *            longitudes array of at least half the pixels length
+	 * @param latitudes
+	 *            latitudes array of at least half the pixels length
+	 */
+	public void getCoordinates(float[] pixels, Unit unit, double[] longitudes,
+			double[] latitudes) {
+
+		if (pixels.length % 2 != 0) {
+			throw new IllegalArgumentException(
+					"Pixels array must contain x and y pairs. length: "
+							+ pixels.length);
+		}
+
+		int count = pixels.length / 2;
+		if (longitudes.length < count || latitudes.length < count) {
+			throw new IllegalArgumentException(
+					"Coordinate arrays too small. required: " + count
+							+ ", longitudes: " + longitudes.length
+							+ ", latitudes: " + latitudes.length);
+		}
+
+		boolean degrees = unit == Unit.DEGREE;
+
+		for (int i = 0, p = 0; i < count; i++) {
+
+			double longitude = minLongitude + pixels[p++] * xInverseScale;
+			double latitude = maxLatitude + pixels[p++] * yInverseScale;
+			if (degrees) {
+				longitude = conversion.longitudeToDegrees(longitude);
+				latitude = conversion.latitudeToDegrees(latitude);
+			}
+
+			longitudes[i] = longitude;
+			latitudes[i] = latitude;
+		}
+
+	}
+
+	/**
+	 * Get the pixels of the coordinates, written to the pixels array as
+	 * interleaved x and y values
+	 *
+	 * @param longitudes
+	 *            longitudes
+	 * @param latitudes
+	 *            latitudes
+	 * @param unit
+	 *            unit of the longitudes and latitudes
+	 * @param pixels
+	 *            pixels array of at least twice the coordinate count, filled
+	 *            as [x0, y0, x1, y1, ...]
+	 */
+	public void getPixels(double[] longitudes, double[] latitudes, Unit unit,
+			float[] pixels) {
+
+		int count = longitudes.length;
+		if (latitudes.length != count) {
+			throw new IllegalArgumentException(
+					"Longitude and latitude counts differ. longitudes: "
+							+ count + ", latitudes: " + latitudes.length);
+		}
+		if (pixels.length < 2 * count) {
+			throw new IllegalArgumentException(
+					"Pixels array too small. required: " + (2 * count)
+							+ ", length: " + pixels.length);
+		}
+
+		boolean degrees = unit == Unit.DEGREE;
+
+		for (int i = 0, p = 0; i < count; i++) {
+
+			double longitude = longitudes[i];
+			double latitude = latitudes[i];
+			if (degrees) {
+				longitude = conversion.longitudeToMeters(longitude);
+				latitude = conversion.latitudeToMeters(latitude);
+			}
+
+			pixels[p++] = (float) (longitude * xScale + xOffset);
+			pixels[p++] = (float) (latitude * yScale + yOffset);
+		}
+
+	}
+
+}
@@ -0,0 +1,204 @@
+package mil.nga.grid;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Base Grids test
+ *
+ * @author osbornb
+ */
+public class BaseGridsTest {
+
+	/**
+	 * Test each published change increments the version by one and no-op
+	 * changes do not publish
+	 */
+	@Test
+	public void testVersion() {
+
+		TestGrids grids = new TestGrids(3);
+		TestGrids.Grid grid = grids.get(1);
+
+		long version = grids.getVersion();
+		assertEquals(1, version);
+
+		grids.enable(grid);
+		assertEquals(version, grids.getVersion());
+
+		grids.disable(grid);
+		assertEquals(++version, grids.getVersion());
+
+		grids.disable(grid);
+		assertEquals(version, grids.getVersion());
+
+		grids.enable(grid);
+		assertEquals(++version, grids.getVersion());
+
+		grids.setZoomRange(grid, 4, 12);
+		assertEquals(++version, grids.getVersion());
+
+		grids.setMinZoom(grid, 6);
+		assertEquals(++version, grids.getVersion());
+
+		grids.setMaxZoom(grid, null);
+		assertEquals(++version, grids.getVersion());
+
+		grids.enableAllLabelers();
+		assertEquals(++version, grids.getVersion());
+
+		grids.setAllLabelBuffers(0.2);
+		assertEquals(++version, grids.getVersion());
+
+		try {
+			grids.setZoomRange(grid, 8, 7);
+			fail("Expected invalid zoom range failure");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+		assertEquals(version, grids.getVersion());
+
+	}
+
+	/**
+	 * Test a transaction publishes its changes as a single version
+	 */
+	@Test
+	public void testTransaction() {
+
+		TestGrids grids = new TestGrids(3);
+		final List<List<GridChangeEvent<TestGrids.Grid>>> notifications = new ArrayList<>();
+		grids.addListener(notifications::add);
+
+		long version = grids.getVersion();
+
+		GridsTransaction<TestGrids.Grid> transaction = grids.transaction();
+		assertTrue(transaction.isEmpty());
+		assertEquals(version, transaction.commit());
+		assertEquals(version, grids.getVersion());
+		assertTrue(notifications.isEmpty());
+
+		transaction.disable(grids.get(0)).setZoomRange(grids.get(1), 5, 10)
+				.setLabelerEnabled(grids.get(2), true)
+				.setLabelBuffer(grids.get(2), 0.3);
+		assertEquals(4, transaction.size());
+
+		RenderPlan<TestGrids.Grid> plan = grids.getRenderPlan(3);
+		assertEquals(3, plan.size());
+		assertEquals(version, grids.getVersion());
+		assertSame(plan, grids.getRenderPlan(3));
+
+		assertEquals(version + 1, transaction.commit());
+		assertEquals(version + 1, grids.getVersion());
+		assertTrue(transaction.isEmpty());
+
+		assertEquals(1, notifications.size());
+		List<GridChangeEvent<TestGrids.Grid>> events = notifications.get(0);
+		assertEquals(3, events.size());
+		for (GridChangeEvent<TestGrids.Grid> event : events) {
+			assertEquals(version + 1, event.getVersion());
+		}
+
+		assertEquals(3, plan.size());
+		plan = grids.getRenderPlan(3);
+		assertEquals(1, plan.size());
+		assertSame(grids.get(2), plan.getGrid(0));
+		assertTrue(plan.isLabeler(0));
+		assertEquals(0.3, plan.getLabelBuffer(0), 0.0);
+
+		plan = grids.getRenderPlan(7);
+		assertEquals(2, plan.size());
+		assertSame(grids.get(1), plan.getGrid(0));
+		assertFalse(plan.isLabeler(0));
+
+		assertEquals(version + 1, transaction.commit());
+		assertEquals(1, notifications.size());
+
+	}
+
+	/**
+	 * Test a transaction rejects null grids and grids of other grids
+	 */
+	@Test
+	public void testTransactionGrids() {
+
+		TestGrids grids = new TestGrids(2);
+		TestGrids other = new TestGrids(2);
+
+		GridsTransaction<TestGrids.Grid> transaction = grids.transaction();
+
+		try {
+			transaction.enable(null);
+			fail("Expected null grid failure");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+
+		try {
+			transaction.setZoomRange(other.get(0), 1, 2);
+			fail("Expected other grid failure");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+
+		try {
+			transaction.setLabelBuffer(new TestGrids.Grid(0), 0.1);
+			fail("Expected unknown grid failure");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+
+		assertTrue(transaction.isEmpty());
+		assertEquals(0, other.get(0).getMinZoom());
+
+	}
+
+	/**
+	 * Test a transaction change failure publishes the changes already applied
+	 * before rethrowing
+	 */
+	@Test
+	public void testTransactionFailure() {
+
+		TestGrids grids = new TestGrids(3);
+		TestGrids.Grid grid = grids.get(2);
+		grid.setLabeler(new TestGrids.TestLabeler() {
+			@Override
+			public void setEnabled(boolean enabled) {
+				throw new IllegalStateException("Labeler failure");
+			}
+		});
+
+		List<List<GridChangeEvent<TestGrids.Grid>>> notifications = new ArrayList<>();
+		grids.addListener(notifications::add);
+		long version = grids.getVersion();
+
+		GridsTransaction<TestGrids.Grid> transaction = grids.transaction()
+				.disable(grids.get(0)).setLabelerEnabled(grid, true)
+				.setZoomRange(grids.get(1), 5, 10);
+		try {
+			transaction.commit();
+			fail("Expected labeler failure");
+		} catch (IllegalStateException e) {
+			// expected
+		}
+
+		assertTrue(transaction.isEmpty());
+		assertEquals(version + 1, grids.getVersion());
+		assertFalse(grids.getGrids(3).getGridsView().contains(grids.get(0)));
+		assertEquals(0, grids.get(1).getMinZoom());
+		assertEquals(1, notifications.size());
+		assertEquals(1, notifications.get(0).size());
+		assertSame(grids.get(0), notifications.get(0).get(0).getGrid());
+
+	}
+
+}
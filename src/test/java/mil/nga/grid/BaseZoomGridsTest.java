@@ -0,0 +1,161 @@
+package mil.nga.grid;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.Test;
+
+/**
+ * Base Zoom Grids test
+ *
+ * @author osbornb
+ */
+public class BaseZoomGridsTest {
+
+	/**
+	 * Test published zoom grids can not be modified
+	 */
+	@Test
+	public void testFrozen() {
+
+		TestGrids grids = new TestGrids(3);
+		TestGrids.ZoomGrids zoomGrids = grids.getGrids(5);
+		assertTrue(zoomGrids.isFrozen());
+		assertEquals(3, zoomGrids.numGrids());
+
+		try {
+			zoomGrids.addGrid(new TestGrids.Grid(9));
+			fail("Expected frozen add failure");
+		} catch (IllegalStateException e) {
+			// expected
+		}
+
+		try {
+			zoomGrids.removeGrid(grids.get(0));
+			fail("Expected frozen remove failure");
+		} catch (IllegalStateException e) {
+			// expected
+		}
+
+		try {
+			zoomGrids.getGridsView().clear();
+			fail("Expected unmodifiable view failure");
+		} catch (UnsupportedOperationException e) {
+			// expected
+		}
+
+		TreeSet<TestGrids.Grid> copy = zoomGrids.getGrids();
+		assertEquals(zoomGrids.getGridsView(), copy);
+		copy.clear();
+
+		Iterator<TestGrids.Grid> iterator = zoomGrids.iterator();
+		iterator.next();
+		try {
+			iterator.remove();
+			fail("Expected unmodifiable iterator failure");
+		} catch (UnsupportedOperationException e) {
+			// expected
+		}
+		assertEquals(3, zoomGrids.numGrids());
+
+		assertTrue(grids.getGrids(GridConstants.MAX_MAP_ZOOM_LEVEL + 1)
+				.isFrozen());
+
+		TestGrids.ZoomGrids unpublished = new TestGrids.ZoomGrids(5);
+		assertFalse(unpublished.isFrozen());
+		assertTrue(unpublished.addGrid(grids.get(1)));
+		assertTrue(unpublished.removeGrid(grids.get(1)));
+		assertFalse(unpublished.hasGrids());
+
+	}
+
+	/**
+	 * Test iterating published zoom grids while grids are enabled, disabled,
+	 * and zoom ranges change
+	 *
+	 * @throws InterruptedException
+	 *             upon interruption
+	 */
+	@Test
+	public void testConcurrentModification() throws InterruptedException {
+
+		final TestGrids grids = new TestGrids(8);
+		final Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+		final AtomicBoolean done = new AtomicBoolean();
+		final CountDownLatch start = new CountDownLatch(1);
+
+		Thread[] readers = new Thread[4];
+		for (int i = 0; i < readers.length; i++) {
+			readers[i] = new Thread(() -> {
+				try {
+					start.await();
+					while (!done.get()) {
+						for (int zoom = 0; zoom <= GridConstants.MAX_MAP_ZOOM_LEVEL; zoom++) {
+							TestGrids.ZoomGrids zoomGrids = grids
+									.getGrids(zoom);
+							int count = 0;
+							int previous = -1;
+							for (TestGrids.Grid grid : zoomGrids) {
+								assertTrue(grid.getNumber() > previous);
+								previous = grid.getNumber();
+								count++;
+							}
+							assertEquals(zoomGrids.numGrids(), count);
+						}
+					}
+				} catch (Throwable e) {
+					failures.add(e);
+				}
+			});
+			readers[i].start();
+		}
+
+		start.countDown();
+		try {
+			for (int i = 0; i < 2000; i++) {
+				TestGrids.Grid grid = grids.get(i % 8);
+				switch (i % 3) {
+				case 0:
+					grids.disable(grid);
+					break;
+				case 1:
+					grids.setZoomRange(grid, i % 7, 10 + i % 11);
+					break;
+				default:
+					grids.enable(grid);
+				}
+			}
+		} finally {
+			done.set(true);
+			for (Thread reader : readers) {
+				reader.join();
+			}
+		}
+
+		if (!failures.isEmpty()) {
+			throw new AssertionError("Concurrent read failure",
+					failures.peek());
+		}
+
+		for (int zoom = 0; zoom <= GridConstants.MAX_MAP_ZOOM_LEVEL; zoom++) {
+			int expected = 0;
+			for (TestGrids.Grid grid : grids.grids()) {
+				if (grid.isEnabled() && grid.isWithin(zoom)) {
+					expected++;
+				}
+			}
+			assertEquals(expected, grids.getGrids(zoom).numGrids());
+		}
+
+	}
+
+}
@@ -0,0 +1,122 @@
+package mil.nga.grid;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+
+import mil.nga.grid.features.Bounds;
+import mil.nga.grid.features.Point;
+import mil.nga.grid.features.Unit;
+
+/**
+ * Cell codec test
+ *
+ * @author osbornb
+ */
+public class CellCodecTest {
+
+	/**
+	 * Test encoding and decoding cells
+	 */
+	@Test
+	public void testCodec() {
+
+		CellCodec codec = CellCodec.codec(0.1);
+
+		Point point = Point.degrees(-112.500003, 21.943049);
+		long cell = codec.encode(point);
+		assertEquals(-1126, CellCodec.getLongitudeIndex(cell));
+		assertEquals(219, CellCodec.getLatitudeIndex(cell));
+
+		Bounds bounds = codec.decode(cell);
+		Bounds expected = Bounds.degrees(point.getLongitude(),
+				point.getLatitude(), point.getLongitude(),
+				point.getLatitude()).toPrecision(0.1);
+		assertEquals(expected.getMinLongitude(), bounds.getMinLongitude(),
+				1e-12);
+		assertEquals(expected.getMinLatitude(), bounds.getMinLatitude(),
+				1e-12);
+		assertEquals(expected.getMaxLongitude(), bounds.getMaxLongitude(),
+				1e-12);
+		assertEquals(expected.getMaxLatitude(), bounds.getMaxLatitude(),
+				1e-12);
+
+		assertEquals(cell, codec.encode(bounds));
+		assertEquals(cell, codec.encode(bounds.toMeters()));
+
+		assertNotEquals(cell, codec.encode(-112.500003, -21.943049));
+		assertEquals(CellCodec.pack(-1, -1), codec.encode(-0.05, -0.05));
+		assertEquals(CellCodec.pack(0, 0), codec.encode(0.05, 0.05));
+
+	}
+
+	/**
+	 * Test values with indices beyond 32 bits are rejected
+	 */
+	@Test
+	public void testIndexRange() {
+
+		CellCodec codec = CellCodec.codec(0.000001);
+		assertEquals(180000000, codec.index(180.0));
+
+		for (double value : new double[] { 1.0e4, -1.0e4,
+				Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY,
+				Double.NaN }) {
+			try {
+				codec.index(value);
+				fail("Expected index range failure: " + value);
+			} catch (IllegalArgumentException e) {
+				// expected
+			}
+		}
+
+		try {
+			codec.encode(-12523443.0, 2504688.0);
+			fail("Expected meters as degrees index range failure");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+
+	}
+
+	/**
+	 * Test parallel batch counts and sums
+	 */
+	@Test
+	public void testAggregate() {
+
+		CellCodec codec = CellCodec.codec(1.0);
+
+		int count = 100000;
+		double[] longitudes = new double[count];
+		double[] latitudes = new double[count];
+		double[] values = new double[count];
+		for (int i = 0; i < count; i++) {
+			longitudes[i] = -180.0 + (i % 360) + 0.5;
+			latitudes[i] = (i % 10) + 0.5;
+			values[i] = 2.0;
+		}
+
+		long[] cells = codec.encode(longitudes, latitudes, Unit.DEGREE, true);
+		for (int i = 0; i < count; i++) {
+			assertEquals(codec.encode(longitudes[i], latitudes[i]), cells[i]);
+		}
+
+		CellStatistics statistics = codec.aggregate(longitudes, latitudes,
+				values, Unit.DEGREE, true);
+		assertEquals(360, statistics.size());
+		assertEquals(count, statistics.getTotalCount());
+		long cell = codec.encode(-179.5, 0.5);
+		assertEquals(278, statistics.getCount(cell));
+		assertEquals(556.0, statistics.getSum(cell), 0.0);
+
+		CellStatistics counts = codec.count(longitudes, latitudes,
+				Unit.DEGREE, false);
+		assertEquals(statistics.size(), counts.size());
+		assertEquals(278, counts.getCount(cell));
+
+	}
+
+}
@@ -0,0 +1,148 @@
+package mil.nga.grid;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import mil.nga.grid.features.Bounds;
+import mil.nga.grid.features.Point;
+import mil.nga.grid.features.Unit;
+import mil.nga.grid.tile.GridTile;
+import mil.nga.grid.tile.TileTransform;
+import mil.nga.sf.util.GeometryConstants;
+
+/**
+ * Unit conversion engine test
+ *
+ * @author osbornb
+ */
+public class ConversionTest {
+
+	/**
+	 * Pixel size in meters of a 256 pixel tile at zoom level 21
+	 */
+	private static final double PIXEL_METERS = GridUtils
+			.tileSize(GridUtils.tilesPerSide(21)) / 256.0;
+
+	/**
+	 * Test the fast degrees to meters error bound over the full latitude range
+	 */
+	@Test
+	public void testFastToMeters() {
+
+		double maxError = 0.0;
+
+		int samples = 2000000;
+		double min = GeometryConstants.WEB_MERCATOR_MIN_LAT_RANGE;
+		double max = GeometryConstants.WEB_MERCATOR_MAX_LAT_RANGE;
+		for (int i = 0; i <= samples; i++) {
+			double latitude = min + (max - min) * i / samples;
+			double error = Math.abs(Conversion.FAST.latitudeToMeters(latitude)
+					- Conversion.STRICT.latitudeToMeters(latitude));
+			maxError = Math.max(maxError, error / PIXEL_METERS);
+		}
+
+		assertTrue("Max pixel error: " + maxError,
+				maxError < Conversion.FAST_MAX_ERROR_PIXELS);
+
+		assertEquals(Conversion.STRICT.latitudeToMeters(89.0),
+				Conversion.FAST.latitudeToMeters(89.0), 0.0);
+		assertEquals(Conversion.STRICT.longitudeToMeters(-112.5),
+				Conversion.FAST.longitudeToMeters(-112.5), 0.0);
+
+	}
+
+	/**
+	 * Test the fast meters to degrees error bound over the full latitude range
+	 */
+	@Test
+	public void testFastToDegrees() {
+
+		double maxError = 0.0;
+
+		int samples = 2000000;
+		double max = GeometryConstants.WEB_MERCATOR_HALF_WORLD_WIDTH;
+		for (int i = 0; i <= samples; i++) {
+			double latitude = -max + 2 * max * i / samples;
+			double strict = Conversion.STRICT.latitudeToDegrees(latitude);
+			double error = Math.abs(
+					Conversion.FAST.latitudeToDegrees(latitude) - strict);
+			// Degree error as meters at the latitude
+			double metersError = error
+					* GeometryConstants.WEB_MERCATOR_HALF_WORLD_WIDTH
+					/ GeometryConstants.WGS84_HALF_WORLD_LON_WIDTH
+					/ Math.cos(Math.toRadians(strict));
+			maxError = Math.max(maxError, metersError / PIXEL_METERS);
+		}
+
+		assertTrue("Max pixel error: " + maxError,
+				maxError < Conversion.FAST_MAX_ERROR_PIXELS);
+
+	}
+
+	/**
+	 * Test the conversion engine is scoped to the tile transform
+	 */
+	@Test
+	public void testTransformConversion() {
+
+		double longitude = -112.500003;
+		double latitude = 21.943049;
+
+		GridTile tile = GridTile.tile(256, 256, 3, 6, 4);
+		TileTransform strict = tile.getTransform();
+		assertEquals(Conversion.STRICT, strict.getConversion());
+		assertSame(strict, tile.getTransform(Conversion.STRICT));
+
+		TileTransform fast = tile.getTransform(Conversion.FAST);
+		assertEquals(Conversion.FAST, fast.getConversion());
+		assertSame(strict, tile.getTransform());
+		assertEquals(strict.getBoundsMeters(), fast.getBoundsMeters());
+
+		assertEquals(
+				strict.getYPixel(Conversion.FAST.latitudeToMeters(latitude)),
+				fast.getPixel(longitude, latitude, Unit.DEGREE).getY(), 0.0);
+		assertEquals(
+				strict.getYPixel(
+						Conversion.STRICT.latitudeToMeters(latitude)),
+				strict.getPixel(longitude, latitude, Unit.DEGREE).getY(),
+				0.0);
+		assertEquals(Conversion.FAST.latitudeToDegrees(fast.getLatitude(10)),
+				fast.getLatitude(10, Unit.DEGREE), 0.0);
+
+	}
+
+	/**
+	 * Test cached point and bounds conversions are kept per conversion engine
+	 */
+	@Test
+	public void testCachedConversion() {
+
+		double longitude = -112.500003;
+		double latitude = 21.943049;
+		Point point = Point.degrees(longitude, latitude);
+		Bounds bounds = Bounds.degrees(longitude, latitude, -112.0, 22.5);
+
+		double strict = Conversion.STRICT.latitudeToMeters(latitude);
+		double fast = Conversion.FAST.latitudeToMeters(latitude);
+		assertTrue(strict != fast);
+
+		assertEquals(strict, point.toMeters().getLatitude(), 0.0);
+		assertEquals(strict, bounds.toMeters().getMinLatitude(), 0.0);
+		assertEquals(strict,
+				GridUtils.toUnit(longitude, latitude, Unit.METER).getLatitude(),
+				0.0);
+
+		assertEquals(fast,
+				point.toUnit(Unit.METER, Conversion.FAST).getLatitude(), 0.0);
+		assertEquals(fast, bounds.toUnit(Unit.METER, Conversion.FAST)
+				.getMinLatitude(), 0.0);
+
+		assertEquals(strict, point.toMeters().getLatitude(), 0.0);
+		assertEquals(strict, bounds.toMeters().getMinLatitude(), 0.0);
+
+	}
+
+}
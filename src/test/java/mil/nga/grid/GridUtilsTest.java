@@ -0,0 +1,140 @@
+package mil.nga.grid;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+
+import mil.nga.grid.features.Bounds;
+import mil.nga.grid.features.Point;
+import mil.nga.grid.features.Unit;
+import mil.nga.grid.tile.Pixel;
+
+/**
+ * Grid utilities test
+ *
+ * @author osbornb
+ */
+public class GridUtilsTest {
+
+	/**
+	 * Test batch pixel projection against single point projection
+	 */
+	@Test
+	public void testPixels() {
+
+		Bounds bounds = GridUtils.getBounds(3, 5, 4);
+		Bounds degrees = bounds.toDegrees();
+
+		int count = 25;
+		double[] longitudes = new double[count];
+		double[] latitudes = new double[count];
+		for (int i = 0; i < count; i++) {
+			longitudes[i] = degrees.getMinLongitude() + (i % 5) * 5.0;
+			latitudes[i] = degrees.getMinLatitude() + (i / 5) * 3.0;
+		}
+
+		float[] pixels = new float[2 * count + 2];
+		pixels[2 * count] = -1.0f;
+		GridUtils.getPixels(256, 256, bounds, longitudes, latitudes,
+				Unit.DEGREE, pixels);
+		for (int i = 0; i < count; i++) {
+			Pixel pixel = GridUtils.getPixel(256, 256, bounds,
+					Point.degrees(longitudes[i], latitudes[i]));
+			assertEquals(pixel.getX(), pixels[2 * i], 0.0001);
+			assertEquals(pixel.getY(), pixels[2 * i + 1], 0.0001);
+		}
+		assertEquals(-1.0f, pixels[2 * count], 0.0f);
+
+		double[] meterLongitudes = new double[count];
+		double[] meterLatitudes = new double[count];
+		for (int i = 0; i < count; i++) {
+			meterLongitudes[i] = GridUtils.longitudeToMeters(longitudes[i]);
+			meterLatitudes[i] = GridUtils.latitudeToMeters(latitudes[i]);
+		}
+		float[] meterPixels = new float[2 * count];
+		GridUtils.getPixels(256, 256, bounds, meterLongitudes,
+				meterLatitudes, Unit.METER, meterPixels);
+		for (int i = 0; i < 2 * count; i++) {
+			assertEquals(pixels[i], meterPixels[i], 0.0001);
+		}
+
+		try {
+			GridUtils.getPixels(256, 256, bounds, longitudes, new double[1],
+					Unit.DEGREE, pixels);
+			fail("Expected mismatched coordinate counts to fail");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+		try {
+			GridUtils.getPixels(256, 256, bounds, longitudes, latitudes,
+					Unit.DEGREE, new float[count]);
+			fail("Expected a small pixels array to fail");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+
+	}
+
+	/**
+	 * Test primitive unit conversions against point conversions
+	 */
+	@Test
+	public void testConversions() {
+
+		Point meters = Point.degrees(-112.500003, 21.943049).toMeters();
+		assertEquals(meters.getLongitude(),
+				GridUtils.longitudeToMeters(-112.500003), 0.0);
+		assertEquals(meters.getLatitude(),
+				GridUtils.latitudeToMeters(21.943049), 0.0);
+		assertEquals(-112.500003,
+				GridUtils.longitudeToDegrees(meters.getLongitude()), 1e-9);
+		assertEquals(21.943049,
+				GridUtils.latitudeToDegrees(meters.getLatitude()), 1e-9);
+
+	}
+
+	/**
+	 * Test line intersections
+	 */
+	@Test
+	public void testIntersection() {
+
+		double[] intersection = new double[4];
+		assertTrue(GridUtils.intersection(0, 0, 10, 10, 0, 10, 10, 0,
+				intersection, 2));
+		assertEquals(5.0, intersection[2], 0.0);
+		assertEquals(5.0, intersection[3], 0.0);
+
+		assertTrue(GridUtils.intersection(0, 0, 1, 0, 5, 5, 5, 6,
+				intersection, 0));
+		assertEquals(5.0, intersection[0], 0.0);
+		assertEquals(0.0, intersection[1], 0.0);
+
+		assertFalse(GridUtils.intersection(0, 0, 10, 0, 0, 1, 10, 1,
+				intersection, 0));
+
+		Point point = GridUtils.intersection(Point.degrees(-10.0, 0.0),
+				Point.degrees(10.0, 0.0), Point.degrees(5.0, -10.0),
+				Point.degrees(5.0, 10.0));
+		assertEquals(Unit.DEGREE, point.getUnit());
+		assertEquals(5.0, point.getLongitude(), 1e-9);
+		assertEquals(0.0, point.getLatitude(), 1e-9);
+
+		Point meters = GridUtils.intersection(Point.meters(-10.0, 0.0),
+				Point.meters(10.0, 0.0), Point.degrees(5.0, -10.0),
+				Point.degrees(5.0, 10.0));
+		assertEquals(Unit.METER, meters.getUnit());
+		assertEquals(Point.degrees(5.0, 0.0).toMeters().getLongitude(),
+				meters.getLongitude(), 1e-6);
+
+		assertNull(GridUtils.intersection(Point.degrees(0.0, 0.0),
+				Point.degrees(10.0, 0.0), Point.degrees(0.0, 1.0),
+				Point.degrees(10.0, 1.0)));
+
+	}
+
+}
@@ -0,0 +1,162 @@
+package mil.nga.grid;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Properties;
+
+import org.junit.Test;
+
+/**
+ * Grid Visibility test
+ *
+ * @author osbornb
+ */
+public class GridVisibilityTest {
+
+	/**
+	 * Test the incrementally updated visibility matches a visibility built
+	 * after enable, disable, and zoom range changes
+	 */
+	@Test
+	public void testUpdates() {
+
+		Properties properties = new Properties();
+		properties.setProperty("grids.grid1.lines.min_zoom", "4");
+		properties.setProperty("grids.grid2.labeler.enabled", "true");
+		properties.setProperty("grids.grid2.labeler.max_zoom", "12");
+		TestGrids grids = new TestGrids(4, properties);
+		TestGrids.Grid grid = grids.get(1);
+		int ordinal = grids.getVisibility().getOrdinal(grid);
+		assertEquals(1, ordinal);
+		assertVisibility(grids);
+
+		grids.disable(grid);
+		assertVisibility(grids);
+		assertNotVisible(grids, ordinal);
+
+		grids.setZoomRange(grid, 3, 8);
+		assertVisibility(grids);
+		assertNotVisible(grids, ordinal);
+
+		grids.setMinZoom(grid, 5);
+		grids.setMaxZoom(grid, 15);
+		assertVisibility(grids);
+		assertNotVisible(grids, ordinal);
+
+		grids.enable(grid);
+		assertVisibility(grids);
+		GridVisibility visibility = grids.getVisibility();
+		for (int zoom = 0; zoom <= GridConstants.MAX_MAP_ZOOM_LEVEL; zoom++) {
+			boolean within = zoom >= 5 && zoom <= 15;
+			assertEquals(within, visibility.isEnabled(ordinal, zoom));
+			assertEquals(within && zoom >= 4,
+					visibility.isLines(ordinal, zoom));
+		}
+
+		grids.setZoomRange(grid, 10, 20);
+		assertVisibility(grids);
+
+		grids.setZoomRange(grid, 0, 2);
+		assertVisibility(grids);
+
+		grids.setMaxZoom(grid, null);
+		assertVisibility(grids);
+
+		grids.disable(grid);
+		assertVisibility(grids);
+		assertNotVisible(grids, ordinal);
+
+		grids.setZoomRange(grids.get(2), 6, 14);
+		assertVisibility(grids);
+		visibility = grids.getVisibility();
+		assertTrue(visibility.isLabeler(2, 12));
+		assertFalse(visibility.isLabeler(2, 13));
+		assertFalse(visibility.isLabeler(2, 5));
+
+		grids.enableAllLabelers();
+		assertVisibility(grids);
+
+	}
+
+	/**
+	 * Test grids beyond the visibility index limit still answer zoom level
+	 * queries from the zoom grids
+	 */
+	@Test
+	public void testNotIndexed() {
+
+		TestGrids grids = new TestGrids(GridVisibility.MAX_GRIDS + 1);
+		for (TestGrids.Grid grid : grids.grids()) {
+			if (grid.getNumber() > 0) {
+				grids.setZoomRange(grid, 10, 12);
+			}
+		}
+		TestGrids.Grid grid = grids.get(0);
+		grids.setZoomRange(grid, 4, 6);
+
+		for (int zoom = 0; zoom <= GridConstants.MAX_MAP_ZOOM_LEVEL; zoom++) {
+			assertEquals((zoom >= 4 && zoom <= 6) || (zoom >= 10 && zoom <= 12),
+					grids.hasGrids(zoom));
+		}
+
+		grids.disable(grid);
+		assertFalse(grids.hasGrids(5));
+		assertTrue(grids.hasGrids(11));
+
+		try {
+			grids.getVisibility();
+			fail("Expected too many grids failure");
+		} catch (IllegalStateException e) {
+			// expected
+		}
+
+	}
+
+	/**
+	 * Assert the published visibility and zoom grids match those built from
+	 * the current grid states
+	 *
+	 * @param grids
+	 *            grids
+	 */
+	private static void assertVisibility(TestGrids grids) {
+		GridVisibility visibility = grids.getVisibility();
+		GridVisibility built = GridVisibility.build(grids.grids());
+		for (int zoom = 0; zoom <= GridConstants.MAX_MAP_ZOOM_LEVEL; zoom++) {
+			assertEquals(built.getEnabled(zoom), visibility.getEnabled(zoom));
+			assertEquals(built.getLines(zoom), visibility.getLines(zoom));
+			assertEquals(built.getLabelers(zoom),
+					visibility.getLabelers(zoom));
+			TestGrids.ZoomGrids zoomGrids = grids.getGrids(zoom);
+			assertEquals(Long.bitCount(built.getEnabled(zoom)),
+					zoomGrids.numGrids());
+			for (TestGrids.Grid grid : zoomGrids) {
+				assertTrue(built.isEnabled(built.getOrdinal(grid), zoom));
+			}
+			assertEquals(zoomGrids.hasGrids(), grids.hasGrids(zoom));
+		}
+	}
+
+	/**
+	 * Assert the grid is not visible at any zoom level
+	 *
+	 * @param grids
+	 *            grids
+	 * @param ordinal
+	 *            grid ordinal
+	 */
+	private static void assertNotVisible(TestGrids grids, int ordinal) {
+		GridVisibility visibility = grids.getVisibility();
+		for (int zoom = 0; zoom <= GridConstants.MAX_MAP_ZOOM_LEVEL; zoom++) {
+			assertFalse(visibility.isEnabled(ordinal, zoom));
+			assertFalse(visibility.isLines(ordinal, zoom));
+			assertFalse(visibility.isLabeler(ordinal, zoom));
+			assertFalse(grids.getGrids(zoom).getGridsView()
+					.contains(grids.get(ordinal)));
+		}
+	}
+
+}
@@ -0,0 +1,339 @@
+package mil.nga.grid;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.Test;
+
+import mil.nga.color.Color;
+
+/**
+ * Grids Listener test
+ *
+ * @author osbornb
+ */
+public class GridsListenerTest {
+
+	/**
+	 * Test the change interval of a raised minimum zoom
+	 */
+	@Test
+	public void testZoomRangeInterval() {
+
+		Properties properties = new Properties();
+		properties.setProperty("grids.grid0.max_zoom", "10");
+		TestGrids grids = new TestGrids(1, properties);
+		List<List<GridChangeEvent<TestGrids.Grid>>> notifications = listen(
+				grids);
+
+		grids.setZoomRange(grids.get(0), 3, 10);
+
+		GridChangeEvent<TestGrids.Grid> event = event(notifications);
+		assertEquals(0, event.getMinZoom());
+		assertEquals(Integer.valueOf(2), event.getMaxZoom());
+		assertTrue(event.isLines());
+		assertFalse(event.hasType(GridChangeType.STYLE));
+		assertEquals(grids.getVersion(), event.getVersion());
+
+		notifications.clear();
+		grids.setZoomRange(grids.get(0), 3, 12);
+		event = event(notifications);
+		assertEquals(11, event.getMinZoom());
+		assertEquals(Integer.valueOf(12), event.getMaxZoom());
+
+		notifications.clear();
+		grids.setZoomRange(grids.get(0), 3, 12);
+		assertTrue(notifications.isEmpty());
+
+	}
+
+	/**
+	 * Test the change interval of enabling and disabling a grid
+	 */
+	@Test
+	public void testEnableInterval() {
+
+		Properties properties = new Properties();
+		properties.setProperty("grids.grid0.min_zoom", "2");
+		properties.setProperty("grids.grid0.max_zoom", "12");
+		TestGrids grids = new TestGrids(2, properties);
+		List<List<GridChangeEvent<TestGrids.Grid>>> notifications = listen(
+				grids);
+
+		grids.disable(grids.get(0));
+		GridChangeEvent<TestGrids.Grid> event = event(notifications);
+		assertSame(grids.get(0), event.getGrid());
+		assertEquals(2, event.getMinZoom());
+		assertEquals(Integer.valueOf(12), event.getMaxZoom());
+		assertTrue(event.isLines());
+
+		notifications.clear();
+		grids.disable(grids.get(0));
+		assertTrue(notifications.isEmpty());
+
+		grids.enable(grids.get(0));
+		event = event(notifications);
+		assertEquals(2, event.getMinZoom());
+		assertEquals(Integer.valueOf(12), event.getMaxZoom());
+
+		notifications.clear();
+		grids.disable(grids.get(1));
+		event = event(notifications);
+		assertEquals(0, event.getMinZoom());
+		assertNull(event.getMaxZoom());
+
+	}
+
+	/**
+	 * Test style changes are published with style change events
+	 */
+	@Test
+	public void testStyle() {
+
+		Properties properties = new Properties();
+		properties.setProperty("grids.grid1.min_zoom", "4");
+		TestGrids grids = new TestGrids(2, properties);
+		TestGrids.Grid grid = grids.get(1);
+		List<List<GridChangeEvent<TestGrids.Grid>>> notifications = listen(
+				grids);
+
+		long version = grids.getVersion();
+		Color red = Color.red();
+		grids.setColor(grid, red);
+		assertEquals(version + 1, grids.getVersion());
+		GridChangeEvent<TestGrids.Grid> event = event(notifications);
+		assertSame(grid, event.getGrid());
+		assertEquals(Collections.singleton(GridChangeType.STYLE),
+				event.getTypes());
+		assertEquals(4, event.getMinZoom());
+		assertNull(event.getMaxZoom());
+		assertEquals(version + 1, event.getVersion());
+
+		RenderPlan<TestGrids.Grid> plan = grids.getRenderPlan(5);
+		assertEquals(red.getColorWithAlpha(), plan.getStyle(1).getColor());
+
+		red.setBlue(255);
+		assertEquals(0xFFFF0000, grid.getColor().getColorWithAlpha());
+
+		notifications.clear();
+		grids.setColor(grid, Color.red());
+		grids.setWidth(grid, TestGrids.DEFAULT_WIDTH);
+		grids.setStyle(grid, Color.red(), TestGrids.DEFAULT_WIDTH);
+		assertTrue(notifications.isEmpty());
+		assertEquals(version + 1, grids.getVersion());
+
+		grids.setWidth(grid, 4.0);
+		event = event(notifications);
+		assertTrue(event.hasType(GridChangeType.STYLE));
+		assertEquals(4.0f, grids.getRenderPlan(5).getStyle(1).getWidth(),
+				0.0f);
+
+		notifications.clear();
+		grids.transaction().setColor(grid, Color.blue()).setWidth(grid, 1.0)
+				.commit();
+		event = event(notifications);
+		assertTrue(event.hasType(GridChangeType.STYLE));
+		assertEquals(Color.blue().getColorWithAlpha(),
+				grids.getRenderPlan(5).getStyle(1).getColor());
+
+		notifications.clear();
+		grids.disable(grid);
+		grids.setColor(grid, Color.green());
+		assertEquals(1, notifications.size());
+
+	}
+
+	/**
+	 * Test events are delivered in version order across threads
+	 *
+	 * @throws InterruptedException
+	 *             upon interruption
+	 */
+	@Test
+	public void testOrder() throws InterruptedException {
+
+		final TestGrids grids = new TestGrids(4);
+		final List<Long> versions = Collections
+				.synchronizedList(new ArrayList<>());
+		grids.addListener(events -> versions.add(events.get(0).getVersion()));
+
+		final int changes = 500;
+		Thread[] writers = new Thread[4];
+		for (int i = 0; i < writers.length; i++) {
+			final TestGrids.Grid grid = grids.get(i);
+			writers[i] = new Thread(() -> {
+				for (int change = 1; change <= changes; change++) {
+					grids.setWidth(grid, change);
+				}
+			});
+		}
+		for (Thread writer : writers) {
+			writer.start();
+		}
+		for (Thread writer : writers) {
+			writer.join();
+		}
+
+		assertEquals(writers.length * changes, versions.size());
+		for (int i = 1; i < versions.size(); i++) {
+			assertEquals(versions.get(i - 1) + 1, (long) versions.get(i));
+		}
+		assertEquals(grids.getVersion(),
+				(long) versions.get(versions.size() - 1));
+
+	}
+
+	/**
+	 * Test changes made by a listener are delivered after the current version
+	 */
+	@Test
+	public void testReentrant() {
+
+		final TestGrids grids = new TestGrids(2);
+		grids.addListener(events -> {
+			if (events.get(0).getGrid() == grids.get(0)) {
+				grids.disable(grids.get(1));
+			}
+		});
+		final List<Long> versions = new ArrayList<>();
+		grids.addListener(events -> versions.add(events.get(0).getVersion()));
+
+		long version = grids.getVersion();
+		grids.disable(grids.get(0));
+
+		assertEquals(2, versions.size());
+		assertEquals(version + 1, (long) versions.get(0));
+		assertEquals(version + 2, (long) versions.get(1));
+		assertFalse(grids.get(1).isEnabled());
+
+	}
+
+	/**
+	 * Test a listener exception is rethrown after every listener is notified
+	 * of every pending version
+	 */
+	@Test
+	public void testListenerFailure() {
+
+		final TestGrids grids = new TestGrids(3);
+		grids.addListener(events -> {
+			throw new IllegalStateException("First listener failure");
+		});
+		grids.addListener(events -> {
+			if (events.get(0).getGrid() == grids.get(0)) {
+				grids.disable(grids.get(1));
+				throw new IllegalArgumentException("Second listener failure");
+			}
+		});
+		final List<Long> versions = new ArrayList<>();
+		grids.addListener(events -> versions.add(events.get(0).getVersion()));
+
+		long version = grids.getVersion();
+		try {
+			grids.disable(grids.get(0));
+			fail("Expected listener failure");
+		} catch (IllegalStateException e) {
+			assertEquals(2, e.getSuppressed().length);
+		}
+
+		assertEquals(version + 2, grids.getVersion());
+		assertEquals(2, versions.size());
+		assertEquals(version + 1, (long) versions.get(0));
+		assertEquals(version + 2, (long) versions.get(1));
+
+		try {
+			grids.transaction().enable(grids.get(0)).commit();
+			fail("Expected listener failure");
+		} catch (IllegalStateException e) {
+			assertEquals(1, e.getSuppressed().length);
+		}
+		assertEquals(3, versions.size());
+		assertEquals(version + 3, (long) versions.get(2));
+
+	}
+
+	/**
+	 * Test a change made while another thread is delivering returns without
+	 * waiting, leaving its events to the delivering thread
+	 *
+	 * @throws InterruptedException
+	 *             upon interruption
+	 */
+	@Test(timeout = 10000)
+	public void testDeliveringThread() throws InterruptedException {
+
+		final TestGrids grids = new TestGrids(2);
+		final CountDownLatch delivering = new CountDownLatch(1);
+		final CountDownLatch release = new CountDownLatch(1);
+		final List<Long> versions = Collections
+				.synchronizedList(new ArrayList<>());
+		grids.addListener(events -> {
+			versions.add(events.get(0).getVersion());
+			if (events.get(0).getGrid() == grids.get(0)) {
+				delivering.countDown();
+				try {
+					release.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+		});
+
+		long version = grids.getVersion();
+		Thread writer = new Thread(() -> grids.disable(grids.get(0)));
+		writer.start();
+		delivering.await();
+
+		grids.disable(grids.get(1));
+		assertEquals(version + 2, grids.getVersion());
+		assertEquals(1, versions.size());
+
+		release.countDown();
+		writer.join();
+		assertEquals(2, versions.size());
+		assertEquals(version + 1, (long) versions.get(0));
+		assertEquals(version + 2, (long) versions.get(1));
+
+	}
+
+	/**
+	 * Listen to the grids
+	 *
+	 * @param grids
+	 *            grids
+	 * @return notifications
+	 */
+	private static List<List<GridChangeEvent<TestGrids.Grid>>> listen(
+			TestGrids grids) {
+		List<List<GridChangeEvent<TestGrids.Grid>>> notifications = new ArrayList<>();
+		grids.addListener(notifications::add);
+		return notifications;
+	}
+
+	/**
+	 * Get the single event of a single notification
+	 *
+	 * @param notifications
+	 *            notifications
+	 * @return event
+	 */
+	private static GridChangeEvent<TestGrids.Grid> event(
+			List<List<GridChangeEvent<TestGrids.Grid>>> notifications) {
+		assertEquals(1, notifications.size());
+		List<GridChangeEvent<TestGrids.Grid>> events = notifications
+				.get(notifications.size() - 1);
+		assertEquals(1, events.size());
+		return events.get(0);
+	}
+
+}
@@ -0,0 +1,155 @@
+package mil.nga.grid;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+
+import mil.nga.grid.features.Bounds;
+
+/**
+ * Lattice test
+ *
+ * @author osbornb
+ */
+public class LatticeTest {
+
+	/**
+	 * Test the index math over negative values
+	 */
+	@Test
+	public void testNegative() {
+
+		Lattice lattice = Lattice.lattice(-1.25, 0.75, 0.5);
+		assertEquals(-3, lattice.getMinIndex());
+		assertEquals(2, lattice.getMaxIndex());
+		assertEquals(6, lattice.size());
+		assertArrayEquals(new double[] { -1.5, -1.0, -0.5, 0.0, 0.5, 1.0 },
+				lattice.toArray(), 0.0);
+
+		lattice = Lattice.lattice(-0.25, -0.1, 0.5);
+		assertEquals(-1, lattice.getMinIndex());
+		assertEquals(0, lattice.getMaxIndex());
+		assertEquals(-0.5, lattice.getMin(), 0.0);
+		assertEquals(0.0, lattice.getMax(), 0.0);
+
+		lattice = Lattice.lattice(-10.0, -5.0, 5.0);
+		assertEquals(-2, lattice.getMinIndex());
+		assertEquals(0, lattice.getMaxIndex());
+
+	}
+
+	/**
+	 * Test the index math at fractional precisions
+	 */
+	@Test
+	public void testFractional() {
+
+		double precision = 0.1;
+		Lattice lattice = Lattice.lattice(-0.35, 0.35, precision);
+		assertEquals(-4, lattice.getMinIndex());
+		assertEquals(4, lattice.getMaxIndex());
+		double[] values = lattice.toArray();
+		assertEquals(9, values.length);
+		for (int i = 0; i < values.length; i++) {
+			long index = lattice.getMinIndex() + i;
+			assertEquals(index * precision, values[i], 0.0);
+			assertEquals(index / 10.0, values[i], 1e-15);
+			assertEquals(values[i], lattice.get(i), 0.0);
+		}
+
+		precision = 1.0 / 60.0;
+		lattice = Lattice.longitudes(Bounds.degrees(-1.0, 0.0, 1.0, 1.0),
+				precision);
+		assertTrue(lattice.getMin() <= -1.0 + 1e-12);
+		assertTrue(lattice.getMin() > -1.0 - precision - 1e-12);
+		assertTrue(lattice.getMax() >= 1.0 - 1e-12);
+		assertTrue(lattice.getMax() < 1.0 + precision + 1e-12);
+		assertEquals(lattice.getMaxIndex() - lattice.getMinIndex() + 1,
+				lattice.size());
+		double[] streamed = lattice.stream().toArray();
+		assertArrayEquals(lattice.toArray(), streamed, 0.0);
+
+		try {
+			Lattice.lattice(0.0, 1.0, -0.1);
+			fail("Expected negative precision failure");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+
+		for (double invalid : new double[] { 0.0, -0.1, Double.NaN,
+				Double.POSITIVE_INFINITY }) {
+			try {
+				Lattice.lattice(0.0, 1.0, invalid);
+				fail("Expected invalid precision failure: " + invalid);
+			} catch (IllegalArgumentException e) {
+				// expected
+			}
+			try {
+				Lattice.lattice(invalid, 0, 10);
+				fail("Expected invalid index precision failure: " + invalid);
+			} catch (IllegalArgumentException e) {
+				// expected
+			}
+		}
+
+	}
+
+	/**
+	 * Test filling arrays at offsets
+	 */
+	@Test
+	public void testFill() {
+
+		Lattice lattice = Lattice.lattice(0.5, -2, 2);
+
+		double[] values = new double[4];
+		assertEquals(3, lattice.fill(values, 1));
+		assertArrayEquals(new double[] { 0.0, -1.0, -0.5, 0.0 }, values,
+				0.0);
+		assertEquals(0, lattice.fill(values, values.length));
+
+		try {
+			lattice.fill(values, values.length + 1);
+			fail("Expected offset past the array failure");
+		} catch (IndexOutOfBoundsException e) {
+			// expected
+		}
+
+		try {
+			lattice.fill(values, -1);
+			fail("Expected negative offset failure");
+		} catch (IndexOutOfBoundsException e) {
+			// expected
+		}
+
+	}
+
+	/**
+	 * Test splitting into contiguous parts
+	 */
+	@Test
+	public void testSplit() {
+
+		Lattice lattice = Lattice.lattice(0.25, -5, 5);
+		Lattice[] parts = lattice.split(3);
+		assertEquals(3, parts.length);
+		assertEquals(-5, parts[0].getMinIndex());
+		assertEquals(5, parts[2].getMaxIndex());
+		long size = 0;
+		for (int i = 0; i < parts.length; i++) {
+			size += parts[i].size();
+			if (i > 0) {
+				assertEquals(parts[i - 1].getMaxIndex() + 1,
+						parts[i].getMinIndex());
+			}
+		}
+		assertEquals(lattice.size(), size);
+
+		assertEquals(11, lattice.split(20).length);
+
+	}
+
+}
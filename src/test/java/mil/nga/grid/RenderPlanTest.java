@@ -0,0 +1,185 @@
+package mil.nga.grid;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Properties;
+
+import org.junit.Test;
+
+/**
+ * Render Plan test
+ *
+ * @author osbornb
+ */
+public class RenderPlanTest {
+
+	/**
+	 * Create test grids with styles, lines, and labelers
+	 *
+	 * @return grids
+	 */
+	private static TestGrids createGrids() {
+		Properties properties = new Properties();
+		properties.setProperty("grids.grid0.color", "#FF0000");
+		properties.setProperty("grids.grid0.width", "3.0");
+		properties.setProperty("grids.grid1.color", "#FF0000");
+		properties.setProperty("grids.grid1.width", "3.0");
+		properties.setProperty("grids.grid1.lines.min_zoom", "5");
+		properties.setProperty("grids.grid1.lines.max_zoom", "10");
+		properties.setProperty("grids.grid2.labeler.enabled", "true");
+		properties.setProperty("grids.grid2.labeler.min_zoom", "4");
+		properties.setProperty("grids.grid2.labeler.buffer", "0.25");
+		return new TestGrids(3, properties);
+	}
+
+	/**
+	 * Test compiled styles, lines, labelers, and buffers
+	 */
+	@Test
+	public void testCompile() {
+
+		TestGrids grids = createGrids();
+
+		RenderPlan<TestGrids.Grid> plan = grids.getRenderPlan(3);
+		assertEquals(3, plan.getZoom());
+		assertEquals(3, plan.size());
+		assertTrue(plan.hasGrids());
+		for (int i = 0; i < plan.size(); i++) {
+			assertSame(grids.get(i), plan.getGrid(i));
+		}
+
+		assertSame(plan.getStyle(0), plan.getStyle(1));
+		assertEquals(0xFFFF0000, plan.getStyle(0).getColor());
+		assertEquals(3.0f, plan.getStyle(0).getWidth(), 0.0f);
+		assertEquals(0xFF000000, plan.getStyle(2).getColor());
+		assertEquals((float) TestGrids.DEFAULT_WIDTH,
+				plan.getStyle(2).getWidth(), 0.0f);
+
+		assertTrue(plan.isLines(0));
+		assertFalse(plan.isLines(1));
+		assertTrue(plan.isLines(2));
+
+		assertFalse(plan.isLabeler(0));
+		assertFalse(plan.isLabeler(2));
+		assertEquals(0.1, plan.getLabelBuffer(0), 0.0);
+		assertEquals(0.25, plan.getLabelBuffer(2), 0.0);
+
+		plan = grids.getRenderPlan(5);
+		assertTrue(plan.isLines(1));
+		assertTrue(plan.isLabeler(2));
+		assertFalse(plan.isLabeler(1));
+
+		plan = grids.getRenderPlan(11);
+		assertFalse(plan.isLines(1));
+		assertTrue(plan.isLabeler(2));
+
+	}
+
+	/**
+	 * Test plans are carried over for zoom levels unaffected by a version
+	 */
+	@Test
+	public void testReuse() {
+
+		TestGrids grids = createGrids();
+		int maxZoom = GridConstants.MAX_MAP_ZOOM_LEVEL;
+
+		RenderPlan<?>[] plans = plans(grids);
+		for (int zoom = 0; zoom <= maxZoom; zoom++) {
+			assertSame(plans[zoom], grids.getRenderPlan(zoom));
+		}
+
+		grids.setZoomRange(grids.get(1), 0, 10);
+		RenderPlan<?>[] updated = plans(grids);
+		for (int zoom = 0; zoom <= maxZoom; zoom++) {
+			if (zoom <= 10) {
+				assertSame(plans[zoom], updated[zoom]);
+			} else {
+				assertNotSame(plans[zoom], updated[zoom]);
+				assertEquals(2, updated[zoom].size());
+			}
+		}
+
+		plans = updated;
+		grids.disable(grids.get(0));
+		updated = plans(grids);
+		for (int zoom = 0; zoom <= maxZoom; zoom++) {
+			assertNotSame(plans[zoom], updated[zoom]);
+		}
+
+		plans = updated;
+		grids.enable(grids.get(0));
+		grids.disable(grids.get(0));
+		updated = plans(grids);
+		for (int zoom = 0; zoom <= maxZoom; zoom++) {
+			assertNotSame(plans[zoom], updated[zoom]);
+			assertEquals(plans[zoom].size(), updated[zoom].size());
+		}
+
+		plans = updated;
+		grids.setAllLabelBuffers(0.3);
+		updated = plans(grids);
+		for (int zoom = 0; zoom <= maxZoom; zoom++) {
+			assertNotSame(plans[zoom], updated[zoom]);
+			for (int i = 0; i < updated[zoom].size(); i++) {
+				assertEquals(0.3, updated[zoom].getLabelBuffer(i), 0.0);
+			}
+		}
+
+		plans = updated;
+		grids.enableAllLabelers();
+		updated = plans(grids);
+		for (int zoom = 0; zoom <= maxZoom; zoom++) {
+			assertNotSame(plans[zoom], updated[zoom]);
+			for (int i = 0; i < updated[zoom].size(); i++) {
+				assertEquals(updated[zoom].getGrid(i).getLabeler()
+						.isWithin(zoom), updated[zoom].isLabeler(i));
+			}
+		}
+
+	}
+
+	/**
+	 * Test plans outside of the map zoom levels
+	 */
+	@Test
+	public void testZoomLevels() {
+
+		TestGrids grids = createGrids();
+
+		int zoom = GridConstants.MAX_MAP_ZOOM_LEVEL + 1;
+		RenderPlan<TestGrids.Grid> plan = grids.getRenderPlan(zoom);
+		assertEquals(zoom, plan.getZoom());
+		assertEquals(3, plan.size());
+		assertNotSame(plan, grids.getRenderPlan(zoom));
+
+		grids.setMaxZoom(grids.get(0), GridConstants.MAX_MAP_ZOOM_LEVEL);
+		assertEquals(2, grids.getRenderPlan(zoom).size());
+
+		plan = grids.getRenderPlan(-1);
+		assertEquals(-1, plan.getZoom());
+		assertFalse(plan.hasGrids());
+
+	}
+
+	/**
+	 * Get the render plans of the map zoom levels
+	 *
+	 * @param grids
+	 *            grids
+	 * @return render plans
+	 */
+	private static RenderPlan<?>[] plans(TestGrids grids) {
+		RenderPlan<?>[] plans = new RenderPlan<?>[GridConstants.MAX_MAP_ZOOM_LEVEL
+				+ 1];
+		for (int zoom = 0; zoom < plans.length; zoom++) {
+			plans[zoom] = grids.getRenderPlan(zoom);
+		}
+		return plans;
+	}
+
+}
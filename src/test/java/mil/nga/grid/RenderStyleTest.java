@@ -0,0 +1,120 @@
+package mil.nga.grid;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import mil.nga.color.Color;
+
+/**
+ * Render Style test
+ *
+ * @author osbornb
+ */
+public class RenderStyleTest {
+
+	/**
+	 * Test equal color and width pairs return the same instance
+	 */
+	@Test
+	public void testInterned() {
+
+		RenderStyle style = RenderStyle.style(0x80FF8000, 2.5f);
+		assertSame(style, RenderStyle.style(0x80FF8000, 2.5f));
+		assertSame(style,
+				RenderStyle.style(Color.color(255, 128, 0, 128), 2.5));
+		assertSame(style, RenderStyle
+				.style(GridStyle.style(Color.color(255, 128, 0, 128), 2.5)));
+		assertSame(style, style.toGridStyle().getRenderStyle());
+
+		assertEquals(Color.black().getColorWithAlpha(), RenderStyle.BLACK);
+		assertSame(RenderStyle.style(RenderStyle.BLACK, 1.0f),
+				RenderStyle.style((Color) null, 1.0));
+		assertSame(RenderStyle.style(0xFF000000, 0.0f),
+				RenderStyle.style(0xFF000000, -0.0f));
+
+		RenderStyle other = RenderStyle.style(0x80FF8000, 3.0f);
+		assertNotEquals(style, other);
+		assertFalse(style == RenderStyle.style(0x81FF8000, 2.5f));
+
+		assertTrue(RenderStyle.numStyles() <= RenderStyle.MAX_STYLES);
+
+	}
+
+	/**
+	 * Test packed ARGB colors round trip
+	 */
+	@Test
+	public void testColor() {
+
+		int[] colors = new int[] { 0x00000000, 0xFFFFFFFF, 0x80FF8000,
+				0x01020304, 0xFF00FF00, 0x7F123456 };
+		for (int argb : colors) {
+			RenderStyle style = RenderStyle.style(argb, 1.5f);
+			assertEquals(argb, style.getColor());
+			assertEquals(argb >>> 24, style.getAlpha());
+			Color color = style.toColor();
+			assertEquals(argb, color.getColorWithAlpha());
+			assertEquals(argb >>> 24, color.getAlpha());
+			assertEquals((argb >> 16) & 0xFF, color.getRed());
+			assertEquals((argb >> 8) & 0xFF, color.getGreen());
+			assertEquals(argb & 0xFF, color.getBlue());
+			assertEquals(style, RenderStyle.style(color, 1.5));
+			GridStyle gridStyle = style.toGridStyle();
+			assertEquals(argb, gridStyle.getColor().getColorWithAlpha());
+			assertEquals(1.5, gridStyle.getWidth(), 0.0);
+		}
+
+	}
+
+	/**
+	 * Test the grid style render style follows color and width changes
+	 */
+	@Test
+	public void testGridStyle() {
+
+		Color color = Color.color(10, 20, 30, 255);
+		GridStyle gridStyle = GridStyle.style(color, 2.0);
+		RenderStyle style = gridStyle.getRenderStyle();
+		assertSame(style, gridStyle.getRenderStyle());
+		assertEquals(0xFF0A141E, style.getColor());
+
+		color.setBlue(40);
+		RenderStyle changed = gridStyle.getRenderStyle();
+		assertEquals(0xFF0A1428, changed.getColor());
+
+		gridStyle.setWidth(3.0);
+		assertEquals(3.0f, gridStyle.getRenderStyle().getWidth(), 0.0f);
+
+		gridStyle.setColor(null);
+		RenderStyle black = gridStyle.getRenderStyle();
+		assertEquals(RenderStyle.BLACK, black.getColor());
+		assertSame(black, gridStyle.getRenderStyle());
+
+		gridStyle.setColor(Color.color(10, 20, 30, 255));
+		gridStyle.setWidth(2.0);
+		assertSame(style, gridStyle.getRenderStyle());
+
+	}
+
+	/**
+	 * Test value equality and hash codes
+	 */
+	@Test
+	public void testEquals() {
+
+		RenderStyle style = RenderStyle.style(0xFF112233, 4.0f);
+		RenderStyle same = RenderStyle.style(0xFF112233, 4.0f);
+		assertEquals(style, same);
+		assertEquals(style.hashCode(), same.hashCode());
+		assertNotEquals(style, RenderStyle.style(0xFF112233, 4.5f));
+		assertNotEquals(style, RenderStyle.style(0xFF112234, 4.0f));
+		assertNotEquals(style, null);
+
+	}
+
+}
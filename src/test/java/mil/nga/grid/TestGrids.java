@@ -0,0 +1,196 @@
+package mil.nga.grid;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+
+import mil.nga.color.Color;
+import mil.nga.grid.property.GridProperties;
+
+/**
+ * Test grids of numbered grids with labelers, loaded from in memory
+ * properties with grid keys "grid0", "grid1", ...
+ *
+ * @author osbornb
+ */
+class TestGrids extends BaseGrids<TestGrids.Grid, TestGrids.ZoomGrids> {
+
+	/**
+	 * Default grid line width
+	 */
+	static final double DEFAULT_WIDTH = 2.0;
+
+	/**
+	 * Grids
+	 */
+	private final List<Grid> grids = new ArrayList<>();
+
+	/**
+	 * Constructor
+	 *
+	 * @param count
+	 *            number of grids
+	 */
+	TestGrids(int count) {
+		this(count, new Properties());
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param count
+	 *            number of grids
+	 * @param properties
+	 *            grid properties
+	 */
+	TestGrids(int count, Properties properties) {
+		super(new TestProperties(properties));
+		for (int i = 0; i < count; i++) {
+			Grid grid = new Grid(i);
+			loadGrid(grid, "grid" + i, null, new TestLabeler());
+			grids.add(grid);
+		}
+		createZoomGrids();
+	}
+
+	/**
+	 * Get the grid
+	 *
+	 * @param index
+	 *            grid index
+	 * @return grid
+	 */
+	Grid get(int index) {
+		return grids.get(index);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public double getDefaultWidth() {
+		return DEFAULT_WIDTH;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Collection<Grid> grids() {
+		return Collections.unmodifiableList(grids);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected ZoomGrids newZoomGrids(int zoom) {
+		return new ZoomGrids(zoom);
+	}
+
+	/**
+	 * Numbered test grid
+	 */
+	static class Grid extends BaseGrid implements Comparable<Grid> {
+
+		/**
+		 * Grid number
+		 */
+		private final int number;
+
+		/**
+		 * Constructor
+		 *
+		 * @param number
+		 *            grid number
+		 */
+		Grid(int number) {
+			this.number = number;
+		}
+
+		/**
+		 * Get the grid number
+		 *
+		 * @return grid number
+		 */
+		int getNumber() {
+			return number;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public int compareTo(Grid other) {
+			return Integer.compare(number, other.number);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public String toString() {
+			return "grid" + number;
+		}
+
+	}
+
+	/**
+	 * Test zoom grids
+	 */
+	static class ZoomGrids extends BaseZoomGrids<Grid> {
+
+		/**
+		 * Constructor
+		 *
+		 * @param zoom
+		 *            zoom level
+		 */
+		ZoomGrids(int zoom) {
+			super(zoom);
+		}
+
+	}
+
+	/**
+	 * Test labeler, disabled unless enabled by properties
+	 */
+	static class TestLabeler extends Labeler {
+
+		/**
+		 * Constructor
+		 */
+		TestLabeler() {
+			super(false, 0, null, Color.black(), 12.0, 0.1);
+		}
+
+	}
+
+	/**
+	 * In memory test properties
+	 */
+	static class TestProperties extends GridProperties {
+
+		/**
+		 * Constructor
+		 *
+		 * @param properties
+		 *            properties
+		 */
+		TestProperties(Properties properties) {
+			mProperties = properties;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public String getFile() {
+			return "test.properties";
+		}
+
+	}
+
+}
@@ -0,0 +1,166 @@
+package mil.nga.grid.features;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import mil.nga.grid.tile.GridTile;
+import mil.nga.grid.tile.PixelRange;
+
+/**
+ * Bounds Array test
+ *
+ * @author osbornb
+ */
+public class BoundsArrayTest {
+
+	/**
+	 * Test adding, growing and reading bounds
+	 */
+	@Test
+	public void testAdd() {
+
+		BoundsArray array = BoundsArray.create(Unit.DEGREE, 1);
+		assertTrue(array.isEmpty());
+
+		List<Bounds> bounds = new ArrayList<>();
+		for (int i = 0; i < 40; i++) {
+			Bounds value = Bounds.degrees(-10.0 + i, -5.0 + i / 2.0, i,
+					i / 2.0);
+			bounds.add(value);
+			assertEquals(i, array.add(value));
+		}
+		assertEquals(40, array.size());
+		assertEquals(bounds, array.toList());
+		assertEquals(bounds.get(7), array.getBounds(7));
+		assertEquals(-3.0, array.getMinLongitude(7), 0.0);
+		assertEquals(-1.5, array.getMinLatitude(7), 0.0);
+		assertEquals(7.0, array.getMaxLongitude(7), 0.0);
+		assertEquals(3.5, array.getMaxLatitude(7), 0.0);
+
+		Bounds meters = bounds.get(3).toMeters();
+		array.add(meters);
+		assertEquals(bounds.get(3).getMinLongitude(),
+				array.getMinLongitude(40), 1e-9);
+
+		try {
+			array.getBounds(41);
+			fail("Expected index failure");
+		} catch (IndexOutOfBoundsException e) {
+			// expected
+		}
+
+		assertEquals(bounds, BoundsArray.create(bounds, Unit.DEGREE).toList());
+
+	}
+
+	/**
+	 * Test unit conversions against per bounds conversions
+	 */
+	@Test
+	public void testUnit() {
+
+		List<Bounds> bounds = new ArrayList<>();
+		bounds.add(Bounds.degrees(-112.5, 21.9, -111.0, 23.0));
+		bounds.add(Bounds.degrees(10.0, -60.0, 20.0, -50.0));
+		BoundsArray array = BoundsArray.create(bounds, Unit.DEGREE);
+
+		assertSame(array, array.toDegrees());
+		BoundsArray meters = array.toMeters();
+		assertEquals(Unit.METER, meters.getUnit());
+		for (int i = 0; i < bounds.size(); i++) {
+			assertEquals(bounds.get(i).toMeters(), meters.getBounds(i));
+		}
+
+		BoundsArray degrees = meters.toDegrees();
+		for (int i = 0; i < bounds.size(); i++) {
+			assertEquals(bounds.get(i).getMinLatitude(),
+					degrees.getMinLatitude(i), 1e-9);
+			assertEquals(bounds.get(i).getMaxLongitude(),
+					degrees.getMaxLongitude(i), 1e-9);
+		}
+
+		BoundsArray destination = BoundsArray.create(Unit.METER, 1);
+		destination.add(0.0, 0.0, 1.0, 1.0);
+		destination.add(0.0, 0.0, 1.0, 1.0);
+		destination.add(0.0, 0.0, 1.0, 1.0);
+		assertSame(destination, array.toMeters(destination));
+		assertEquals(bounds.size(), destination.size());
+		for (int i = 0; i < bounds.size(); i++) {
+			assertEquals(meters.getBounds(i), destination.getBounds(i));
+		}
+		assertSame(destination, meters.toMeters(destination));
+		assertSame(meters, meters.toMeters(meters));
+		try {
+			array.toDegrees(destination);
+			fail("Expected destination unit failure");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+
+		BoundsArray converted = BoundsArray.create(bounds, Unit.DEGREE);
+		assertSame(converted, converted.convert(Unit.METER));
+		assertEquals(Unit.METER, converted.getUnit());
+		for (int i = 0; i < bounds.size(); i++) {
+			assertEquals(meters.getBounds(i), converted.getBounds(i));
+		}
+		converted.convert(Unit.DEGREE);
+		assertEquals(Unit.DEGREE, converted.getUnit());
+		assertEquals(bounds.get(1).getMinLatitude(),
+				converted.getMinLatitude(1), 1e-9);
+
+	}
+
+	/**
+	 * Test overlaps, filters and pixel ranges
+	 */
+	@Test
+	public void testOverlap() {
+
+		BoundsArray array = BoundsArray.create(Unit.DEGREE);
+		array.add(0.0, 0.0, 10.0, 10.0);
+		array.add(20.0, 20.0, 30.0, 30.0);
+		array.add(5.0, 5.0, 25.0, 25.0);
+		array.add(10.0, 10.0, 12.0, 12.0);
+
+		Bounds window = Bounds.degrees(8.0, 8.0, 10.0, 10.0);
+		BoundsArray overlap = array.overlap(window);
+		assertEquals(3, overlap.size());
+		assertEquals(window, overlap.getBounds(0));
+		assertEquals(window, overlap.getBounds(1));
+		assertEquals(Bounds.degrees(10.0, 10.0, 10.0, 10.0),
+				overlap.getBounds(2));
+
+		int[] indices = new int[array.size()];
+		assertEquals(3, array.filter(window.toMeters(), indices));
+		assertEquals(0, indices[0]);
+		assertEquals(2, indices[1]);
+		assertEquals(3, indices[2]);
+
+		GridTile tile = GridTile.tile(256, 256, 4, 2, 3);
+		float[] ranges = new float[4 * array.size()];
+		array.getPixelRanges(tile, ranges);
+		for (int i = 0; i < array.size(); i++) {
+			PixelRange range = array.getBounds(i).getPixelRange(tile);
+			assertEquals(range.getLeft(), ranges[4 * i], 0.0001f);
+			assertEquals(range.getTop(), ranges[4 * i + 1], 0.0001f);
+			assertEquals(range.getRight(), ranges[4 * i + 2], 0.0001f);
+			assertEquals(range.getBottom(), ranges[4 * i + 3], 0.0001f);
+		}
+
+		try {
+			array.getPixelRanges(tile, new float[4 * array.size() - 1]);
+			fail("Expected small array failure");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+
+	}
+
+}
@@ -0,0 +1,313 @@
+package mil.nga.grid.features;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Bounds index test
+ *
+ * @author osbornb
+ */
+public class BoundsIndexTest {
+
+	/**
+	 * Indexed bounds counts, around the node capacity and level boundaries
+	 */
+	private static final int[] SIZES = new int[] { 0, 1, 2, 15, 16, 17, 255,
+			256, 257, 4097 };
+
+	/**
+	 * Test index queries against linear scans
+	 */
+	@Test
+	public void testQueries() {
+
+		Random random = new Random(7);
+		BoundsArray bounds = BoundsArray.create(Unit.DEGREE);
+		for (int i = 0; i < 5000; i++) {
+			double west = -180.0 + random.nextDouble() * 350.0;
+			double south = -80.0 + random.nextDouble() * 150.0;
+			bounds.add(west, south, west + random.nextDouble() * 10.0,
+					south + random.nextDouble() * 10.0);
+		}
+
+		for (boolean parallel : new boolean[] { false, true }) {
+
+			BoundsIndex index = BoundsIndex.index(bounds, parallel);
+			assertEquals(bounds.size(), index.size());
+
+			for (int query = 0; query < 200; query++) {
+
+				double longitude = -180.0 + random.nextDouble() * 360.0;
+				double latitude = -85.0 + random.nextDouble() * 170.0;
+
+				boolean[] expected = new boolean[bounds.size()];
+				int expectedCount = 0;
+				int nearest = -1;
+				double nearestDistance = Double.POSITIVE_INFINITY;
+				for (int i = 0; i < bounds.size(); i++) {
+					double dx = Math.max(0.0,
+							Math.max(bounds.getMinLongitude(i) - longitude,
+									longitude - bounds.getMaxLongitude(i)));
+					double dy = Math.max(0.0,
+							Math.max(bounds.getMinLatitude(i) - latitude,
+									latitude - bounds.getMaxLatitude(i)));
+					double distance = dx * dx + dy * dy;
+					if (distance == 0.0) {
+						expected[i] = true;
+						expectedCount++;
+					}
+					if (distance < nearestDistance) {
+						nearest = i;
+						nearestDistance = distance;
+					}
+				}
+
+				int count = index.search(longitude, latitude,
+						id -> assertTrue(expected[id]));
+				assertEquals(expectedCount, count);
+
+				int found = index.find(longitude, latitude);
+				assertTrue(expectedCount == 0 ? found == -1 : expected[found]);
+
+				int near = index.nearest(longitude, latitude);
+				double dx = Math.max(0.0,
+						Math.max(bounds.getMinLongitude(near) - longitude,
+								longitude - bounds.getMaxLongitude(near)));
+				double dy = Math.max(0.0,
+						Math.max(bounds.getMinLatitude(near) - latitude,
+								latitude - bounds.getMaxLatitude(near)));
+				assertEquals(nearestDistance, dx * dx + dy * dy, 0.0);
+				if (nearestDistance > 0.0) {
+					assertEquals(nearest, near);
+				}
+
+				Bounds window = Bounds.degrees(longitude, latitude,
+						longitude + 5.0, latitude + 5.0);
+				int windowCount = 0;
+				for (int i = 0; i < bounds.size(); i++) {
+					if (bounds.getBounds(i).overlap(window) != null) {
+						windowCount++;
+					}
+				}
+				assertEquals(windowCount, index.search(window, id -> {
+				}));
+			}
+		}
+
+	}
+
+	/**
+	 * Test an empty index
+	 */
+	@Test
+	public void testEmpty() {
+
+		for (boolean parallel : new boolean[] { false, true }) {
+			BoundsIndex index = BoundsIndex
+					.index(BoundsArray.create(Unit.METER), parallel);
+			assertEquals(Unit.METER, index.getUnit());
+			assertEquals(0, index.size());
+			assertTrue(index.isEmpty());
+			assertEquals(0, index.search(-1.0, -1.0, 1.0, 1.0, id -> {
+				throw new AssertionError("Unexpected id: " + id);
+			}));
+			assertEquals(0, index.search(Point.meters(0.0, 0.0), id -> {
+				throw new AssertionError("Unexpected id: " + id);
+			}));
+			assertEquals(-1, index.find(0.0, 0.0));
+			assertEquals(-1, index.nearest(0.0, 0.0));
+		}
+
+	}
+
+	/**
+	 * Test a single element index
+	 */
+	@Test
+	public void testSingle() {
+
+		BoundsArray bounds = BoundsArray.create(Unit.DEGREE);
+		bounds.add(10.0, 20.0, 15.0, 25.0);
+
+		for (boolean parallel : new boolean[] { false, true }) {
+			BoundsIndex index = BoundsIndex.index(bounds, parallel);
+			assertEquals(1, index.size());
+			assertFalse(index.isEmpty());
+			assertEquals(1, index.search(12.0, 22.0,
+					id -> assertEquals(0, id)));
+			assertEquals(1, index.search(15.0, 25.0, 20.0, 30.0,
+					id -> assertEquals(0, id)));
+			assertEquals(0, index.search(15.1, 25.0, 20.0, 30.0, id -> {
+				throw new AssertionError("Unexpected id: " + id);
+			}));
+			assertEquals(0, index.find(10.0, 20.0));
+			assertEquals(-1, index.find(9.0, 20.0));
+			assertEquals(0, index.nearest(-170.0, -80.0));
+			assertEquals(0, index.nearest(Point.degrees(12.0, 22.0)));
+		}
+
+	}
+
+	/**
+	 * Test window searches against brute force results on randomized bounds
+	 */
+	@Test
+	public void testSearchBruteForce() {
+
+		Random random = new Random(11);
+		for (int size : SIZES) {
+			BoundsArray bounds = bounds(random, size);
+			for (boolean parallel : new boolean[] { false, true }) {
+				BoundsIndex index = BoundsIndex.index(bounds, parallel);
+				for (int query = 0; query < 100; query++) {
+					double west = -180.0 + random.nextDouble() * 360.0;
+					double south = -85.0 + random.nextDouble() * 170.0;
+					double east = west + random.nextDouble() * 40.0;
+					double north = south + random.nextDouble() * 40.0;
+
+					boolean[] expected = new boolean[size];
+					for (int i = 0; i < size; i++) {
+						expected[i] = bounds.getMinLongitude(i) <= east
+								&& bounds.getMaxLongitude(i) >= west
+								&& bounds.getMinLatitude(i) <= north
+								&& bounds.getMaxLatitude(i) >= south;
+					}
+
+					boolean[] found = new boolean[size];
+					int count = index.search(west, south, east, north, id -> {
+						assertFalse(found[id]);
+						found[id] = true;
+					});
+					assertArrayEquals(expected, found);
+					int expectedCount = 0;
+					for (boolean overlap : expected) {
+						if (overlap) {
+							expectedCount++;
+						}
+					}
+					assertEquals(expectedCount, count);
+				}
+			}
+		}
+
+	}
+
+	/**
+	 * Test point finds against brute force results on randomized bounds
+	 */
+	@Test
+	public void testFindBruteForce() {
+
+		Random random = new Random(13);
+		for (int size : SIZES) {
+			BoundsArray bounds = bounds(random, size);
+			for (boolean parallel : new boolean[] { false, true }) {
+				BoundsIndex index = BoundsIndex.index(bounds, parallel);
+				for (int query = 0; query < 200; query++) {
+					double longitude = -180.0 + random.nextDouble() * 360.0;
+					double latitude = -85.0 + random.nextDouble() * 170.0;
+
+					boolean contained = false;
+					for (int i = 0; i < size && !contained; i++) {
+						contained = distance(bounds, i, longitude,
+								latitude) == 0.0;
+					}
+
+					int found = index.find(longitude, latitude);
+					if (contained) {
+						assertEquals(0.0,
+								distance(bounds, found, longitude, latitude),
+								0.0);
+					} else {
+						assertEquals(-1, found);
+					}
+				}
+			}
+		}
+
+	}
+
+	/**
+	 * Test nearest queries against brute force results on randomized bounds
+	 */
+	@Test
+	public void testNearestBruteForce() {
+
+		Random random = new Random(17);
+		for (int size : SIZES) {
+			BoundsArray bounds = bounds(random, size);
+			for (boolean parallel : new boolean[] { false, true }) {
+				BoundsIndex index = BoundsIndex.index(bounds, parallel);
+				for (int query = 0; query < 200; query++) {
+					double longitude = -180.0 + random.nextDouble() * 360.0;
+					double latitude = -85.0 + random.nextDouble() * 170.0;
+
+					double expected = Double.POSITIVE_INFINITY;
+					for (int i = 0; i < size; i++) {
+						expected = Math.min(expected,
+								distance(bounds, i, longitude, latitude));
+					}
+
+					int nearest = index.nearest(longitude, latitude);
+					if (size == 0) {
+						assertEquals(-1, nearest);
+					} else {
+						assertEquals(expected, distance(bounds, nearest,
+								longitude, latitude), 0.0);
+					}
+				}
+			}
+		}
+
+	}
+
+	/**
+	 * Create randomized degree bounds
+	 *
+	 * @param random
+	 *            random
+	 * @param size
+	 *            bounds count
+	 * @return bounds array
+	 */
+	private static BoundsArray bounds(Random random, int size) {
+		BoundsArray bounds = BoundsArray.create(Unit.DEGREE);
+		for (int i = 0; i < size; i++) {
+			double west = -180.0 + random.nextDouble() * 350.0;
+			double south = -80.0 + random.nextDouble() * 150.0;
+			bounds.add(west, south, west + random.nextDouble() * 10.0,
+					south + random.nextDouble() * 10.0);
+		}
+		return bounds;
+	}
+
+	/**
+	 * Get the squared distance from the coordinate to the bounds
+	 *
+	 * @param bounds
+	 *            bounds array
+	 * @param id
+	 *            bounds id
+	 * @param longitude
+	 *            longitude
+	 * @param latitude
+	 *            latitude
+	 * @return squared distance, 0 when contained
+	 */
+	private static double distance(BoundsArray bounds, int id,
+			double longitude, double latitude) {
+		double dx = Math.max(0.0, Math.max(bounds.getMinLongitude(id)
+				- longitude, longitude - bounds.getMaxLongitude(id)));
+		double dy = Math.max(0.0, Math.max(bounds.getMinLatitude(id)
+				- latitude, latitude - bounds.getMaxLatitude(id)));
+		return dx * dx + dy * dy;
+	}
+
+}
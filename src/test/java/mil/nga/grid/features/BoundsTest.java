@@ -0,0 +1,100 @@
+package mil.nga.grid.features;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.List;
+
+import org.junit.Test;
+
+import mil.nga.grid.tile.GridTile;
+import mil.nga.grid.tile.Pixel;
+import mil.nga.grid.tile.PixelRange;
+
+/**
+ * Bounds test
+ *
+ * @author osbornb
+ */
+public class BoundsTest {
+
+	/**
+	 * Test the pixel range buffer variants against the allocating variant
+	 */
+	@Test
+	public void testPixelRange() {
+
+		GridTile tile = GridTile.tile(512, 256, 3, 5, 4);
+		Bounds bounds = Bounds.degrees(-50.0, 10.0, -40.0, 20.0);
+		PixelRange expected = bounds.getPixelRange(tile);
+
+		float[] range = new float[6];
+		bounds.getPixelRange(tile, range, 2);
+		assertEquals(0.0f, range[0], 0.0f);
+		assertEquals(0.0f, range[1], 0.0f);
+		assertEquals(expected.getTopLeft().getX(), range[2], 0.0001f);
+		assertEquals(expected.getTopLeft().getY(), range[3], 0.0001f);
+		assertEquals(expected.getBottomRight().getX(), range[4], 0.0001f);
+		assertEquals(expected.getBottomRight().getY(), range[5], 0.0001f);
+
+		PixelRange reused = new PixelRange(new Pixel(0, 0), new Pixel(0, 0));
+		assertSame(reused, bounds.toMeters().getPixelRange(tile, reused));
+		assertEquals(range[2], reused.getTopLeft().getX(), 0.0001f);
+		assertEquals(range[3], reused.getTopLeft().getY(), 0.0001f);
+		assertEquals(range[4], reused.getBottomRight().getX(), 0.0001f);
+		assertEquals(range[5], reused.getBottomRight().getY(), 0.0001f);
+
+	}
+
+	/**
+	 * Test the corner, line and centroid buffer variants against the
+	 * allocating variants
+	 */
+	@Test
+	public void testGeometryBuffers() {
+
+		Bounds bounds = Bounds.degrees(-112.5, 21.9, -111.0, 23.0);
+
+		double[] corners = new double[9];
+		bounds.getCorners(corners, 1);
+		assertPoint(bounds.getSouthwest(), corners, 1);
+		assertPoint(bounds.getNorthwest(), corners, 3);
+		assertPoint(bounds.getNortheast(), corners, 5);
+		assertPoint(bounds.getSoutheast(), corners, 7);
+
+		List<Line> lines = bounds.getLines();
+		double[] values = new double[4 * lines.size() + 2];
+		bounds.getLines(values, 2);
+		for (int i = 0; i < lines.size(); i++) {
+			Line line = lines.get(i);
+			assertPoint(line.getPoint1(), values, 2 + 4 * i);
+			assertPoint(line.getPoint2(), values, 4 + 4 * i);
+		}
+
+		double[] centroid = new double[3];
+		bounds.getCentroid(centroid, 1);
+		assertPoint(bounds.getCentroid(), centroid, 1);
+
+		Bounds meters = bounds.toMeters();
+		meters.getCentroid(centroid, 0);
+		assertPoint(meters.getCentroid(), centroid, 0);
+
+	}
+
+	/**
+	 * Assert the point values at the array offset
+	 *
+	 * @param point
+	 *            expected point
+	 * @param values
+	 *            values array
+	 * @param offset
+	 *            array offset
+	 */
+	private static void assertPoint(Point point, double[] values,
+			int offset) {
+		assertEquals(point.getLongitude(), values[offset], 0.0);
+		assertEquals(point.getLatitude(), values[offset + 1], 0.0);
+	}
+
+}
@@ -0,0 +1,87 @@
+package mil.nga.grid.features;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+/**
+ * Clipper test
+ *
+ * @author osbornb
+ */
+public class ClipperTest {
+
+	/**
+	 * Test clipping single segments to a rectangle
+	 */
+	@Test
+	public void testClip() {
+
+		double[] clipped = new double[6];
+
+		assertTrue(Clipper.clip(0, 0, 10, 10, 2, 3, 8, 7, clipped, 2));
+		assertArrayEquals(new double[] { 0, 0, 2, 3, 8, 7 }, clipped, 0.0);
+
+		assertTrue(Clipper.clip(0, 0, 10, 10, -5, 5, 15, 5, clipped, 0));
+		assertArrayEquals(new double[] { 0, 5, 10, 5 },
+				Arrays.copyOf(clipped, 4), 0.0);
+
+		assertTrue(Clipper.clip(0, 0, 10, 10, 5, 15, 5, -5, clipped, 0));
+		assertArrayEquals(new double[] { 5, 10, 5, 0 },
+				Arrays.copyOf(clipped, 4), 0.0);
+
+		assertTrue(Clipper.clip(0, 0, 10, 10, -10, -10, 20, 20, clipped, 0));
+		assertArrayEquals(new double[] { 0, 0, 10, 10 },
+				Arrays.copyOf(clipped, 4), 1e-12);
+
+		assertFalse(Clipper.clip(0, 0, 10, 10, -5, 11, 15, 11, clipped, 0));
+		assertFalse(Clipper.clip(0, 0, 10, 10, 11, -5, 11, 15, clipped, 0));
+		assertFalse(Clipper.clip(0, 0, 10, 10, -5, 8, 8, 15, clipped, 0));
+
+		assertTrue(Clipper.intersects(0, 0, 10, 10, 10, 5, 20, 5));
+		assertTrue(Clipper.intersects(0, 0, 10, 10, 5, 5, 5, 5));
+		assertFalse(Clipper.intersects(0, 0, 10, 10, 11, 5, 20, 5));
+
+	}
+
+	/**
+	 * Test clipping a batch of segments to bounds
+	 */
+	@Test
+	public void testClipBatch() {
+
+		Bounds bounds = Bounds.meters(0, 0, 10, 10);
+		double[] segments = new double[] { -5, 5, 15, 5, 20, 20, 30, 30, 2, 3,
+				8, 7 };
+		double[] clipped = new double[12];
+
+		int visible = Clipper.clip(bounds, segments, 3, clipped);
+		assertEquals(2, visible);
+		assertArrayEquals(
+				new double[] { 0, 5, 10, 5, 2, 3, 8, 7, 0, 0, 0, 0 },
+				clipped, 0.0);
+
+		Bounds degrees = Bounds.degrees(-10, -10, 10, 10);
+		Bounds meters = degrees.toMeters();
+		double[] segment = new double[4];
+		assertTrue(Clipper.clip(degrees, meters.getMinLongitude() - 1.0, 0.0,
+				meters.getMaxLongitude() + 1.0, 0.0, segment, 0));
+		assertEquals(meters.getMinLongitude(), segment[0], 1e-6);
+		assertEquals(meters.getMaxLongitude(), segment[2], 1e-6);
+
+		try {
+			Clipper.clip(bounds, segments, 3, new double[11]);
+			fail("Expected small array failure");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+
+	}
+
+}
@@ -0,0 +1,105 @@
+package mil.nga.grid.features;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+
+import mil.nga.grid.Conversion;
+import mil.nga.grid.tile.GridTile;
+import mil.nga.grid.tile.Pixel;
+
+/**
+ * Coordinate test
+ *
+ * @author osbornb
+ */
+public class CoordinateTest {
+
+	/**
+	 * Test unit conversions against points
+	 */
+	@Test
+	public void testUnit() {
+
+		Coordinate coordinate = Coordinate.degrees(-112.500003, 21.943049);
+		assertEquals(Unit.DEGREE, coordinate.getUnit());
+		assertSame(coordinate, coordinate.toDegrees());
+
+		Coordinate meters = coordinate.toMeters();
+		assertEquals(Unit.METER, meters.getUnit());
+		assertEquals(-12523443.048201751, meters.getLongitude(), 0.0);
+		assertEquals(2504688.958883909, meters.getLatitude(), 0.0);
+		assertEquals(meters, Point.degrees(-112.500003, 21.943049).toMeters()
+				.toCoordinate());
+
+		Coordinate degrees = meters.toDegrees();
+		assertEquals(-112.500003, degrees.getLongitude(), 0.0000000000001);
+		assertEquals(21.943049, degrees.getLatitude(), 0.0000000000001);
+
+		Coordinate fast = coordinate.toUnit(Unit.METER, Conversion.FAST);
+		assertEquals(Conversion.FAST.latitudeToMeters(21.943049),
+				fast.getLatitude(), 0.0);
+
+	}
+
+	/**
+	 * Test adapters to and from points
+	 */
+	@Test
+	public void testAdapters() {
+
+		Point point = Point.meters(1000.0, -2000.0);
+		Coordinate coordinate = point.toCoordinate();
+		assertEquals(Coordinate.meters(1000.0, -2000.0), coordinate);
+		assertEquals(Coordinate.coordinate(point), coordinate);
+		assertEquals(point, coordinate.toPoint());
+
+		mil.nga.sf.Point simple = coordinate.toSimplePoint();
+		assertEquals(1000.0, simple.getX(), 0.0);
+		assertEquals(-2000.0, simple.getY(), 0.0);
+		assertEquals(coordinate, Coordinate.coordinate(simple, Unit.METER));
+
+		assertEquals(coordinate.hashCode(),
+				Coordinate.coordinate(1000.0, -2000.0, Unit.METER).hashCode());
+		assertNotEquals(coordinate,
+				Coordinate.coordinate(1000.0, -2000.0, Unit.DEGREE));
+
+	}
+
+	/**
+	 * Test tile pixels and coordinates
+	 */
+	@Test
+	public void testPixels() {
+
+		GridTile tile = GridTile.tile(512, 512, 5, 11, 5);
+		Bounds bounds = tile.getBoundsDegrees();
+		Coordinate coordinate = Coordinate.degrees(
+				(bounds.getMinLongitude() + bounds.getMaxLongitude()) / 2,
+				(bounds.getMinLatitude() + bounds.getMaxLatitude()) / 2);
+
+		Pixel pixel = coordinate.getPixel(tile);
+		Pixel expected = tile.getPixel(coordinate.toPoint());
+		assertEquals(expected.getX(), pixel.getX(), 0.0f);
+		assertEquals(expected.getY(), pixel.getY(), 0.0f);
+		Pixel meters = tile.getPixel(coordinate.toMeters());
+		assertEquals(pixel.getX(), meters.getX(), 0.0001f);
+		assertEquals(pixel.getY(), meters.getY(), 0.0001f);
+
+		Coordinate back = tile.getCoordinate(pixel.getX(), pixel.getY(),
+				Unit.DEGREE);
+		assertEquals(Unit.DEGREE, back.getUnit());
+		assertEquals(coordinate.getLongitude(), back.getLongitude(), 1e-4);
+		assertEquals(coordinate.getLatitude(), back.getLatitude(), 1e-4);
+
+		Coordinate corner = tile.getCoordinate(0, 0, Unit.METER);
+		assertEquals(tile.getBoundsMeters().getMinLongitude(),
+				corner.getLongitude(), 1e-6);
+		assertEquals(tile.getBoundsMeters().getMaxLatitude(),
+				corner.getLatitude(), 1e-6);
+
+	}
+
+}
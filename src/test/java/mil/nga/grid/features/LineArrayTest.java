@@ -0,0 +1,173 @@
+package mil.nga.grid.features;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import mil.nga.grid.tile.GridTile;
+import mil.nga.grid.tile.Pixel;
+
+/**
+ * Line Array test
+ *
+ * @author osbornb
+ */
+public class LineArrayTest {
+
+	/**
+	 * Test adding, growing and reading lines
+	 */
+	@Test
+	public void testAdd() {
+
+		LineArray array = LineArray.create(Unit.DEGREE, 1);
+		assertTrue(array.isEmpty());
+
+		List<Line> lines = new ArrayList<>();
+		for (int i = 0; i < 40; i++) {
+			Line line = Line.line(Point.degrees(-10.0 + i, i / 2.0),
+					Point.degrees(i, -i / 2.0));
+			lines.add(line);
+			assertEquals(i, array.add(line));
+		}
+		assertEquals(40, array.size());
+		assertEquals(lines, array.toList());
+		assertEquals(lines.get(7), array.getLine(7));
+		assertEquals(lines.get(7).toSegment(), array.getSegment(7));
+		assertEquals(-3.0, array.getLongitude1(7), 0.0);
+		assertEquals(3.5, array.getLatitude1(7), 0.0);
+		assertEquals(7.0, array.getLongitude2(7), 0.0);
+		assertEquals(-3.5, array.getLatitude2(7), 0.0);
+
+		array.add(lines.get(3).toSegment().toMeters());
+		assertEquals(lines.get(3).getPoint1().getLongitude(),
+				array.getLongitude1(40), 1e-9);
+
+		try {
+			array.getLine(-1);
+			fail("Expected index failure");
+		} catch (IndexOutOfBoundsException e) {
+			// expected
+		}
+
+		assertEquals(lines, LineArray.create(lines, Unit.DEGREE).toList());
+
+	}
+
+	/**
+	 * Test unit conversions against per line conversions
+	 */
+	@Test
+	public void testUnit() {
+
+		List<Line> lines = new ArrayList<>();
+		lines.add(Line.line(Point.degrees(-112.5, 21.9),
+				Point.degrees(-111.0, 23.0)));
+		lines.add(Line.line(Point.degrees(10.0, -60.0),
+				Point.degrees(20.0, -50.0)));
+		LineArray array = LineArray.create(lines, Unit.DEGREE);
+
+		assertSame(array, array.toDegrees());
+		LineArray meters = array.toMeters();
+		assertEquals(Unit.METER, meters.getUnit());
+		for (int i = 0; i < lines.size(); i++) {
+			assertEquals(lines.get(i).toMeters(), meters.getLine(i));
+		}
+
+		LineArray degrees = meters.toDegrees();
+		for (int i = 0; i < lines.size(); i++) {
+			assertEquals(lines.get(i).getPoint1().getLatitude(),
+					degrees.getLatitude1(i), 1e-9);
+			assertEquals(lines.get(i).getPoint2().getLongitude(),
+					degrees.getLongitude2(i), 1e-9);
+		}
+
+		LineArray destination = LineArray.create(Unit.METER, 1);
+		destination.add(0.0, 0.0, 1.0, 1.0);
+		destination.add(0.0, 0.0, 1.0, 1.0);
+		destination.add(0.0, 0.0, 1.0, 1.0);
+		assertSame(destination, array.toMeters(destination));
+		assertEquals(lines.size(), destination.size());
+		for (int i = 0; i < lines.size(); i++) {
+			assertEquals(meters.getLine(i), destination.getLine(i));
+		}
+		assertSame(destination, meters.toMeters(destination));
+		assertSame(meters, meters.toMeters(meters));
+		try {
+			array.toDegrees(destination);
+			fail("Expected destination unit failure");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+
+		LineArray converted = LineArray.create(lines, Unit.DEGREE);
+		assertSame(converted, converted.convert(Unit.METER));
+		assertEquals(Unit.METER, converted.getUnit());
+		for (int i = 0; i < lines.size(); i++) {
+			assertEquals(meters.getLine(i), converted.getLine(i));
+		}
+		converted.convert(Unit.DEGREE);
+		assertEquals(Unit.DEGREE, converted.getUnit());
+		assertEquals(lines.get(1).getPoint1().getLatitude(),
+				converted.getLatitude1(1), 1e-9);
+
+	}
+
+	/**
+	 * Test clipping and pixels
+	 */
+	@Test
+	public void testClipPixels() {
+
+		LineArray array = LineArray.create(Unit.METER);
+		array.add(-5.0, 5.0, 15.0, 5.0);
+		array.add(20.0, 20.0, 30.0, 30.0);
+		array.add(2.0, 3.0, 8.0, 7.0);
+
+		LineArray clipped = array.clip(Bounds.meters(0.0, 0.0, 10.0, 10.0));
+		assertEquals(Unit.METER, clipped.getUnit());
+		assertEquals(2, clipped.size());
+		assertEquals(Segment.segment(0.0, 5.0, 10.0, 5.0, Unit.METER),
+				clipped.getSegment(0));
+		assertEquals(array.getSegment(2), clipped.getSegment(1));
+
+		GridTile tile = GridTile.tile(256, 256, 4, 2, 3);
+		LineArray lines = LineArray.create(Unit.DEGREE);
+		lines.add(-10.0, 50.0, 50.0, 50.0);
+		lines.add(-170.0, -80.0, -100.0, -70.0);
+		LineArray tileClipped = lines.clip(tile);
+		assertEquals(1, tileClipped.size());
+		Bounds tileBounds = tile.getBoundsMeters();
+		assertEquals(tileBounds.getMinLongitude(),
+				tileClipped.getLongitude1(0), 1e-6);
+		assertEquals(tileBounds.getMaxLongitude(),
+				tileClipped.getLongitude2(0), 1e-6);
+
+		float[] pixels = new float[4 * lines.size()];
+		lines.getPixels(tile, pixels);
+		for (int i = 0; i < lines.size(); i++) {
+			Line line = lines.getLine(i);
+			Pixel pixel1 = tile.getPixel(line.getPoint1());
+			Pixel pixel2 = tile.getPixel(line.getPoint2());
+			assertEquals(pixel1.getX(), pixels[4 * i], 0.0001f);
+			assertEquals(pixel1.getY(), pixels[4 * i + 1], 0.0001f);
+			assertEquals(pixel2.getX(), pixels[4 * i + 2], 0.0001f);
+			assertEquals(pixel2.getY(), pixels[4 * i + 3], 0.0001f);
+		}
+
+		try {
+			lines.getPixels(tile, new float[7]);
+			fail("Expected small array failure");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+
+	}
+
+}
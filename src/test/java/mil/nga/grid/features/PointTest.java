@@ -1,6 +1,7 @@
 package mil.nga.grid.features;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
 
 import org.junit.Test;
 
@@ -34,4 +35,74 @@ public class PointTest {
 
 	}
 
+	/**
+	 * Test cached unit conversions return unshared points
+	 */
+	@Test
+	public void testConversionCache() {
+
+		Point point = Point.degrees(-112.500003, 21.943049);
+		Point meters = point.toMeters();
+		Point meters2 = point.toMeters();
+		assertNotSame(meters, meters2);
+		assertEquals(meters, meters2);
+
+		meters.setLongitude(0.0);
+		assertEquals(-12523443.048201751, meters2.getLongitude(), 0.0);
+		assertEquals(-12523443.048201751, point.toMeters().getLongitude(),
+				0.0);
+		assertEquals(0.0, meters.toDegrees().getLongitude(), 0.0);
+
+		Point degrees = meters2.toDegrees();
+		assertNotSame(point, degrees);
+		assertEquals(point.getLongitude(), degrees.getLongitude(), 1e-9);
+		degrees.setLatitude(0.0);
+		assertEquals(21.943049, point.getLatitude(), 0.0);
+
+		point.setLongitude(-112.0);
+		assertEquals(Point.toUnit(Unit.DEGREE, -112.0, 21.943049, Unit.METER)
+				.getLongitude(), point.toMeters().getLongitude(), 0.0);
+
+		assertEquals(-112.0, point.getLongitude(Unit.DEGREE), 0.0);
+		assertEquals(point.toMeters().getLongitude(),
+				point.getLongitude(Unit.METER), 0.0);
+		assertEquals(point.toMeters().getLatitude(),
+				point.getLatitude(Unit.METER), 0.0);
+
+	}
+
+	/**
+	 * Test cached bounds conversions return unshared bounds
+	 */
+	@Test
+	public void testBoundsConversionCache() {
+
+		Bounds bounds = Bounds.degrees(-112.5, 21.9, -112.0, 22.5);
+		Bounds meters = bounds.toMeters();
+		Bounds meters2 = bounds.toMeters();
+		assertNotSame(meters, meters2);
+		assertEquals(meters, meters2);
+
+		meters.setMinLongitude(0.0);
+		assertEquals(meters2, bounds.toMeters());
+		assertEquals(-112.5, meters2.toDegrees().getMinLongitude(), 1e-9);
+
+		bounds.setMinLongitude(-113.0);
+		assertEquals(-113.0, bounds.toMeters().toDegrees().getMinLongitude(),
+				1e-9);
+
+		Bounds converted = bounds.toMeters();
+		assertEquals(converted.getMinLongitude(),
+				bounds.getMinLongitude(Unit.METER), 0.0);
+		assertEquals(converted.getMinLatitude(),
+				bounds.getMinLatitude(Unit.METER), 0.0);
+		assertEquals(converted.getMaxLongitude(),
+				bounds.getMaxLongitude(Unit.METER), 0.0);
+		assertEquals(converted.getMaxLatitude(),
+				bounds.getMaxLatitude(Unit.METER), 0.0);
+		assertEquals(-113.0, bounds.getMinLongitude(Unit.DEGREE), 0.0);
+		assertEquals(22.5, bounds.getMaxLatitude(Unit.DEGREE), 0.0);
+
+	}
+
 }
@@ -0,0 +1,129 @@
+package mil.nga.grid.features;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+
+import mil.nga.grid.tile.GridTile;
+import mil.nga.grid.tile.Pixel;
+
+/**
+ * Segment test
+ *
+ * @author osbornb
+ */
+public class SegmentTest {
+
+	/**
+	 * Test conversions to and from lines and units
+	 */
+	@Test
+	public void testConversions() {
+
+		Point point1 = Point.degrees(-112.5, 21.9);
+		Point point2 = Point.degrees(-111.0, 23.0);
+		Line line = Line.line(point1, point2);
+
+		Segment segment = line.toSegment();
+		assertEquals(Segment.segment(point1, point2), segment);
+		assertEquals(Unit.DEGREE, segment.getUnit());
+		assertEquals(point1, segment.getPoint1());
+		assertEquals(point2, segment.getPoint2());
+		assertEquals(line, segment.toLine());
+		assertEquals(segment.hashCode(), Segment.segment(line).hashCode());
+
+		assertSame(segment, segment.toDegrees());
+		Segment meters = segment.toMeters();
+		assertEquals(Unit.METER, meters.getUnit());
+		assertEquals(point1.toMeters(), meters.getPoint1());
+		assertEquals(point2.toMeters(), meters.getPoint2());
+		assertEquals(line.toMeters(), meters.toLine());
+		assertNotEquals(segment, meters);
+
+		Segment degrees = meters.toDegrees();
+		assertEquals(point1.getLongitude(), degrees.getLongitude1(), 1e-9);
+		assertEquals(point1.getLatitude(), degrees.getLatitude1(), 1e-9);
+		assertEquals(point2.getLongitude(), degrees.getLongitude2(), 1e-9);
+		assertEquals(point2.getLatitude(), degrees.getLatitude2(), 1e-9);
+
+		try {
+			Segment.segment(point1, point2.toMeters());
+			fail("Expected mixed unit failure");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+
+	}
+
+	/**
+	 * Test clipping and intersections against the line equivalents
+	 */
+	@Test
+	public void testClipIntersection() {
+
+		Bounds bounds = Bounds.meters(0, 0, 10, 10);
+
+		Segment clipped = Segment.segment(-5, 5, 15, 5, Unit.METER)
+				.clip(bounds);
+		assertEquals(Segment.segment(0, 5, 10, 5, Unit.METER), clipped);
+		assertNull(
+				Segment.segment(-5, 11, 15, 11, Unit.METER).clip(bounds));
+
+		Segment degrees = Segment.segment(-10.0, 0.0, 10.0, 0.0,
+				Unit.DEGREE);
+		clipped = degrees.clip(Bounds.degrees(-5.0, -5.0, 5.0, 5.0));
+		assertEquals(Unit.METER, clipped.getUnit());
+		Segment expected = Segment.segment(-5.0, 0.0, 5.0, 0.0, Unit.DEGREE)
+				.toMeters();
+		assertEquals(expected.getLongitude1(), clipped.getLongitude1(), 1e-6);
+		assertEquals(expected.getLongitude2(), clipped.getLongitude2(), 1e-6);
+
+		Segment vertical = Segment.segment(5.0, -10.0, 5.0, 10.0,
+				Unit.DEGREE);
+		Point intersection = degrees.intersection(vertical);
+		assertEquals(degrees.toLine().intersection(vertical.toLine()),
+				intersection);
+		assertEquals(Unit.DEGREE, intersection.getUnit());
+		assertEquals(5.0, intersection.getLongitude(), 1e-9);
+		assertEquals(0.0, intersection.getLatitude(), 1e-9);
+
+		assertNull(degrees.intersection(
+				Segment.segment(-10.0, 1.0, 10.0, 1.0, Unit.DEGREE)));
+
+	}
+
+	/**
+	 * Test segment tile pixels and bounds edges
+	 */
+	@Test
+	public void testPixelsEdges() {
+
+		GridTile tile = GridTile.tile(256, 256, 1, 2, 3);
+		Bounds bounds = tile.getBounds();
+		Segment[] edges = bounds.getSegments();
+		Line[] lines = bounds.getLines().toArray(new Line[0]);
+		assertEquals(4, edges.length);
+		assertEquals(lines.length, edges.length);
+
+		float[] pixels = new float[18];
+		for (int i = 0; i < edges.length; i++) {
+			assertEquals(lines[i], edges[i].toLine());
+			edges[i].getPixels(tile, pixels, 2 + 4 * i);
+			Pixel pixel1 = tile.getPixel(edges[i].getPoint1());
+			Pixel pixel2 = tile.getPixel(edges[i].getPoint2());
+			assertEquals(pixel1.getX(), pixels[2 + 4 * i], 0.0001f);
+			assertEquals(pixel1.getY(), pixels[3 + 4 * i], 0.0001f);
+			assertEquals(pixel2.getX(), pixels[4 + 4 * i], 0.0001f);
+			assertEquals(pixel2.getY(), pixels[5 + 4 * i], 0.0001f);
+		}
+		assertEquals(0.0f, pixels[0], 0.0f);
+		assertEquals(0.0f, pixels[2], 0.001f);
+		assertEquals(256.0f, pixels[3], 0.001f);
+
+	}
+
+}
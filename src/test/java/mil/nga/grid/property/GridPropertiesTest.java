@@ -0,0 +1,197 @@
+package mil.nga.grid.property;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Properties;
+
+import org.junit.Test;
+
+import mil.nga.color.Color;
+
+/**
+ * Grid Properties test
+ *
+ * @author osbornb
+ */
+public class GridPropertiesTest {
+
+	/**
+	 * Create grid properties of in memory properties
+	 *
+	 * @param properties
+	 *            properties
+	 * @return grid properties
+	 */
+	private static GridProperties gridProperties(Properties properties) {
+		return new GridProperties() {
+
+			{
+				mProperties = properties;
+			}
+
+			@Override
+			public String getFile() {
+				return "test.properties";
+			}
+
+		};
+	}
+
+	/**
+	 * Test required and optional property reads
+	 */
+	@Test
+	public void testRequired() {
+
+		Properties properties = new Properties();
+		properties.setProperty("grid.name", "test");
+		properties.setProperty("grid.zoom", "5");
+		properties.setProperty("grid.size", "1.5");
+		properties.setProperty("grid.enabled", "true");
+		properties.setProperty("grid.blank", " ");
+		GridProperties gridProperties = gridProperties(properties);
+
+		assertEquals("test", gridProperties.getProperty("grid.name"));
+		assertEquals("test", gridProperties.getProperty("grid", "name"));
+		assertEquals(5, gridProperties.getIntegerProperty("grid.zoom"));
+		assertEquals(1.5f, gridProperties.getFloatProperty("grid", "size"),
+				0.0f);
+		assertEquals(1.5, gridProperties.getDoubleProperty("grid.size"),
+				0.0);
+		assertTrue(gridProperties.getBooleanProperty("grid", "enabled"));
+
+		assertNull(gridProperties.getProperty("grid.missing", false));
+		assertNull(gridProperties.getProperty("grid.blank", false));
+		assertNull(gridProperties.getIntegerProperty(false, "grid", "none"));
+		assertNull(gridProperties.getDoubleProperty("grid.none", false));
+		assertNull(gridProperties.getBooleanProperty("grid.none", false));
+
+		try {
+			gridProperties.getProperty("grid.missing");
+			fail("Expected required property failure");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+
+		try {
+			gridProperties.getIntegerProperty("grid", "blank");
+			fail("Expected required blank property failure");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+
+		try {
+			gridProperties.getBooleanProperty("grid.missing");
+			fail("Expected required boolean property failure");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+
+	}
+
+	/**
+	 * Test malformed values fail only when read as the type
+	 */
+	@Test
+	public void testMalformed() {
+
+		Properties properties = new Properties();
+		properties.setProperty("grid.zoom", "five");
+		properties.setProperty("grid.size", "1.5");
+		GridProperties gridProperties = gridProperties(properties);
+
+		assertEquals("five", gridProperties.getProperty("grid.zoom"));
+		assertFalse(gridProperties.getBooleanProperty("grid.zoom"));
+
+		try {
+			gridProperties.getIntegerProperty("grid.zoom");
+			fail("Expected malformed integer failure");
+		} catch (NumberFormatException e) {
+			// expected
+		}
+
+		try {
+			gridProperties.getDoubleProperty("grid.zoom", false);
+			fail("Expected malformed double failure");
+		} catch (NumberFormatException e) {
+			// expected
+		}
+
+		try {
+			gridProperties.getIntegerProperty("grid.size");
+			fail("Expected non integer failure");
+		} catch (NumberFormatException e) {
+			// expected
+		}
+
+		assertEquals(1.5, gridProperties.getDoubleProperty("grid.size"),
+				0.0);
+
+	}
+
+	/**
+	 * Test typed values are parsed on the first read and then reused
+	 */
+	@Test
+	public void testParsedOnce() {
+
+		Properties properties = new Properties();
+		properties.setProperty("grid.count", "1000");
+		properties.setProperty("grid.name", "five");
+		properties.setProperty("grids.grid.color", "#0A1428");
+		PropertiesSnapshot snapshot = gridProperties(properties)
+				.getSnapshot();
+
+		Integer count = snapshot.getInteger("grid.count");
+		assertEquals(1000, count.intValue());
+		assertSame(count, snapshot.getInteger("grid.count"));
+		Double value = snapshot.getDouble("grid.count");
+		assertEquals(1000.0, value, 0.0);
+		assertSame(value, snapshot.getDouble("grid.count"));
+
+		Color color = snapshot.getColor("grids.grid.color");
+		assertEquals(0xFF0A1428, color.getColorWithAlpha());
+		color.setAlpha(0);
+		assertEquals(0xFF0A1428,
+				snapshot.getColor("grids.grid.color").getColorWithAlpha());
+
+		try {
+			snapshot.getColor("grid.name");
+			fail("Expected malformed color failure");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+
+	}
+
+	/**
+	 * Test the snapshot is kept until invalidated
+	 */
+	@Test
+	public void testInvalidate() {
+
+		Properties properties = new Properties();
+		properties.setProperty("grid.zoom", "5");
+		GridProperties gridProperties = gridProperties(properties);
+
+		PropertiesSnapshot snapshot = gridProperties.getSnapshot();
+		assertSame(snapshot, gridProperties.getSnapshot());
+
+		properties.setProperty("grid.zoom", "6");
+		assertEquals(5, gridProperties.getIntegerProperty("grid.zoom"));
+
+		gridProperties.invalidate();
+		PropertiesSnapshot updated = gridProperties.getSnapshot();
+		assertNotSame(snapshot, updated);
+		assertEquals(6, gridProperties.getIntegerProperty("grid.zoom"));
+		assertEquals(Integer.valueOf(5), snapshot.getInteger("grid.zoom"));
+
+	}
+
+}
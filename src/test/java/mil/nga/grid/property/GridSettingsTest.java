@@ -0,0 +1,156 @@
+package mil.nga.grid.property;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Properties;
+
+import org.junit.Test;
+
+import mil.nga.color.Color;
+
+/**
+ * Grid Settings test
+ *
+ * @author osbornb
+ */
+public class GridSettingsTest {
+
+	/**
+	 * Test reading grid, lines, labeler, and style settings
+	 */
+	@Test
+	public void testSettings() {
+
+		Properties properties = new Properties();
+		properties.setProperty("grids.gzd.enabled", "false");
+		properties.setProperty("grids.gzd.min_zoom", "2");
+		properties.setProperty("grids.gzd.max_zoom", "12");
+		properties.setProperty("grids.gzd.lines.min_zoom", "3");
+		properties.setProperty("grids.gzd.lines.max_zoom", "11");
+		properties.setProperty("grids.gzd.color", "#FF0000");
+		properties.setProperty("grids.gzd.width", "2.5");
+		properties.setProperty("grids.gzd.labeler.enabled", "true");
+		properties.setProperty("grids.gzd.labeler.min_zoom", "4");
+		properties.setProperty("grids.gzd.labeler.max_zoom", "10");
+		properties.setProperty("grids.gzd.labeler.color", "#0000FF");
+		properties.setProperty("grids.gzd.labeler.text_size", "14.0");
+		properties.setProperty("grids.gzd.labeler.buffer", "0.1");
+		properties.setProperty("grids.gzd.km100.color", "#00FF00");
+		properties.setProperty("grids.gzd.km100.width", "1.5");
+
+		PropertiesSnapshot snapshot = PropertiesSnapshot
+				.snapshot(properties);
+		GridSettings settings = snapshot.getGrid("gzd");
+		assertSame(settings, snapshot.getGrid("gzd"));
+		assertEquals("gzd", settings.getGridKey());
+
+		assertFalse(settings.getEnabled());
+		assertEquals(Integer.valueOf(2), settings.getMinZoom());
+		assertEquals(Integer.valueOf(12), settings.getMaxZoom());
+		assertEquals(Integer.valueOf(3), settings.getLinesMinZoom());
+		assertEquals(Integer.valueOf(11), settings.getLinesMaxZoom());
+		assertEquals(0xFFFF0000, settings.getColor().getColorWithAlpha());
+		assertEquals(2.5, settings.getWidth(), 0.0);
+
+		assertTrue(settings.getLabelerEnabled());
+		assertEquals(Integer.valueOf(4), settings.getLabelerMinZoom());
+		assertEquals(Integer.valueOf(10), settings.getLabelerMaxZoom());
+		assertEquals(0xFF0000FF,
+				settings.getLabelerColor().getColorWithAlpha());
+		assertEquals(14.0, settings.getLabelerTextSize(), 0.0);
+		assertEquals(0.1, settings.getLabelerBuffer(), 0.0);
+
+		assertEquals(0xFF00FF00,
+				settings.getStyleColor("km100").getColorWithAlpha());
+		assertEquals(1.5, settings.getStyleWidth("km100"), 0.0);
+		assertNull(settings.getStyleColor("km10"));
+		assertNull(settings.getStyleWidth("km10"));
+		assertNull(settings.getStyleColor("lines"));
+		assertNull(settings.getStyleColor("labeler"));
+		assertNull(settings.getStyleColor(null));
+
+		Color color = settings.getColor();
+		assertNotSame(color, settings.getColor());
+		color.setRed(0);
+		assertEquals(0xFFFF0000, settings.getColor().getColorWithAlpha());
+
+	}
+
+	/**
+	 * Test unset settings are null
+	 */
+	@Test
+	public void testUnset() {
+
+		GridSettings settings = PropertiesSnapshot.snapshot(new Properties())
+				.getGrid("gzd");
+		assertNull(settings.getEnabled());
+		assertNull(settings.getMinZoom());
+		assertNull(settings.getMaxZoom());
+		assertNull(settings.getLinesMinZoom());
+		assertNull(settings.getLinesMaxZoom());
+		assertNull(settings.getColor());
+		assertNull(settings.getWidth());
+		assertNull(settings.getLabelerEnabled());
+		assertNull(settings.getLabelerMinZoom());
+		assertNull(settings.getLabelerMaxZoom());
+		assertNull(settings.getLabelerColor());
+		assertNull(settings.getLabelerTextSize());
+		assertNull(settings.getLabelerBuffer());
+		assertNull(settings.getStyleColor("km100"));
+		assertNull(settings.getStyleWidth("km100"));
+
+	}
+
+	/**
+	 * Test a malformed value only fails the getter reading it
+	 */
+	@Test
+	public void testMalformed() {
+
+		Properties properties = new Properties();
+		properties.setProperty("grids.gzd.min_zoom", "two");
+		properties.setProperty("grids.gzd.max_zoom", "12");
+		properties.setProperty("grids.gzd.color", "not a color");
+		properties.setProperty("grids.gzd.km100.width", "wide");
+		properties.setProperty("grids.gzd.labeler.buffer", "0.2");
+		properties.setProperty("grids.other.width", "3");
+
+		PropertiesSnapshot snapshot = PropertiesSnapshot
+				.snapshot(properties);
+		GridSettings settings = snapshot.getGrid("gzd");
+
+		try {
+			settings.getMinZoom();
+			fail("Expected malformed integer failure");
+		} catch (NumberFormatException e) {
+			// expected
+		}
+
+		try {
+			settings.getColor();
+			fail("Expected malformed color failure");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+
+		try {
+			settings.getStyleWidth("km100");
+			fail("Expected malformed width failure");
+		} catch (NumberFormatException e) {
+			// expected
+		}
+
+		assertEquals(Integer.valueOf(12), settings.getMaxZoom());
+		assertEquals(0.2, settings.getLabelerBuffer(), 0.0);
+		assertEquals(3.0, snapshot.getGrid("other").getWidth(), 0.0);
+
+	}
+
+}
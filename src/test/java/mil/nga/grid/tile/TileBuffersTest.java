@@ -0,0 +1,248 @@
+package mil.nga.grid.tile;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import mil.nga.grid.Conversion;
+import mil.nga.grid.Label;
+import mil.nga.grid.features.Bounds;
+import mil.nga.grid.features.Line;
+import mil.nga.grid.features.LineArray;
+import mil.nga.grid.features.Point;
+import mil.nga.grid.features.Unit;
+
+/**
+ * Tile Buffers test
+ *
+ * @author osbornb
+ */
+public class TileBuffersTest {
+
+	/**
+	 * Tile
+	 */
+	private static final GridTile TILE = GridTile.tile(256, 256, 4, 2, 3);
+
+	/**
+	 * Test writing lines to float and byte buffers
+	 */
+	@Test
+	public void testLines() {
+
+		List<Line> lines = lines();
+
+		FloatBuffer floats = FloatBuffer.allocate(2 + lines.size()
+				* TileBuffers.LINE_FLOATS);
+		floats.position(2);
+		assertEquals(lines.size(), TileBuffers.putLines(TILE, lines, floats));
+		assertEquals(floats.capacity(), floats.position());
+		for (int i = 0; i < lines.size(); i++) {
+			assertLine(lines.get(i), floats, 2 + i * TileBuffers.LINE_FLOATS);
+		}
+
+		ByteBuffer bytes = TileBuffers.allocateLines(lines.size() + 1);
+		assertEquals(ByteOrder.nativeOrder(), bytes.order());
+		bytes.position(TileBuffers.LINE_BYTES);
+		assertEquals(lines.size(), TileBuffers.putLines(TILE,
+				LineArray.create(lines, Unit.DEGREE), bytes));
+		assertEquals(bytes.capacity(), bytes.position());
+		FloatBuffer view = bytes.duplicate().order(bytes.order()).position(0)
+				.asFloatBuffer();
+		for (int i = 0; i < lines.size(); i++) {
+			assertLine(lines.get(i), view,
+					(i + 1) * TileBuffers.LINE_FLOATS);
+		}
+
+	}
+
+	/**
+	 * Test writing labels to float and byte buffers
+	 */
+	@Test
+	public void testLabels() {
+
+		List<Label> labels = labels();
+
+		ByteBuffer bytes = TileBuffers.allocateLabels(labels.size());
+		assertEquals(labels.size(), TileBuffers.putLabels(TILE, labels, bytes));
+		assertEquals(bytes.capacity(), bytes.position());
+
+		FloatBuffer floats = bytes.duplicate().order(bytes.order())
+				.position(0).asFloatBuffer();
+		for (int i = 0; i < labels.size(); i++) {
+			Label label = labels.get(i);
+			int offset = i * TileBuffers.LABEL_FLOATS;
+			Pixel center = TILE.getPixel(label.getCenter());
+			PixelRange range = label.getBounds().getPixelRange(TILE);
+			assertEquals(center.getX(), floats.get(offset), 0.0001f);
+			assertEquals(center.getY(), floats.get(offset + 1), 0.0001f);
+			assertEquals(range.getLeft(), floats.get(offset + 2), 0.0001f);
+			assertEquals(range.getTop(), floats.get(offset + 3), 0.0001f);
+			assertEquals(range.getRight(), floats.get(offset + 4), 0.0001f);
+			assertEquals(range.getBottom(), floats.get(offset + 5),
+					0.0001f);
+		}
+
+	}
+
+	/**
+	 * Test writing with the conversion engine of a tile transform
+	 */
+	@Test
+	public void testTransformConversion() {
+
+		TileTransform transform = TILE.getTransform(Conversion.FAST);
+		List<Line> lines = lines();
+
+		FloatBuffer floats = FloatBuffer
+				.allocate(lines.size() * TileBuffers.LINE_FLOATS);
+		assertEquals(lines.size(), TileBuffers.putLines(transform,
+				LineArray.create(lines, Unit.DEGREE), floats));
+		for (int i = 0; i < lines.size(); i++) {
+			Pixel pixel = transform.getPixel(lines.get(i).getPoint1());
+			int offset = i * TileBuffers.LINE_FLOATS;
+			assertEquals(pixel.getX(), floats.get(offset), 0.0f);
+			assertEquals(pixel.getY(), floats.get(offset + 1), 0.0f);
+		}
+
+		List<Label> labels = labels();
+		floats = FloatBuffer.allocate(TileBuffers.LABEL_FLOATS);
+		TileBuffers.putLabels(transform, labels.subList(0, 1), floats);
+		Bounds bounds = labels.get(0).getBounds();
+		assertEquals(transform.getPixel(bounds.getMinLongitude(),
+				bounds.getMaxLatitude(), Unit.DEGREE).getY(), floats.get(3),
+				0.0f);
+		assertEquals(transform.getPixel(bounds.getMaxLongitude(),
+				bounds.getMinLatitude(), Unit.DEGREE).getY(), floats.get(5),
+				0.0f);
+
+	}
+
+	/**
+	 * Test overflowing buffers throw without a partial write
+	 */
+	@Test
+	public void testOverflow() {
+
+		List<Line> lines = lines();
+		int floats = lines.size() * TileBuffers.LINE_FLOATS;
+
+		FloatBuffer floatBuffer = FloatBuffer.allocate(floats + 1);
+		floatBuffer.position(2);
+		try {
+			TileBuffers.putLines(TILE, lines, floatBuffer);
+			fail("Expected buffer overflow");
+		} catch (BufferOverflowException e) {
+			// expected
+		}
+		assertUnwritten(floatBuffer, 2);
+
+		try {
+			TileBuffers.putLines(TILE, LineArray.create(lines, Unit.DEGREE),
+					floatBuffer);
+			fail("Expected buffer overflow");
+		} catch (BufferOverflowException e) {
+			// expected
+		}
+		assertUnwritten(floatBuffer, 2);
+
+		ByteBuffer byteBuffer = TileBuffers.allocateLines(lines.size());
+		byteBuffer.position(Float.BYTES);
+		try {
+			TileBuffers.putLines(TILE, lines, byteBuffer);
+			fail("Expected buffer overflow");
+		} catch (BufferOverflowException e) {
+			// expected
+		}
+		assertEquals(Float.BYTES, byteBuffer.position());
+		assertUnwritten(byteBuffer.duplicate().order(byteBuffer.order())
+				.position(0).asFloatBuffer(), 0);
+
+		List<Label> labels = labels();
+		ByteBuffer labelBuffer = TileBuffers.allocateLabels(labels.size() - 1);
+		try {
+			TileBuffers.putLabels(TILE, labels, labelBuffer);
+			fail("Expected buffer overflow");
+		} catch (BufferOverflowException e) {
+			// expected
+		}
+		assertEquals(0, labelBuffer.position());
+		assertUnwritten(labelBuffer.asFloatBuffer(), 0);
+
+	}
+
+	/**
+	 * Create test lines in the tile
+	 *
+	 * @return lines
+	 */
+	private static List<Line> lines() {
+		List<Line> lines = new ArrayList<>();
+		lines.add(Line.line(Point.degrees(0.0, 45.0),
+				Point.degrees(45.0, 45.0)));
+		lines.add(Line.line(Point.degrees(10.0, 40.0),
+				Point.degrees(10.0, 67.0)));
+		lines.add(Line.line(Point.degrees(20.0, 50.0).toMeters(),
+				Point.degrees(30.0, 60.0).toMeters()));
+		return lines;
+	}
+
+	/**
+	 * Create test labels in the tile
+	 *
+	 * @return labels
+	 */
+	private static List<Label> labels() {
+		List<Label> labels = new ArrayList<>();
+		labels.add(new Label("A", Point.degrees(5.0, 45.0),
+				Bounds.degrees(0.0, 41.0, 10.0, 50.0)));
+		labels.add(new Label("B", Point.degrees(30.0, 60.0).toMeters(),
+				Bounds.degrees(20.0, 55.0, 40.0, 65.0).toMeters()));
+		return labels;
+	}
+
+	/**
+	 * Assert the line pixels at the buffer index
+	 *
+	 * @param line
+	 *            line
+	 * @param buffer
+	 *            float buffer
+	 * @param index
+	 *            buffer index
+	 */
+	private static void assertLine(Line line, FloatBuffer buffer,
+			int index) {
+		Pixel pixel1 = TILE.getPixel(line.getPoint1());
+		Pixel pixel2 = TILE.getPixel(line.getPoint2());
+		assertEquals(pixel1.getX(), buffer.get(index), 0.0001f);
+		assertEquals(pixel1.getY(), buffer.get(index + 1), 0.0001f);
+		assertEquals(pixel2.getX(), buffer.get(index + 2), 0.0001f);
+		assertEquals(pixel2.getY(), buffer.get(index + 3), 0.0001f);
+	}
+
+	/**
+	 * Assert the buffer position is unchanged and no values were written
+	 *
+	 * @param buffer
+	 *            float buffer
+	 * @param position
+	 *            expected position
+	 */
+	private static void assertUnwritten(FloatBuffer buffer, int position) {
+		assertEquals(position, buffer.position());
+		for (int i = 0; i < buffer.capacity(); i++) {
+			assertEquals(0.0f, buffer.get(i), 0.0f);
+		}
+	}
+
+}
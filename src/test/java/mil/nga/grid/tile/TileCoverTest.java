@@ -0,0 +1,405 @@
+package mil.nga.grid.tile;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.Spliterator;
+
+import org.junit.Test;
+
+import mil.nga.grid.GridUtils;
+import mil.nga.grid.features.Bounds;
+import mil.nga.grid.features.Unit;
+import mil.nga.sf.LineString;
+import mil.nga.sf.Point;
+import mil.nga.sf.Polygon;
+
+/**
+ * Tile Cover test
+ *
+ * @author osbornb
+ */
+public class TileCoverTest {
+
+	/**
+	 * Test the tiles covering bounds
+	 */
+	@Test
+	public void testBounds() {
+
+		Bounds world = Bounds.degrees(-180.0, -85.0511287798066, 180.0,
+				85.0511287798066);
+		TileCover cover = TileCover.cover(world, 0, 2);
+		assertTrue(cover.hasCharacteristics(Spliterator.SIZED));
+		assertEquals(21, cover.estimateSize());
+		assertEquals(21, TileCover.stream(world, 0, 2).count());
+
+		long[] keys = TileCover.stream(Bounds.degrees(1.0, 1.0, 89.0, 60.0), 3,
+				3).toArray();
+		assertArrayEquals(new long[] { TileKey.pack(4, 2, 3),
+				TileKey.pack(5, 2, 3), TileKey.pack(4, 3, 3),
+				TileKey.pack(5, 3, 3) }, keys);
+
+		assertArrayEquals(keys,
+				TileCover.stream(Bounds.degrees(1.0, 1.0, 89.0, 60.0)
+						.toMeters(), 3, 3).toArray());
+
+		long[] sequential = TileCover.stream(world, 0, 6).toArray();
+		long[] parallel = TileCover.stream(world, 0, 6, true).toArray();
+		assertEquals(1 + 4 + 16 + 64 + 256 + 1024 + 4096, sequential.length);
+		assertArrayEquals(sequential, parallel);
+		for (int i = 1; i < sequential.length; i++) {
+			int zoom = TileKey.getZoom(sequential[i]);
+			int previousZoom = TileKey.getZoom(sequential[i - 1]);
+			assertTrue(zoom > previousZoom || (zoom == previousZoom
+					&& (TileKey.getY(sequential[i]) > TileKey
+							.getY(sequential[i - 1])
+							|| TileKey.getX(sequential[i]) > TileKey
+									.getX(sequential[i - 1]))));
+		}
+
+		try {
+			TileCover.cover(world, 3, 2);
+			fail("Expected invalid zoom range failure");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+
+	}
+
+	/**
+	 * Test the tiles covering bounds adjacent to the antimeridian
+	 */
+	@Test
+	public void testAntimeridian() {
+
+		assertArrayEquals(
+				new long[] { TileKey.pack(7, 3, 3), TileKey.pack(7, 4, 3) },
+				TileCover.stream(Bounds.degrees(170.0, -10.0, 180.0, 10.0), 3,
+						3).toArray());
+
+		assertArrayEquals(
+				new long[] { TileKey.pack(0, 3, 3), TileKey.pack(0, 4, 3) },
+				TileCover.stream(Bounds.degrees(-180.0, -10.0, -170.0, 10.0),
+						3, 3).toArray());
+
+		TileCover cover = TileCover
+				.cover(Bounds.degrees(179.0, -1.0, 180.0, 1.0), 0, 12);
+		long[] keys = TileCover
+				.stream(Bounds.degrees(179.0, -1.0, 180.0, 1.0), 0, 12)
+				.toArray();
+		assertEquals(cover.estimateSize(), keys.length);
+		int[] maxX = new int[13];
+		for (long key : keys) {
+			int zoom = TileKey.getZoom(key);
+			int tiles = TileKey.tilesPerSide(zoom);
+			int x = TileKey.getX(key);
+			assertTrue(x >= (int) Math.floor(359.0 / 360.0 * tiles));
+			assertTrue(x < tiles);
+			maxX[zoom] = Math.max(maxX[zoom], x);
+		}
+		for (int zoom = 0; zoom <= 12; zoom++) {
+			assertEquals(TileKey.tilesPerSide(zoom) - 1, maxX[zoom]);
+		}
+
+	}
+
+	/**
+	 * Test the tiles intersecting a polygon
+	 */
+	@Test
+	public void testPolygon() {
+
+		Polygon triangle = polygon(0.0, 0.0, 90.0, 0.0, 0.0, 60.0);
+
+		TileCover cover = TileCover.cover(triangle, Unit.DEGREE, 3, 3);
+		assertFalse(cover.hasCharacteristics(Spliterator.SIZED));
+		assertEquals(4, cover.estimateSize());
+
+		long[] keys = TileCover.stream(triangle, Unit.DEGREE, 3, 3, false)
+				.toArray();
+		assertArrayEquals(new long[] { TileKey.pack(4, 2, 3),
+				TileKey.pack(4, 3, 3), TileKey.pack(5, 3, 3) }, keys);
+
+		assertArrayEquals(keys,
+				TileCover.stream(triangle, Unit.DEGREE, 3, 3, true).toArray());
+
+	}
+
+	/**
+	 * Test polygon covers ignore interior rings
+	 */
+	@Test
+	public void testPolygonHole() {
+
+		Polygon polygon = polygon(-90.0, -80.0, 180.0, -80.0, 180.0, 80.0,
+				-90.0, 80.0);
+		polygon.addRing(ring(-1.0, -1.0, 91.0, -1.0, 91.0, 67.0, -1.0, 67.0));
+
+		long[] keys = TileCover.stream(polygon, Unit.DEGREE, 3, 3, false)
+				.toArray();
+		boolean hole = false;
+		for (long key : keys) {
+			hole |= key == TileKey.pack(4, 3, 3);
+		}
+		assertTrue(hole);
+
+	}
+
+	/**
+	 * Test polygon covers against a brute force check of every tile in the
+	 * polygon envelope, on random and self-intersecting rings
+	 */
+	@Test
+	public void testPolygonBruteForce() {
+
+		Random random = new Random(7);
+		for (int test = 0; test < 50; test++) {
+
+			int count = 3 + random.nextInt(10);
+			double[] coordinates = new double[2 * count];
+			double longitude = -170.0 + random.nextDouble() * 300.0;
+			double latitude = -75.0 + random.nextDouble() * 120.0;
+			double width = 1.0 + random.nextDouble() * 40.0;
+			double height = 1.0 + random.nextDouble() * 30.0;
+			for (int i = 0; i < count; i++) {
+				coordinates[2 * i] = longitude + random.nextDouble() * width;
+				coordinates[2 * i + 1] = latitude
+						+ random.nextDouble() * height;
+			}
+			Polygon polygon = polygon(coordinates);
+			int minZoom = 2 + random.nextInt(4);
+			int maxZoom = minZoom + random.nextInt(4);
+
+			long[] expected = bruteForce(polygon, minZoom, maxZoom);
+			assertArrayEquals(expected, TileCover
+					.stream(polygon, Unit.DEGREE, minZoom, maxZoom, false)
+					.toArray());
+			assertArrayEquals(expected, TileCover
+					.stream(polygon, Unit.DEGREE, minZoom, maxZoom, true)
+					.toArray());
+		}
+
+	}
+
+	/**
+	 * Get the tiles intersecting the polygon by testing every tile in the
+	 * polygon envelope
+	 *
+	 * @param polygon
+	 *            polygon in degrees
+	 * @param minZoom
+	 *            minimum zoom level
+	 * @param maxZoom
+	 *            maximum zoom level
+	 * @return packed tile keys
+	 */
+	private static long[] bruteForce(Polygon polygon, int minZoom,
+			int maxZoom) {
+
+		List<Point> points = polygon.getExteriorRing().getPoints();
+		int count = points.size();
+		double[] x = new double[count];
+		double[] y = new double[count];
+		for (int i = 0; i < count; i++) {
+			x[i] = GridUtils.longitudeToMeters(points.get(i).getX());
+			y[i] = GridUtils.latitudeToMeters(points.get(i).getY());
+		}
+
+		List<Long> keys = new ArrayList<>();
+		Bounds bounds = Bounds.meters(min(x), min(y), max(x), max(y));
+		TileCover.stream(bounds, minZoom, maxZoom).forEach((key) -> {
+			int zoom = TileKey.getZoom(key);
+			double west = TileEdges.getLongitudeMeters(TileKey.getX(key),
+					zoom);
+			double east = TileEdges
+					.getLongitudeMeters(TileKey.getX(key) + 1, zoom);
+			double north = TileEdges.getLatitudeMeters(TileKey.getY(key),
+					zoom);
+			double south = TileEdges
+					.getLatitudeMeters(TileKey.getY(key) + 1, zoom);
+			boolean intersects = contains(x, y, (west + east) / 2,
+					(south + north) / 2);
+			for (int i = 0, j = count - 1; !intersects
+					&& i < count; j = i++) {
+				intersects = inside(x[i], y[i], west, south, east, north)
+						|| crosses(x[j], y[j], x[i], y[i], west, south, west,
+								north)
+						|| crosses(x[j], y[j], x[i], y[i], east, south, east,
+								north)
+						|| crosses(x[j], y[j], x[i], y[i], west, south, east,
+								south)
+						|| crosses(x[j], y[j], x[i], y[i], west, north, east,
+								north);
+			}
+			if (intersects) {
+				keys.add(key);
+			}
+		});
+
+		long[] expected = new long[keys.size()];
+		for (int i = 0; i < expected.length; i++) {
+			expected[i] = keys.get(i);
+		}
+		return expected;
+	}
+
+	/**
+	 * Determine if the ring contains the point, by ray crossings
+	 *
+	 * @param x
+	 *            ring x coordinates
+	 * @param y
+	 *            ring y coordinates
+	 * @param px
+	 *            x coordinate
+	 * @param py
+	 *            y coordinate
+	 * @return true if contains
+	 */
+	private static boolean contains(double[] x, double[] y, double px,
+			double py) {
+		boolean contains = false;
+		for (int i = 0, j = x.length - 1; i < x.length; j = i++) {
+			if ((y[i] > py) != (y[j] > py) && px < (x[j] - x[i])
+					* (py - y[i]) / (y[j] - y[i]) + x[i]) {
+				contains = !contains;
+			}
+		}
+		return contains;
+	}
+
+	/**
+	 * Determine if the point is inside the rectangle
+	 *
+	 * @param px
+	 *            x coordinate
+	 * @param py
+	 *            y coordinate
+	 * @param west
+	 *            west edge
+	 * @param south
+	 *            south edge
+	 * @param east
+	 *            east edge
+	 * @param north
+	 *            north edge
+	 * @return true if inside
+	 */
+	private static boolean inside(double px, double py, double west,
+			double south, double east, double north) {
+		return px >= west && px <= east && py >= south && py <= north;
+	}
+
+	/**
+	 * Determine if two segments cross
+	 *
+	 * @param ax1
+	 *            first segment first x
+	 * @param ay1
+	 *            first segment first y
+	 * @param ax2
+	 *            first segment second x
+	 * @param ay2
+	 *            first segment second y
+	 * @param bx1
+	 *            second segment first x
+	 * @param by1
+	 *            second segment first y
+	 * @param bx2
+	 *            second segment second x
+	 * @param by2
+	 *            second segment second y
+	 * @return true if cross
+	 */
+	private static boolean crosses(double ax1, double ay1, double ax2,
+			double ay2, double bx1, double by1, double bx2, double by2) {
+		double d1 = orientation(bx1, by1, bx2, by2, ax1, ay1);
+		double d2 = orientation(bx1, by1, bx2, by2, ax2, ay2);
+		double d3 = orientation(ax1, ay1, ax2, ay2, bx1, by1);
+		double d4 = orientation(ax1, ay1, ax2, ay2, bx2, by2);
+		return ((d1 > 0 && d2 < 0) || (d1 < 0 && d2 > 0))
+				&& ((d3 > 0 && d4 < 0) || (d3 < 0 && d4 > 0));
+	}
+
+	/**
+	 * Get the orientation of the point relative to the line
+	 *
+	 * @param x1
+	 *            line first x
+	 * @param y1
+	 *            line first y
+	 * @param x2
+	 *            line second x
+	 * @param y2
+	 *            line second y
+	 * @param px
+	 *            point x
+	 * @param py
+	 *            point y
+	 * @return positive if left, negative if right, zero if collinear
+	 */
+	private static double orientation(double x1, double y1, double x2,
+			double y2, double px, double py) {
+		return (x2 - x1) * (py - y1) - (y2 - y1) * (px - x1);
+	}
+
+	/**
+	 * Get the minimum value
+	 *
+	 * @param values
+	 *            values
+	 * @return minimum
+	 */
+	private static double min(double[] values) {
+		return Arrays.stream(values).min().getAsDouble();
+	}
+
+	/**
+	 * Get the maximum value
+	 *
+	 * @param values
+	 *            values
+	 * @return maximum
+	 */
+	private static double max(double[] values) {
+		return Arrays.stream(values).max().getAsDouble();
+	}
+
+	/**
+	 * Create a polygon with an exterior ring
+	 *
+	 * @param coordinates
+	 *            ring coordinates as x and y pairs
+	 * @return polygon
+	 */
+	private static Polygon polygon(double... coordinates) {
+		Polygon polygon = new Polygon();
+		polygon.addRing(ring(coordinates));
+		return polygon;
+	}
+
+	/**
+	 * Create a closed ring
+	 *
+	 * @param coordinates
+	 *            ring coordinates as x and y pairs
+	 * @return ring
+	 */
+	private static LineString ring(double... coordinates) {
+		LineString ring = new LineString();
+		for (int i = 0; i < coordinates.length; i += 2) {
+			ring.addPoint(new Point(coordinates[i], coordinates[i + 1]));
+		}
+		ring.addPoint(new Point(coordinates[0], coordinates[1]));
+		return ring;
+	}
+
+}
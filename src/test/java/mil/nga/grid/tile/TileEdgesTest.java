@@ -0,0 +1,60 @@
+package mil.nga.grid.tile;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import mil.nga.grid.GridUtils;
+import mil.nga.grid.features.Bounds;
+import mil.nga.sf.util.GeometryConstants;
+
+/**
+ * Tile Edges test
+ *
+ * @author osbornb
+ */
+public class TileEdgesTest {
+
+	/**
+	 * Test tabled and computed edges match the bounds conversions
+	 */
+	@Test
+	public void testEdges() {
+
+		for (int zoom = 0; zoom <= TileEdges.MAX_TABLE_ZOOM + 2; zoom++) {
+			int tiles = TileKey.tilesPerSide(zoom);
+			int step = Math.max(1, tiles / 64);
+			for (int i = 0; i < tiles; i += step) {
+				Bounds bounds = GridUtils.getBounds(i, i, zoom);
+				assertEquals(bounds.toDegrees(),
+						GridUtils.getBoundsDegrees(i, i, zoom));
+				assertEquals(bounds.getMinLongitude(),
+						TileEdges.getLongitudeMeters(i, zoom), 0.0);
+				assertEquals(bounds.getMaxLatitude(),
+						TileEdges.getLatitudeMeters(i, zoom), 0.0);
+			}
+		}
+
+		int zoom = 5;
+		int tiles = TileKey.tilesPerSide(zoom);
+		assertEquals(-GeometryConstants.WEB_MERCATOR_HALF_WORLD_WIDTH,
+				TileEdges.getLongitudeMeters(0, zoom), 0.0);
+		assertEquals(GeometryConstants.WEB_MERCATOR_HALF_WORLD_WIDTH,
+				TileEdges.getLongitudeMeters(tiles, zoom), 0.0);
+		assertEquals(-180.0, TileEdges.getLongitudeDegrees(0, zoom), 1e-9);
+		assertEquals(180.0, TileEdges.getLongitudeDegrees(tiles, zoom),
+				1e-9);
+		assertEquals(0.0, TileEdges.getLatitudeDegrees(tiles / 2, zoom),
+				1e-9);
+		assertEquals(TileEdges.getLatitudeDegrees(1, zoom),
+				-TileEdges.getLatitudeDegrees(tiles - 1, zoom), 1e-9);
+
+		// Edges beyond the tables compute the same values
+		assertEquals(
+				GridUtils.longitudeToDegrees(
+						TileEdges.getLongitudeMeters(tiles + 1, zoom)),
+				TileEdges.getLongitudeDegrees(tiles + 1, zoom), 0.0);
+
+	}
+
+}
@@ -0,0 +1,113 @@
+package mil.nga.grid.tile;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+
+import mil.nga.grid.GridUtils;
+
+/**
+ * Tile Key test
+ *
+ * @author osbornb
+ */
+public class TileKeyTest {
+
+	/**
+	 * Test packing and navigation
+	 */
+	@Test
+	public void testKey() {
+
+		TileKey key = TileKey.key(3, 5, 4);
+		assertEquals(3, key.getX());
+		assertEquals(5, key.getY());
+		assertEquals(4, key.getZoom());
+		assertEquals("4/3/5", key.toString());
+
+		TileKey max = TileKey.key((1 << TileKey.MAX_ZOOM) - 1, 0,
+				TileKey.MAX_ZOOM);
+		assertEquals((1 << TileKey.MAX_ZOOM) - 1, max.getX());
+		assertEquals(0, max.getY());
+		assertEquals(TileKey.MAX_ZOOM, max.getZoom());
+
+		assertEquals(TileKey.key(1, 2, 3), key.getParent());
+		assertNull(TileKey.key(0, 0, 0).getParent());
+
+		TileKey[] children = key.getChildren();
+		assertEquals(TileKey.key(6, 10, 5), children[0]);
+		assertEquals(TileKey.key(7, 10, 5), children[1]);
+		assertEquals(TileKey.key(6, 11, 5), children[2]);
+		assertEquals(TileKey.key(7, 11, 5), children[3]);
+		for (TileKey child : children) {
+			assertEquals(key, child.getParent());
+		}
+
+		assertEquals(TileKey.key(15, 5, 4), TileKey.key(0, 5, 4)
+				.getNeighbor(-1, 0));
+		assertNull(TileKey.key(0, 0, 4).getNeighbor(0, -1));
+
+		assertEquals(GridUtils.getBounds(3, 5, 4), key.getBounds());
+
+	}
+
+	/**
+	 * Test packed key validation
+	 */
+	@Test
+	public void testPackedKey() {
+
+		long packed = TileKey.pack(3, 5, 4);
+		assertTrue(TileKey.isValid(packed));
+		assertEquals(TileKey.key(3, 5, 4), TileKey.key(packed));
+
+		long[] invalid = new long[] { TileKey.pack(3, 5, 4) + (1L << 58) * 26,
+				TileKey.pack(0, 0, 4) | 16L, TileKey.pack(0, 0, 4) | (16L << 29),
+				TileKey.pack(0, 0, 0) | 1L, -1L, Long.MIN_VALUE };
+		for (long key : invalid) {
+			assertFalse(TileKey.isValid(key));
+			try {
+				TileKey.key(key);
+				fail("Expected invalid packed key: " + key);
+			} catch (IllegalArgumentException e) {
+				// expected
+			}
+		}
+
+	}
+
+	/**
+	 * Test quadkey encoding
+	 */
+	@Test
+	public void testQuadkey() {
+
+		TileKey key = TileKey.key(3, 5, 3);
+		assertEquals("213", key.toQuadkey());
+		assertEquals(key, TileKey.quadkey("213"));
+
+		assertEquals("", TileKey.key(0, 0, 0).toQuadkey());
+		assertEquals(TileKey.key(0, 0, 0), TileKey.quadkey(""));
+
+	}
+
+	/**
+	 * Test tiles per side saturation outside of the shift range
+	 */
+	@Test
+	public void testTilesPerSide() {
+
+		for (int zoom = -2; zoom <= 40; zoom++) {
+			assertEquals("zoom: " + zoom, (int) Math.pow(2, zoom),
+					TileKey.tilesPerSide(zoom));
+			assertEquals("zoom: " + zoom, (int) Math.pow(2, zoom),
+					GridUtils.tilesPerSide(zoom));
+		}
+
+	}
+
+}
@@ -0,0 +1,118 @@
+package mil.nga.grid.tile;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+
+import mil.nga.grid.GridUtils;
+import mil.nga.grid.features.Bounds;
+import mil.nga.grid.features.Point;
+import mil.nga.grid.features.Unit;
+
+/**
+ * Tile Transform test
+ *
+ * @author osbornb
+ */
+public class TileTransformTest {
+
+	/**
+	 * Test the cached tile transform against bounds pixel math
+	 */
+	@Test
+	public void testTransform() {
+
+		GridTile tile = GridTile.tile(512, 256, 3, 5, 4);
+		TileTransform transform = tile.getTransform();
+		assertSame(transform, tile.getTransform());
+		assertEquals(512, transform.getWidth());
+		assertEquals(256, transform.getHeight());
+
+		Bounds bounds = GridUtils.getBounds(3, 5, 4);
+		assertEquals(bounds.toMeters(), transform.getBoundsMeters());
+		assertEquals(bounds.toDegrees(), transform.getBoundsDegrees());
+		assertEquals(transform.getBoundsMeters(),
+				transform.getBounds(Unit.METER));
+		assertEquals(transform.getBoundsDegrees(),
+				transform.getBounds(Unit.DEGREE));
+		assertNotSame(transform.getBoundsMeters(),
+				transform.getBoundsMeters());
+		assertNotSame(tile.getBoundsDegrees(), tile.getBoundsDegrees());
+		transform.getBoundsMeters().setMinLongitude(0);
+		assertEquals(bounds.toMeters(), transform.getBoundsMeters());
+		assertEquals(bounds.toMeters().getMinLongitude(),
+				transform.getMinLongitude(Unit.METER), 0.0);
+		assertEquals(bounds.toDegrees().getMaxLatitude(),
+				transform.getMaxLatitude(Unit.DEGREE), 0.0);
+
+		Bounds degrees = bounds.toDegrees();
+		for (int i = 0; i <= 4; i++) {
+			double longitude = degrees.getMinLongitude()
+					+ degrees.getWidth() * i / 4.0;
+			double latitude = degrees.getMinLatitude()
+					+ degrees.getHeight() * i / 4.0;
+			Point point = Point.degrees(longitude, latitude);
+			Pixel expected = GridUtils.getPixel(512, 256, bounds, point);
+			Pixel pixel = transform.getPixel(point);
+			assertEquals(expected.getX(), pixel.getX(), 0.001);
+			assertEquals(expected.getY(), pixel.getY(), 0.001);
+			assertEquals(pixel.getX(), tile.getPixel(point).getX(), 0.0f);
+			assertEquals(pixel.getY(), tile.getPixel(point).getY(), 0.0f);
+		}
+
+		assertEquals(0.0f, transform.getXPixel(
+				transform.getBoundsMeters().getMinLongitude()), 0.0001);
+		assertEquals(512.0f, transform.getXPixel(
+				transform.getBoundsMeters().getMaxLongitude()), 0.0001);
+		assertEquals(0.0f, transform.getYPixel(
+				transform.getBoundsMeters().getMaxLatitude()), 0.0001);
+		assertEquals(256.0f, transform.getYPixel(
+				transform.getBoundsMeters().getMinLatitude()), 0.0001);
+
+	}
+
+	/**
+	 * Test batch pixel to coordinate conversions
+	 */
+	@Test
+	public void testCoordinates() {
+
+		TileTransform transform = GridTile.tile(256, 256, 1, 2, 3)
+				.getTransform();
+
+		float[] pixels = new float[] { 0.0f, 0.0f, 128.0f, 64.0f, 256.0f,
+				256.0f };
+		double[] longitudes = new double[3];
+		double[] latitudes = new double[3];
+		for (Unit unit : Unit.values()) {
+			transform.getCoordinates(pixels, unit, longitudes, latitudes);
+			for (int i = 0; i < 3; i++) {
+				Point point = transform.getPoint(pixels[2 * i],
+						pixels[2 * i + 1], unit);
+				assertEquals(point.getLongitude(), longitudes[i], 0.0);
+				assertEquals(point.getLatitude(), latitudes[i], 0.0);
+			}
+		}
+
+		try {
+			transform.getCoordinates(new float[] { 0.0f, 0.0f, 128.0f },
+					Unit.METER, longitudes, latitudes);
+			fail("Expected odd pixels length failure");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+
+		try {
+			transform.getCoordinates(pixels, Unit.METER, new double[2],
+					latitudes);
+			fail("Expected small longitudes array failure");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+
+	}
+
+}